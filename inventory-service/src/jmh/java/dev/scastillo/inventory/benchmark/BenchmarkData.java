@@ -0,0 +1,36 @@
+package dev.scastillo.inventory.benchmark;
+
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static ProductResponse productResponse() {
+        return ProductResponse.builder()
+                .id(42)
+                .name("Teclado mecánico")
+                .description("Teclado mecánico con switches rojos y retroiluminación")
+                .price(new BigDecimal("249900.00"))
+                .stock(87)
+                .build();
+    }
+
+    static PurchaseResponse purchaseResponse() {
+        return PurchaseResponse.builder()
+                .id(1_000_001L)
+                .productId(42)
+                .productName("Teclado mecánico")
+                .quantity(3)
+                .unitPrice(new BigDecimal("249900.00"))
+                .totalPrice(new BigDecimal("749700.00"))
+                .purchaseDate(OffsetDateTime.of(2025, 8, 1, 10, 30, 0, 0, ZoneOffset.ofHours(-5)))
+                .build();
+    }
+}
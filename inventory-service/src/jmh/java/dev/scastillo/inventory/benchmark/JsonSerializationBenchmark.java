@@ -0,0 +1,48 @@
+package dev.scastillo.inventory.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.scastillo.inventory.adapter.web.dto.ProductResponseDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseResponseDto;
+import dev.scastillo.inventory.adapter.web.mapper.ProductMapperImpl;
+import dev.scastillo.inventory.adapter.web.mapper.PurchaseMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+    private ObjectWriter purchaseWriter;
+    private ObjectWriter productWriter;
+    private PurchaseResponseDto purchase;
+    private ProductResponseDto product;
+
+    @Setup
+    public void setUp() {
+        // Misma configuracion base que usa Spring Boot para los controladores
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        purchaseWriter = objectMapper.writerFor(PurchaseResponseDto.class);
+        productWriter = objectMapper.writerFor(ProductResponseDto.class);
+        purchase = new PurchaseMapperImpl().toDto(BenchmarkData.purchaseResponse());
+        product = new ProductMapperImpl().toProductResponseDto(BenchmarkData.productResponse());
+    }
+
+    @Benchmark
+    public byte[] purchaseResponseDto() throws Exception {
+        return purchaseWriter.writeValueAsBytes(purchase);
+    }
+
+    @Benchmark
+    public byte[] productResponseDto() throws Exception {
+        return productWriter.writeValueAsBytes(product);
+    }
+}
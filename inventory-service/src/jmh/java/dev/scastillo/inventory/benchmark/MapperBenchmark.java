@@ -0,0 +1,45 @@
+package dev.scastillo.inventory.benchmark;
+
+import dev.scastillo.inventory.adapter.web.dto.ProductResponseDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseResponseDto;
+import dev.scastillo.inventory.adapter.web.mapper.ProductMapper;
+import dev.scastillo.inventory.adapter.web.mapper.ProductMapperImpl;
+import dev.scastillo.inventory.adapter.web.mapper.PurchaseMapper;
+import dev.scastillo.inventory.adapter.web.mapper.PurchaseMapperImpl;
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+    private final ProductMapper productMapper = new ProductMapperImpl();
+    private final PurchaseMapper purchaseMapper = new PurchaseMapperImpl();
+    private ProductResponse productResponse;
+    private PurchaseResponse purchaseResponse;
+
+    @Setup
+    public void setUp() {
+        productResponse = BenchmarkData.productResponse();
+        purchaseResponse = BenchmarkData.purchaseResponse();
+    }
+
+    @Benchmark
+    public ProductResponseDto productMapper() {
+        return productMapper.toProductResponseDto(productResponse);
+    }
+
+    @Benchmark
+    public PurchaseResponseDto purchaseMapper() {
+        return purchaseMapper.toDto(purchaseResponse);
+    }
+}
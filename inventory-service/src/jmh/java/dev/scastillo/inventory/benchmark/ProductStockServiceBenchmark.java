@@ -0,0 +1,61 @@
+package dev.scastillo.inventory.benchmark;
+
+import dev.scastillo.inventory.application.service.ProductStockServiceImpl;
+import dev.scastillo.inventory.benchmark.support.InMemoryProductServicePort;
+import dev.scastillo.inventory.benchmark.support.InMemoryProductStockRepository;
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.infraestructure.readmodel.ProductDetailReadModel;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductStockService;
+import dev.scastillo.inventory.infraestructure.reservation.DatabaseStockReservationAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductStockServiceBenchmark {
+    private static final int PRODUCTS = 1_000;
+
+    private ProductStockServiceImpl productStockService;
+    private ReadModelProductStockService readModelProductStockService;
+
+    @Setup
+    public void setUp() {
+        InMemoryProductStockRepository productStockRepository = new InMemoryProductStockRepository();
+        for (int id = 1; id <= PRODUCTS; id++) {
+            productStockRepository.save(ProductStock.builder().productId(id).quantity(100).build());
+        }
+        productStockService = new ProductStockServiceImpl(productStockRepository, new InMemoryProductServicePort(PRODUCTS),
+                new DatabaseStockReservationAdapter(productStockRepository), Runnable::run, TransactionOperations.withoutTransaction());
+        readModelProductStockService = new ReadModelProductStockService(productStockService, new ProductDetailReadModel(Duration.ofMinutes(5), PRODUCTS),
+                new SimpleMeterRegistry());
+        readModelProductStockService.warmUp();
+    }
+
+    @Benchmark
+    public ProductResponse getDetailProductById() {
+        return productStockService.getDetailProductById(ThreadLocalRandom.current().nextInt(PRODUCTS) + 1);
+    }
+
+    @Benchmark
+    public ProductResponse getDetailProductByIdAsync() {
+        return productStockService.getDetailProductByIdAsync(ThreadLocalRandom.current().nextInt(PRODUCTS) + 1).join();
+    }
+
+    @Benchmark
+    public ProductResponse getDetailProductByIdFromReadModel() {
+        return readModelProductStockService.getDetailProductByIdAsync(ThreadLocalRandom.current().nextInt(PRODUCTS) + 1).join();
+    }
+}
@@ -0,0 +1,52 @@
+package dev.scastillo.inventory.benchmark;
+
+import dev.scastillo.inventory.application.service.PurchaseServiceImpl;
+import dev.scastillo.inventory.benchmark.support.InMemoryProductServicePort;
+import dev.scastillo.inventory.benchmark.support.InMemoryProductStockRepository;
+import dev.scastillo.inventory.benchmark.support.InMemoryPurchaseRepository;
+import dev.scastillo.inventory.benchmark.support.InMemoryPurchaseRollupRepository;
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import dev.scastillo.inventory.infraestructure.reservation.DatabaseStockReservationAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PurchaseServiceBenchmark {
+    private static final int PRODUCTS = 1_000;
+
+    private InMemoryProductStockRepository productStockRepository;
+    private PurchaseServiceImpl purchaseService;
+
+    @Setup
+    public void setUp() {
+        productStockRepository = new InMemoryProductStockRepository();
+        purchaseService = new PurchaseServiceImpl(new InMemoryPurchaseRepository(), new InMemoryProductServicePort(PRODUCTS),
+                productStockRepository, new DatabaseStockReservationAdapter(productStockRepository),
+                TransactionOperations.withoutTransaction(), new InMemoryPurchaseRollupRepository());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStock() {
+        for (int id = 1; id <= PRODUCTS; id++) {
+            productStockRepository.save(ProductStock.builder().productId(id).quantity(Integer.MAX_VALUE).build());
+        }
+    }
+
+    @Benchmark
+    public PurchaseResponse createPurchase() {
+        return purchaseService.createPurchase(ThreadLocalRandom.current().nextInt(PRODUCTS) + 1, 1);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.scastillo.inventory.benchmark.support;
+
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryProductServicePort implements ProductServicePort {
+    private final Map<Integer, ExternalProductDto> products = new ConcurrentHashMap<>();
+
+    public InMemoryProductServicePort(int productCount) {
+        for (int id = 1; id <= productCount; id++) {
+            products.put(id, ExternalProductDto.builder()
+                    .id(id)
+                    .name("Producto " + id)
+                    .price(new BigDecimal("19.99"))
+                    .description("Producto de benchmark " + id)
+                    .build());
+        }
+    }
+
+    @Override
+    public Optional<ExternalProductDto> getProductById(Integer id) {
+        return Optional.ofNullable(products.get(id));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalProductDto>> getProductByIdAsync(Integer id) {
+        return CompletableFuture.completedFuture(getProductById(id));
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsByIds(Collection<Integer> ids) {
+        return ids.stream().map(products::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.scastillo.inventory.benchmark.support;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryProductStockRepository implements ProductStockRepository {
+    private final Map<Integer, ProductStock> stocks = new ConcurrentHashMap<>();
+
+    @Override
+    public ProductStock save(ProductStock productStock) {
+        stocks.put(productStock.getProductId(), productStock);
+        return productStock;
+    }
+
+    @Override
+    public Optional<ProductStock> findByProductId(Integer productId) {
+        return Optional.ofNullable(stocks.get(productId));
+    }
+
+    @Override
+    public List<ProductStock> findByProductIds(Collection<Integer> productIds) {
+        return productIds.stream()
+                .map(stocks::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<ProductStock> findPageAfterProductId(Integer afterProductId, int limit) {
+        return stocks.values().stream()
+                .filter(stock -> stock.getProductId() > afterProductId)
+                .sorted(Comparator.comparing(ProductStock::getProductId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public boolean decrementStock(Integer productId, Integer quantity) {
+        boolean[] decremented = new boolean[1];
+        stocks.computeIfPresent(productId, (id, stock) -> {
+            if (stock.getQuantity() >= quantity) {
+                stock.setQuantity(stock.getQuantity() - quantity);
+                decremented[0] = true;
+            }
+            return stock;
+        });
+        return decremented[0];
+    }
+
+    @Override
+    public void adjustStock(Integer productId, Integer delta) {
+        stocks.computeIfPresent(productId, (id, stock) -> {
+            stock.setQuantity(stock.getQuantity() + delta);
+            return stock;
+        });
+    }
+
+    @Override
+    public List<ProductStock> findAll() {
+        return new ArrayList<>(stocks.values());
+    }
+
+    @Override
+    public void deleteAll() {
+        stocks.clear();
+    }
+}
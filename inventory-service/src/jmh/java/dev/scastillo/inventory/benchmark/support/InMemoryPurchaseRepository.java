@@ -0,0 +1,104 @@
+package dev.scastillo.inventory.benchmark.support;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Conserva solo las ultimas compras para que una iteracion larga del benchmark no crezca sin limite.
+ */
+public class InMemoryPurchaseRepository implements PurchaseRepository {
+    private static final int CAPACITY = 10_000;
+
+    private final Map<Long, Purchase> purchases = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Optional<Purchase> findById(Long id) {
+        return Optional.ofNullable(purchases.get(id));
+    }
+
+    @Override
+    public Purchase save(Purchase purchase) {
+        long id = sequence.incrementAndGet();
+        purchase.setId(id);
+        purchase.setPurchaseDate(OffsetDateTime.now());
+        purchases.put(id, purchase);
+        purchases.remove(id - CAPACITY);
+        return purchase;
+    }
+
+    @Override
+    public List<Purchase> saveAll(List<Purchase> purchases) {
+        purchases.forEach(this::save);
+        return purchases;
+    }
+
+    @Override
+    public List<Purchase> findPendingStock(int limit) {
+        return purchases.values().stream()
+                .filter(purchase -> !purchase.getStockApplied())
+                .sorted(Comparator.comparing(Purchase::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<PurchaseSummary> findHistoryPage(Integer productId, OffsetDateTime afterDate, Long afterId,
+                                                 OffsetDateTime to, int limit) {
+        return purchases.values().stream()
+                .filter(purchase -> purchase.getProductId().equals(productId)
+                        && purchase.getPurchaseDate().isBefore(to)
+                        && (purchase.getPurchaseDate().isAfter(afterDate)
+                        || purchase.getPurchaseDate().isEqual(afterDate) && purchase.getId() > afterId))
+                .sorted(Comparator.comparing(Purchase::getPurchaseDate).thenComparing(Purchase::getId))
+                .limit(limit)
+                .map(purchase -> new PurchaseSummary(purchase.getId(), purchase.getProductId(), purchase.getQuantity(),
+                        purchase.getUnitPrice(), purchase.getTotalPrice(), purchase.getPurchaseDate()))
+                .toList();
+    }
+
+    @Override
+    public List<Purchase> findStockAppliedAfter(Long afterId, int limit) {
+        return purchases.values().stream()
+                .filter(purchase -> purchase.getStockApplied() && purchase.getId() > afterId)
+                .sorted(Comparator.comparing(Purchase::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long sumPendingStock(Integer productId) {
+        return purchases.values().stream()
+                .filter(purchase -> !purchase.getStockApplied() && purchase.getProductId().equals(productId))
+                .mapToLong(Purchase::getQuantity)
+                .sum();
+    }
+
+    @Override
+    public Map<Integer, Long> sumPendingStockByProduct() {
+        return purchases.values().stream()
+                .filter(purchase -> !purchase.getStockApplied())
+                .collect(Collectors.groupingBy(Purchase::getProductId, Collectors.summingLong(Purchase::getQuantity)));
+    }
+
+    @Override
+    public void markStockApplied(Collection<Long> ids) {
+        ids.forEach(id -> findById(id).ifPresent(purchase -> purchase.setStockApplied(true)));
+    }
+
+    @Override
+    public void deleteAll() {
+        purchases.clear();
+    }
+}
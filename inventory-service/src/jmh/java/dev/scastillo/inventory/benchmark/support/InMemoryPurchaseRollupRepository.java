@@ -0,0 +1,43 @@
+package dev.scastillo.inventory.benchmark.support;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryPurchaseRollupRepository implements PurchaseRollupRepository {
+    private final Map<PurchaseDailyRollup.Key, PurchaseDailyRollup> days = new ConcurrentHashMap<>();
+
+    @Override
+    public void addSales(Collection<Purchase> purchases) {
+        for (Purchase purchase : purchases) {
+            LocalDate salesDate = purchase.getPurchaseDate().toLocalDate();
+            days.merge(new PurchaseDailyRollup.Key(purchase.getProductId(), salesDate),
+                    new PurchaseDailyRollup(purchase.getProductId(), salesDate, (long) purchase.getQuantity(),
+                            purchase.getTotalPrice(), 1L),
+                    (current, added) -> new PurchaseDailyRollup(current.getProductId(), current.getSalesDate(),
+                            current.getUnits() + added.getUnits(), current.getRevenue().add(added.getRevenue()),
+                            current.getPurchases() + added.getPurchases()));
+        }
+    }
+
+    @Override
+    public List<PurchaseDailyRollup> findByProductId(Integer productId, LocalDate from, LocalDate to) {
+        return days.values().stream()
+                .filter(day -> day.getProductId().equals(productId)
+                        && !day.getSalesDate().isBefore(from) && !day.getSalesDate().isAfter(to))
+                .sorted(Comparator.comparing(PurchaseDailyRollup::getSalesDate))
+                .toList();
+    }
+
+    @Override
+    public void deleteAll() {
+        days.clear();
+    }
+}
@@ -7,6 +7,9 @@ import dev.scastillo.inventory.domain.service.ProductStockService;
 import lombok.AllArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/v1/inventory")
 @AllArgsConstructor
@@ -15,8 +18,23 @@ public class InventoryController {
     private final ProductMapper productMapper;
 
     @GetMapping("/products/{id}")
-    public ProductResponseDto getProductById(@PathVariable Integer id) {
-        return productMapper.toProductResponseDto(productStockService.getDetailProductById(id));
+    public CompletableFuture<ProductResponseDto> getProductById(@PathVariable Integer id) {
+        return productStockService.getDetailProductByIdAsync(id).thenApply(productMapper::toProductResponseDto);
+    }
+
+    @GetMapping(value = "/products", params = "ids")
+    public List<ProductResponseDto> getProductsByIds(@RequestParam List<Integer> ids) {
+        return productStockService.getDetailProductsByIds(ids).stream()
+                .map(productMapper::toProductResponseDto)
+                .toList();
+    }
+
+    @GetMapping(value = "/products", params = "limit")
+    public List<ProductResponseDto> getProductsPage(@RequestParam(required = false) Integer after,
+                                                    @RequestParam Integer limit) {
+        return productStockService.getDetailProductsPage(after, limit).stream()
+                .map(productMapper::toProductResponseDto)
+                .toList();
     }
 
     @PatchMapping("/products/{id}/stock")
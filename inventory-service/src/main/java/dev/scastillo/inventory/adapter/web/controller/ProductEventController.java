@@ -0,0 +1,24 @@
+package dev.scastillo.inventory.adapter.web.controller;
+
+import dev.scastillo.inventory.adapter.web.dto.ProductEventDto;
+import dev.scastillo.inventory.adapter.web.mapper.ProductEventMapper;
+import dev.scastillo.inventory.domain.service.ProductReplicationService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/product-events")
+@AllArgsConstructor
+public class ProductEventController {
+    private final ProductReplicationService productReplicationService;
+    private final ProductEventMapper productEventMapper;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void receiveEvents(@RequestBody List<ProductEventDto> events) {
+        productReplicationService.apply(productEventMapper.toReplicas(events));
+    }
+}
@@ -0,0 +1,24 @@
+package dev.scastillo.inventory.adapter.web.controller;
+
+import dev.scastillo.inventory.adapter.web.dto.ReadModelConsistencyDto;
+import dev.scastillo.inventory.adapter.web.mapper.ProductMapper;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductStockService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/inventory/read-model")
+@AllArgsConstructor
+@ConditionalOnExpression("${inventory.read-model.enabled:false} and ${product.replication.enabled:false}")
+public class ProductReadModelController {
+    private final ReadModelProductStockService readModelProductStockService;
+    private final ProductMapper productMapper;
+
+    @GetMapping("/consistency")
+    public ReadModelConsistencyDto checkConsistency() {
+        return productMapper.toReadModelConsistencyDto(readModelProductStockService.checkConsistency());
+    }
+}
@@ -1,12 +1,20 @@
 package dev.scastillo.inventory.adapter.web.controller;
 
+import dev.scastillo.inventory.adapter.web.dto.PurchaseBatchRequestDto;
 import dev.scastillo.inventory.adapter.web.dto.PurchaseCreateRequestDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseHistoryPageDto;
 import dev.scastillo.inventory.adapter.web.dto.PurchaseResponseDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseStatsDto;
 import dev.scastillo.inventory.adapter.web.mapper.PurchaseMapper;
 import dev.scastillo.inventory.domain.service.PurchaseService;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/purchases")
 @AllArgsConstructor
@@ -18,6 +26,29 @@ public class PurchaseController {
     public PurchaseResponseDto createPurchase(@RequestBody PurchaseCreateRequestDto request){
         return purchaseMapper.toDto(purchaseService.createPurchase(request.getProductId(), request.getQuantity()));
     }
+    @PostMapping("/batch")
+    public List<PurchaseResponseDto> createPurchases(@RequestBody PurchaseBatchRequestDto request) {
+        return purchaseMapper.toDtoList(purchaseService.createPurchases(purchaseMapper.toLines(request.getItems())));
+    }
+
+    @GetMapping(params = "productId")
+    public PurchaseHistoryPageDto getPurchaseHistory(
+            @RequestParam Integer productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return purchaseMapper.toDto(purchaseService.getPurchaseHistory(productId, from, to, after, limit));
+    }
+
+    @GetMapping("/stats")
+    public PurchaseStatsDto getPurchaseStats(
+            @RequestParam Integer productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return purchaseMapper.toDto(purchaseService.getPurchaseStats(productId, from, to));
+    }
+
     @GetMapping("/{id}")
     public PurchaseResponseDto getPurchaseById(@PathVariable Integer id) {
         return purchaseMapper.toDto(purchaseService.getPurchaseById(id.longValue()));
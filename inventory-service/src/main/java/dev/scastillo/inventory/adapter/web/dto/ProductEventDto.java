@@ -0,0 +1,21 @@
+package dev.scastillo.inventory.adapter.web.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductEventDto {
+    private Long eventId;
+    private String type;
+    private Integer productId;
+    private String name;
+    private BigDecimal price;
+    private String description;
+    private OffsetDateTime updatedAt;
+}
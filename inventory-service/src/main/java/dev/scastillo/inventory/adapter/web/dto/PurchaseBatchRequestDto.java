@@ -0,0 +1,14 @@
+package dev.scastillo.inventory.adapter.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseBatchRequestDto {
+    private List<PurchaseCreateRequestDto> items;
+}
@@ -0,0 +1,18 @@
+package dev.scastillo.inventory.adapter.web.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseDailySalesDto {
+    private LocalDate salesDate;
+    private Long units;
+    private BigDecimal revenue;
+    private Long purchases;
+}
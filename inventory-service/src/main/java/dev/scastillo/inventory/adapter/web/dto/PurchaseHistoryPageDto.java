@@ -0,0 +1,15 @@
+package dev.scastillo.inventory.adapter.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseHistoryPageDto {
+    private List<PurchaseSummaryDto> items;
+    private String next;
+}
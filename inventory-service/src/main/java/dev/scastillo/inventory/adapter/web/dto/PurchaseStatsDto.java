@@ -0,0 +1,22 @@
+package dev.scastillo.inventory.adapter.web.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseStatsDto {
+    private Integer productId;
+    private LocalDate from;
+    private LocalDate to;
+    private Long units;
+    private BigDecimal revenue;
+    private Long purchases;
+    private List<PurchaseDailySalesDto> days;
+}
@@ -0,0 +1,16 @@
+package dev.scastillo.inventory.adapter.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReadModelConsistencyDto {
+    private Integer checked;
+    private Integer mismatched;
+    private List<Integer> productIds;
+}
@@ -0,0 +1,12 @@
+package dev.scastillo.inventory.adapter.web.mapper;
+
+import dev.scastillo.inventory.adapter.web.dto.ProductEventDto;
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ProductEventMapper {
+    List<ProductReplica> toReplicas(List<ProductEventDto> events);
+}
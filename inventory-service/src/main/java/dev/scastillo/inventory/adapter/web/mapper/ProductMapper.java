@@ -1,11 +1,14 @@
 package dev.scastillo.inventory.adapter.web.mapper;
 
 import dev.scastillo.inventory.adapter.web.dto.ProductResponseDto;
+import dev.scastillo.inventory.adapter.web.dto.ReadModelConsistencyDto;
 import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.domain.service.dto.ReadModelConsistency;
 import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
     ProductResponseDto toProductResponseDto(ProductResponse productResponse);
+    ReadModelConsistencyDto toReadModelConsistencyDto(ReadModelConsistency readModelConsistency);
 }
 
@@ -1,10 +1,25 @@
 package dev.scastillo.inventory.adapter.web.mapper;
 
+import dev.scastillo.inventory.adapter.web.dto.PurchaseCreateRequestDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseDailySalesDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseHistoryPageDto;
 import dev.scastillo.inventory.adapter.web.dto.PurchaseResponseDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseStatsDto;
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import dev.scastillo.inventory.domain.service.dto.PurchaseHistoryPage;
+import dev.scastillo.inventory.domain.service.dto.PurchaseLine;
 import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseStats;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface PurchaseMapper {
     PurchaseResponseDto toDto (PurchaseResponse purchaseResponse);
+    List<PurchaseResponseDto> toDtoList(List<PurchaseResponse> purchaseResponses);
+    List<PurchaseLine> toLines(List<PurchaseCreateRequestDto> items);
+    PurchaseHistoryPageDto toDto(PurchaseHistoryPage purchaseHistoryPage);
+    PurchaseStatsDto toDto(PurchaseStats purchaseStats);
+    PurchaseDailySalesDto toDto(PurchaseDailyRollup purchaseDailyRollup);
 }
@@ -0,0 +1,69 @@
+package dev.scastillo.inventory.application.service;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import dev.scastillo.inventory.domain.service.ProductReplicationService;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class ProductReplicationServiceImpl implements ProductReplicationService {
+    private final ProductReplicaRepository productReplicaRepository;
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Aplica los eventos recibidos y retorna cuantos productos cambiaron. Es idempotente: los eventos
+     * repetidos o que llegan despues de uno mas reciente del mismo producto no modifican la copia.
+     */
+    @Override
+    public int apply(List<ProductReplica> replicas) {
+        Map<Integer, ProductReplica> latest = new LinkedHashMap<>();
+        for (ProductReplica replica : replicas) {
+            latest.merge(replica.getProductId(), replica, (current, incoming) -> isNewer(incoming, current) ? incoming : current);
+        }
+        if (latest.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return transactionOperations.execute(status -> applyLatest(latest));
+        } catch (DataIntegrityViolationException e) {
+            // Otra entrega inserto a la vez el mismo producto: se vuelve a aplicar comparando con esa copia
+            return transactionOperations.execute(status -> applyLatest(latest));
+        }
+    }
+
+    private int applyLatest(Map<Integer, ProductReplica> latest) {
+        Map<Integer, ProductReplica> existing = productReplicaRepository.findAllById(latest.keySet()).stream()
+                .collect(Collectors.toMap(ProductReplica::getProductId, Function.identity()));
+        List<ProductReplica> changed = new ArrayList<>();
+        for (ProductReplica incoming : latest.values()) {
+            ProductReplica current = existing.get(incoming.getProductId());
+            if (current == null) {
+                changed.add(incoming);
+            } else if (isNewer(incoming, current)) {
+                current.setName(incoming.getName());
+                current.setPrice(incoming.getPrice());
+                current.setDescription(incoming.getDescription());
+                current.setUpdatedAt(incoming.getUpdatedAt());
+                changed.add(current);
+            }
+        }
+        productReplicaRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    private static boolean isNewer(ProductReplica incoming, ProductReplica current) {
+        return incoming.getUpdatedAt().isAfter(current.getUpdatedAt());
+    }
+}
@@ -4,48 +4,148 @@ import dev.scastillo.inventory.domain.model.ProductStock;
 import dev.scastillo.inventory.domain.repository.ProductStockRepository;
 import dev.scastillo.inventory.domain.service.ProductServicePort;
 import dev.scastillo.inventory.domain.service.ProductStockService;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
 import dev.scastillo.inventory.domain.service.dto.ProductResponse;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.BadRequestException;
 import dev.scastillo.inventory.shared.exception.NotFoundException;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Service
-@AllArgsConstructor
 public class ProductStockServiceImpl implements ProductStockService {
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ProductStockRepository productStockRepository;
     private final ProductServicePort productServicePort;
+    private final StockReservationPort stockReservationPort;
+    private final Executor inventoryIoExecutor;
+    private final TransactionOperations transactionOperations;
+
+    public ProductStockServiceImpl(ProductStockRepository productStockRepository,
+                                   ProductServicePort productServicePort,
+                                   StockReservationPort stockReservationPort,
+                                   @Qualifier("inventoryIoExecutor") Executor inventoryIoExecutor,
+                                   TransactionOperations transactionOperations) {
+        this.productStockRepository = productStockRepository;
+        this.productServicePort = productServicePort;
+        this.stockReservationPort = stockReservationPort;
+        this.inventoryIoExecutor = inventoryIoExecutor;
+        this.transactionOperations = transactionOperations;
+    }
 
     @Override
     public ProductResponse getDetailProductById(Integer productId) {
+        // La lectura de stock corre en el pool acotado mientras este hilo espera a product-service
+        CompletableFuture<Integer> stock = CompletableFuture.supplyAsync(() -> findStockQuantity(productId), inventoryIoExecutor);
         ExternalProductDto externalProduct = getProductById(productId);
-        Integer stockQuantity = productStockRepository.findByProductId(productId)
-                .map(ProductStock::getQuantity)
-                .orElse(0);
-        return mapToProductResponse(stockQuantity, externalProduct);
+        return mapToProductResponse(join(stock), externalProduct);
+    }
+
+    @Override
+    public CompletableFuture<ProductResponse> getDetailProductByIdAsync(Integer productId) {
+        // La consulta a product-service no ocupa hilos mientras espera; la lectura de stock (JPA) va al pool acotado
+        CompletableFuture<ExternalProductDto> product = productServicePort.getProductByIdAsync(productId)
+                .thenApply(found -> found.orElseThrow(() -> new NotFoundException("Producto no encontrado id: " + productId)));
+        CompletableFuture<Integer> stock = CompletableFuture.supplyAsync(() -> findStockQuantity(productId), inventoryIoExecutor);
+        return product.thenCombine(stock, (externalProduct, stockQuantity) -> mapToProductResponse(stockQuantity, externalProduct));
+    }
+
+    @Override
+    public List<ProductResponse> getDetailProductsByIds(Collection<Integer> productIds) {
+        List<Integer> ids = List.copyOf(new LinkedHashSet<>(productIds));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("No se pueden consultar más de " + MAX_BATCH_SIZE + " productos por solicitud");
+        }
+        // Un solo IN sobre product_stock en el pool acotado mientras se hace una sola consulta por lote a product-service
+        CompletableFuture<Map<Integer, Integer>> stocks = CompletableFuture.supplyAsync(
+                () -> productStockRepository.findByProductIds(ids).stream()
+                        .collect(Collectors.toMap(ProductStock::getProductId, ProductStock::getQuantity)),
+                inventoryIoExecutor);
+        Map<Integer, ExternalProductDto> products = getProductsByIds(ids);
+        Map<Integer, Integer> stockByProduct = join(stocks);
+
+        // Se respeta el orden pedido; los productos que product-service no conoce se omiten
+        return ids.stream()
+                .filter(products::containsKey)
+                .map(id -> mapToProductResponse(stockByProduct.getOrDefault(id, 0), products.get(id)))
+                .toList();
+    }
+
+    @Override
+    public List<ProductResponse> getDetailProductsPage(Integer afterProductId, Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("El parámetro limit debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        List<ProductStock> page = productStockRepository.findPageAfterProductId(afterProductId == null ? 0 : afterProductId, limit);
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, ExternalProductDto> products = getProductsByIds(page.stream().map(ProductStock::getProductId).toList());
+        return page.stream()
+                .filter(stock -> products.containsKey(stock.getProductId()))
+                .map(stock -> mapToProductResponse(stock.getQuantity(), products.get(stock.getProductId())))
+                .toList();
     }
 
     @Override
     public ProductResponse updateProductStock(Integer productId, Integer stock) {
         ExternalProductDto externalProduct = getProductById(productId);
 
-        ProductStock productStock = productStockRepository.findByProductId(productId)
-                .orElseGet(() -> {
-                    ProductStock newProductStock = new ProductStock();
-                    newProductStock.setProductId(externalProduct.getId());
-                    return newProductStock;
-                });
+        // Se lee despues de aplicar las compras pendientes para que la diferencia con la cantidad nueva sea exacta;
+        // lectura y guardado van en la misma transaccion, asi el save no vuelve a consultar la fila
+        stockReservationPort.runStockUpdate(productId, () -> transactionOperations.execute(status -> {
+            ProductStock productStock = productStockRepository.findByProductId(productId)
+                    .orElseGet(() -> {
+                        ProductStock newProductStock = new ProductStock();
+                        newProductStock.setProductId(externalProduct.getId());
+                        newProductStock.setQuantity(0);
+                        return newProductStock;
+                    });
 
-        productStock.setQuantity(stock);
-        productStockRepository.save(productStock);
+            int previous = productStock.getQuantity();
+            productStock.setQuantity(stock);
+            productStockRepository.save(productStock);
+            return stock - previous;
+        }));
 
         return mapToProductResponse(stock, externalProduct);
     }
 
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Integer findStockQuantity(Integer productId) {
+        return productStockRepository.findByProductId(productId)
+                .map(ProductStock::getQuantity)
+                .orElse(0);
+    }
+
     private ProductResponse mapToProductResponse(Integer stockQuantity, ExternalProductDto productDto) {
         return ProductResponse.builder()
                 .id(productDto.getId())
@@ -56,6 +156,14 @@ public class ProductStockServiceImpl implements ProductStockService {
                 .build();
     }
 
+    private Map<Integer, ExternalProductDto> getProductsByIds(List<Integer> productIds) {
+        Map<Integer, ExternalProductDto> products = new HashMap<>();
+        for (ExternalProductDto product : productServicePort.getProductsByIds(productIds)) {
+            products.put(product.getId(), product);
+        }
+        return products;
+    }
+
     private ExternalProductDto getProductById(Integer productId) {
         return productServicePort.getProductById(productId)
                 .orElseThrow(() -> new NotFoundException( "Producto no encontrado id: " + productId));
@@ -2,48 +2,93 @@ package dev.scastillo.inventory.application.service;
 
 import dev.scastillo.inventory.domain.model.ProductStock;
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
 import dev.scastillo.inventory.domain.repository.ProductStockRepository;
 import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
 import dev.scastillo.inventory.domain.service.ProductServicePort;
 import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
+import dev.scastillo.inventory.domain.service.dto.PurchaseHistoryPage;
+import dev.scastillo.inventory.domain.service.dto.PurchaseLine;
 import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseStats;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.BadRequestException;
 import dev.scastillo.inventory.shared.exception.ConflictException;
 import dev.scastillo.inventory.shared.exception.NotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @AllArgsConstructor
 public class PurchaseServiceImpl implements PurchaseService {
+    private static final int MAX_BATCH_LINES = 100;
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
+    private static final OffsetDateTime HISTORY_START = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime HISTORY_END = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final int MAX_STATS_DAYS = 366;
+
     private final PurchaseRepository purchaseRepository;
     private final ProductServicePort productServicePort;
     private final ProductStockRepository productStockRepository;
+    private final StockReservationPort stockReservationPort;
+    private final TransactionOperations transactionOperations;
+    private final PurchaseRollupRepository purchaseRollupRepository;
 
     @Override
     public PurchaseResponse createPurchase(Integer productId, Integer quantity) {
+        validateQuantity(quantity);
         ExternalProductDto product = getProductById(productId);
-        ProductStock productStock = getProductStockByProductId(productId);
 
-        if (productStock.getQuantity() < quantity) {
-            throw new ConflictException("Stock insuficiente para el producto con id: " + productId);
-        }
+        // La consulta al product-service queda fuera de la transaccion para no retener la conexion durante la llamada HTTP
+        stockReservationPort.preload(List.of(productId));
+        Purchase savedPurchase = transactionOperations.execute(status -> reserveAndSave(product, productId, quantity));
 
-        Purchase purchase = Purchase.builder()
-                .productId(productId)
-                .quantity(quantity)
-                .unitPrice(product.getPrice())
-                .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
-                .build();
+        return buildPurchaseResponse(savedPurchase, product.getName());
+    }
 
-        Purchase savedPurchase = purchaseRepository.save(purchase);
+    @Override
+    public List<PurchaseResponse> createPurchases(List<PurchaseLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new BadRequestException("La compra debe tener al menos un item");
+        }
+        if (lines.size() > MAX_BATCH_LINES) {
+            throw new BadRequestException("La compra no puede tener mas de " + MAX_BATCH_LINES + " items");
+        }
+        for (PurchaseLine line : lines) {
+            if (line.getProductId() == null) {
+                throw new BadRequestException("El id del producto es obligatorio");
+            }
+            validateQuantity(line.getQuantity());
+        }
+        Map<Integer, ExternalProductDto> products = getProductsByIds(lines);
+        stockReservationPort.preload(products.keySet());
 
-        productStock.setQuantity(productStock.getQuantity() - quantity);
-        productStockRepository.save(productStock);
+        List<Purchase> savedPurchases = transactionOperations.execute(status -> reserveAndSaveAll(lines, products));
 
-        return buildPurchaseResponse(savedPurchase, product.getName());
+        List<PurchaseResponse> responses = new ArrayList<>(savedPurchases.size());
+        for (Purchase purchase : savedPurchases) {
+            responses.add(buildPurchaseResponse(purchase, products.get(purchase.getProductId()).getName()));
+        }
+        return responses;
     }
 
     @Override
@@ -56,12 +101,150 @@ public class PurchaseServiceImpl implements PurchaseService {
                 .orElseThrow(() -> new NotFoundException("No fue encontrada la compra con Id: " + id));
     }
 
+    @Override
+    public PurchaseHistoryPage getPurchaseHistory(Integer productId, OffsetDateTime from, OffsetDateTime to,
+                                                  String after, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_HISTORY_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_HISTORY_PAGE_SIZE) {
+            throw new BadRequestException("El parámetro limit debe estar entre 1 y " + MAX_HISTORY_PAGE_SIZE);
+        }
+        OffsetDateTime start = from == null ? HISTORY_START : from;
+        OffsetDateTime end = to == null ? HISTORY_END : to;
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("El parámetro from debe ser anterior a to");
+        }
+
+        // Sin cursor se empieza en from (inclusivo): ningun id es menor que 0
+        HistoryCursor cursor = after == null ? new HistoryCursor(start, 0L) : HistoryCursor.decode(after);
+        // Se pide una fila de mas para saber si existe una pagina siguiente
+        List<PurchaseSummary> rows = purchaseRepository.findHistoryPage(productId, cursor.purchaseDate(), cursor.id(),
+                end, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return PurchaseHistoryPage.builder().items(rows).build();
+        }
+        List<PurchaseSummary> items = rows.subList(0, pageSize);
+        return PurchaseHistoryPage.builder()
+                .items(items)
+                .next(HistoryCursor.encode(items.get(pageSize - 1)))
+                .build();
+    }
+
+    @Override
+    public PurchaseStats getPurchaseStats(Integer productId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("El parámetro from no puede ser posterior a to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_STATS_DAYS) {
+            throw new BadRequestException("El rango de fechas no puede superar " + MAX_STATS_DAYS + " días");
+        }
+
+        List<PurchaseDailyRollup> days = purchaseRollupRepository.findByProductId(productId, from, to);
+        long units = 0;
+        long purchases = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (PurchaseDailyRollup day : days) {
+            units += day.getUnits();
+            purchases += day.getPurchases();
+            revenue = revenue.add(day.getRevenue());
+        }
+        return PurchaseStats.builder()
+                .productId(productId)
+                .from(from)
+                .to(to)
+                .units(units)
+                .revenue(revenue)
+                .purchases(purchases)
+                .days(days)
+                .build();
+    }
+
+
+    private Purchase reserveAndSave(ExternalProductDto product, Integer productId, Integer quantity) {
+        if (!stockReservationPort.tryReserve(productId, quantity)) {
+            getProductStockByProductId(productId);
+            throw new ConflictException("Stock insuficiente para el producto con id: " + productId);
+        }
+
+        // Si la transaccion se revierte, tambien al confirmar los inserts en lote, la reserva la devuelve el puerto
+        Purchase savedPurchase = purchaseRepository.save(buildPurchase(productId, product, quantity));
+        recordSales(List.of(savedPurchase));
+        return savedPurchase;
+    }
+
+    private List<Purchase> reserveAndSaveAll(List<PurchaseLine> lines, Map<Integer, ExternalProductDto> products) {
+        // Se reserva agrupado por producto y en orden de id para que compras concurrentes bloqueen las filas de stock en el mismo orden
+        Map<Integer, Integer> quantities = new TreeMap<>();
+        for (PurchaseLine line : lines) {
+            try {
+                quantities.merge(line.getProductId(), line.getQuantity(), Math::addExact);
+            } catch (ArithmeticException e) {
+                throw new BadRequestException("La cantidad total del producto con id " + line.getProductId()
+                        + " supera el maximo permitido");
+            }
+        }
+
+        // Una linea sin stock revierte la transaccion y el puerto devuelve las reservas ya hechas
+        for (Map.Entry<Integer, Integer> entry : quantities.entrySet()) {
+            if (!stockReservationPort.tryReserve(entry.getKey(), entry.getValue())) {
+                getProductStockByProductId(entry.getKey());
+                throw new ConflictException("Stock insuficiente para el producto con id: " + entry.getKey());
+            }
+        }
+
+        List<Purchase> purchases = new ArrayList<>(lines.size());
+        for (PurchaseLine line : lines) {
+            purchases.add(buildPurchase(line.getProductId(), products.get(line.getProductId()), line.getQuantity()));
+        }
+        List<Purchase> savedPurchases = purchaseRepository.saveAll(purchases);
+        recordSales(savedPurchases);
+        return savedPurchases;
+    }
+
+    private void recordSales(List<Purchase> purchases) {
+        // Con reserva diferida las ventas se suman al aplicar el stock, para no bloquear la fila del dia en cada compra
+        if (!stockReservationPort.isDeferred()) {
+            purchaseRollupRepository.addSales(purchases);
+        }
+    }
+
+    private Purchase buildPurchase(Integer productId, ExternalProductDto product, Integer quantity) {
+        return Purchase.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .unitPrice(product.getPrice())
+                .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .stockApplied(!stockReservationPort.isDeferred())
+                .build();
+    }
+
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BadRequestException("La cantidad debe ser mayor a cero");
+        }
+    }
 
     private ExternalProductDto getProductById(Integer productId) {
         return productServicePort.getProductById(productId)
                 .orElseThrow(() -> new NotFoundException("No fue encontrado el producto con id: " + productId));
     }
 
+    private Map<Integer, ExternalProductDto> getProductsByIds(List<PurchaseLine> lines) {
+        Set<Integer> productIds = new LinkedHashSet<>();
+        for (PurchaseLine line : lines) {
+            productIds.add(line.getProductId());
+        }
+        Map<Integer, ExternalProductDto> products = new HashMap<>();
+        for (ExternalProductDto product : productServicePort.getProductsByIds(productIds)) {
+            products.put(product.getId(), product);
+        }
+        for (Integer productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new NotFoundException("No fue encontrado el producto con id: " + productId);
+            }
+        }
+        return products;
+    }
+
     private ProductStock getProductStockByProductId(Integer productId) {
         return productStockRepository.findByProductId(productId)
                 .orElseThrow(() -> new NotFoundException("No fue encontrado el Stock del producto con id: " + productId));
@@ -78,4 +261,25 @@ public class PurchaseServiceImpl implements PurchaseService {
                 .purchaseDate(purchase.getPurchaseDate())
                 .build();
     }
+
+    /**
+     * Posicion en el historial: fecha de compra (en microsegundos desde epoch) e id de la ultima compra entregada.
+     */
+    private record HistoryCursor(OffsetDateTime purchaseDate, Long id) {
+
+        private static String encode(PurchaseSummary purchase) {
+            return ChronoUnit.MICROS.between(Instant.EPOCH, purchase.getPurchaseDate().toInstant()) + "_" + purchase.getId();
+        }
+
+        private static HistoryCursor decode(String value) {
+            int separator = value.indexOf('_');
+            try {
+                long micros = Long.parseLong(value.substring(0, separator));
+                long id = Long.parseLong(value.substring(separator + 1));
+                return new HistoryCursor(OffsetDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC), id);
+            } catch (RuntimeException e) {
+                throw new BadRequestException("El cursor after no es válido: " + value);
+            }
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package dev.scastillo.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Ejecutor para las consultas bloqueantes (JPA) que se ejecutan en paralelo con las llamadas a product-service.
+ * Su limite por defecto coincide con el pool de conexiones de Hikari: mas hilos solo esperarian una conexion.
+ */
+@Configuration
+public class InventoryIoExecutorConfig {
+
+    @Value("${inventory.io.pool-size:10}")
+    private int poolSize;
+
+    @Value("${inventory.io.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Bean(name = "inventoryIoExecutor")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor platformIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("inventory-io-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Con hilos virtuales cada consulta tiene su propio hilo; el limite de concurrencia evita pedir mas conexiones
+     * de las que tiene Hikari. Al alcanzarlo, el hilo de la solicitud espera en lugar de encolar la tarea.
+     */
+    @Bean(name = "inventoryIoExecutor")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public SimpleAsyncTaskExecutor virtualIoExecutor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("inventory-io-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maximumPoolSize);
+        executor.setTaskTerminationTimeout(10_000);
+        return executor;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.scastillo.inventory.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.rest.CachedProductServiceAdapter;
+import dev.scastillo.inventory.infraestructure.rest.ProductCacheExpiry;
+import dev.scastillo.inventory.infraestructure.rest.ProductServiceAdapter;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Configuration
+// Con la replica activa los productos ya se leen localmente y el cache no aporta
+@ConditionalOnExpression("${product.cache.enabled:false} and !${product.replication.enabled:false}")
+public class ProductCacheConfig {
+
+    @Value("${product.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${product.cache.ttl:5m}")
+    private Duration ttl;
+
+    @Value("${product.cache.negative-ttl:30s}")
+    private Duration negativeTtl;
+
+    @Bean
+    public Cache<Integer, Optional<ExternalProductDto>> productCache(MeterRegistry meterRegistry) {
+        Cache<Integer, Optional<ExternalProductDto>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ProductCacheExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-cache");
+    }
+
+    @Bean
+    @Primary
+    public ProductServicePort cachedProductServicePort(ProductServiceAdapter productServiceAdapter,
+                                                       Cache<Integer, Optional<ExternalProductDto>> productCache) {
+        return new CachedProductServiceAdapter(productServiceAdapter, productCache);
+    }
+}
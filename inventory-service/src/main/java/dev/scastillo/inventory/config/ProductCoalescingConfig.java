@@ -0,0 +1,27 @@
+package dev.scastillo.inventory.config;
+
+import dev.scastillo.inventory.infraestructure.rest.ProductLookupCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ProductCoalescingConfig {
+
+    @Value("${product.coalescing.batch.enabled:false}")
+    private boolean batchingEnabled;
+
+    @Value("${product.coalescing.batch.window:2ms}")
+    private Duration batchWindow;
+
+    @Value("${product.coalescing.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Bean(destroyMethod = "close")
+    public ProductLookupCoalescer productLookupCoalescer(MeterRegistry meterRegistry) {
+        return new ProductLookupCoalescer(batchingEnabled, batchWindow, batchMaxSize, meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.scastillo.inventory.config;
+
+import dev.scastillo.inventory.application.service.ProductReplicationServiceImpl;
+import dev.scastillo.inventory.application.service.ProductStockServiceImpl;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.service.ProductReplicationService;
+import dev.scastillo.inventory.domain.service.ProductStockService;
+import dev.scastillo.inventory.infraestructure.readmodel.ProductDetailReadModel;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductReplicationService;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductStockRepository;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductStockService;
+import dev.scastillo.inventory.infraestructure.repository.JpaProductStockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+// Los cambios de producto solo llegan como eventos a la replica; sin ella el modelo no se enteraria de ellos
+@ConditionalOnExpression("${inventory.read-model.enabled:false} and ${product.replication.enabled:false}")
+public class ProductReadModelConfig {
+
+    @Value("${inventory.read-model.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${inventory.read-model.maximum-size:100000}")
+    private long maximumSize;
+
+    @Bean
+    public ProductDetailReadModel productDetailReadModel() {
+        return new ProductDetailReadModel(ttl, maximumSize);
+    }
+
+    @Bean
+    @Primary
+    public ProductStockRepository readModelProductStockRepository(JpaProductStockRepository jpaProductStockRepository,
+                                                                  ProductDetailReadModel productDetailReadModel) {
+        return new ReadModelProductStockRepository(jpaProductStockRepository, productDetailReadModel);
+    }
+
+    @Bean
+    @Primary
+    public ProductReplicationService readModelProductReplicationService(ProductReplicationServiceImpl productReplicationService,
+                                                                        ProductDetailReadModel productDetailReadModel) {
+        return new ReadModelProductReplicationService(productReplicationService, productDetailReadModel);
+    }
+
+    @Bean
+    @Primary
+    public ReadModelProductStockService readModelProductStockService(ProductStockServiceImpl productStockService,
+                                                                     ProductDetailReadModel productDetailReadModel,
+                                                                     MeterRegistry meterRegistry) {
+        return new ReadModelProductStockService(productStockService, productDetailReadModel, meterRegistry);
+    }
+}
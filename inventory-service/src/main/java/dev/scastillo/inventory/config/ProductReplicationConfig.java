@@ -0,0 +1,28 @@
+package dev.scastillo.inventory.config;
+
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.replica.ReplicatedProductServiceAdapter;
+import dev.scastillo.inventory.infraestructure.rest.ProductServiceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(name = "product.replication.enabled", havingValue = "true")
+public class ProductReplicationConfig {
+
+    @Value("${product.replication.remote-fallback:true}")
+    private boolean remoteFallback;
+
+    @Bean
+    @Primary
+    public ProductServicePort replicatedProductServicePort(ProductReplicaRepository productReplicaRepository,
+                                                           ProductServiceAdapter productServiceAdapter,
+                                                           MeterRegistry meterRegistry) {
+        return new ReplicatedProductServiceAdapter(productReplicaRepository, productServiceAdapter, remoteFallback, meterRegistry);
+    }
+}
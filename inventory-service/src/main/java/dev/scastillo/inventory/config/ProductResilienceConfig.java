@@ -0,0 +1,144 @@
+package dev.scastillo.inventory.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.scastillo.inventory.infraestructure.rest.ProductClientResilience;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class ProductResilienceConfig {
+    private static final String PRODUCT_SERVICE = "product-service";
+
+    @Value("${product.resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${product.resilience.circuit-breaker.slow-call-duration:2s}")
+    private Duration slowCallDuration;
+
+    @Value("${product.resilience.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${product.resilience.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${product.resilience.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${product.resilience.circuit-breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    @Value("${product.resilience.circuit-breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    @Value("${product.resilience.bulkhead.max-concurrent-calls:50}")
+    private int maxConcurrentCalls;
+
+    @Value("${product.resilience.bulkhead.max-wait:0ms}")
+    private Duration bulkheadMaxWait;
+
+    @Value("${product.resilience.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${product.resilience.retry.initial-backoff:100ms}")
+    private Duration initialBackoff;
+
+    @Value("${product.resilience.retry.jitter:0.5}")
+    private double jitter;
+
+    @Value("${product.resilience.fallback.enabled:false}")
+    private boolean fallbackEnabled;
+
+    @Value("${product.resilience.fallback.maximum-size:10000}")
+    private long fallbackMaximumSize;
+
+    @Value("${product.resilience.fallback.max-age:1h}")
+    private Duration fallbackMaxAge;
+
+    @Bean
+    public CircuitBreaker productCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(ProductClientResilience::isDependencyFailure)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(PRODUCT_SERVICE);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry.counter(
+                "product.client.circuitbreaker.transitions",
+                "from", event.getStateTransition().getFromState().name(),
+                "to", event.getStateTransition().getToState().name()).increment());
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead productBulkhead(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(bulkheadMaxWait)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        Bulkhead bulkhead = registry.bulkhead(PRODUCT_SERVICE);
+        Counter rejected = meterRegistry.counter("product.client.bulkhead.rejected");
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        return bulkhead;
+    }
+
+    @Bean
+    public Retry productRetry(MeterRegistry meterRegistry) {
+        // Todas las llamadas a product-service son GET, por lo que reintentar es seguro
+        RetryRegistry registry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialBackoff, 2.0, jitter))
+                .retryOnException(ProductClientResilience::isDependencyFailure)
+                .build());
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry.retry(PRODUCT_SERVICE);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService productRetryScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("product-retry").daemon().factory());
+    }
+
+    @Bean
+    public ProductClientResilience productClientResilience(CircuitBreaker productCircuitBreaker,
+                                                           Bulkhead productBulkhead,
+                                                           Retry productRetry,
+                                                           ScheduledExecutorService productRetryScheduler,
+                                                           MeterRegistry meterRegistry) {
+        Cache<Integer, ExternalProductDto> lastKnownProducts = fallbackEnabled
+                ? Caffeine.newBuilder().maximumSize(fallbackMaximumSize).expireAfterWrite(fallbackMaxAge).build()
+                : null;
+        return new ProductClientResilience(productRetry, productCircuitBreaker, productBulkhead, productRetryScheduler,
+                lastKnownProducts, meterRegistry.counter("product.client.fallback"));
+    }
+}
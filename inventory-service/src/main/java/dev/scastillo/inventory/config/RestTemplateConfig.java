@@ -1,13 +1,94 @@
 package dev.scastillo.inventory.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
+
+    @Value("${product.api.http.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${product.api.http.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${product.api.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${product.api.http.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${product.api.http.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Value("${product.api.http.connection-request-timeout:1s}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${product.api.http.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${product.api.http.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    @Value("${product.api.http.time-to-live:5m}")
+    private Duration timeToLive;
+
+    @Bean
+    public PoolingHttpClientConnectionManager productConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "product-service").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient productHttpClient(PoolingHttpClientConnectionManager productConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(productConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public HttpClient productAsyncHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient productHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(productHttpClient));
     }
-}
\ No newline at end of file
+}
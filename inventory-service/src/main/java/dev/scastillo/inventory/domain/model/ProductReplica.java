@@ -0,0 +1,38 @@
+package dev.scastillo.inventory.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Copia de solo lectura de un producto de product-service, alimentada por sus eventos.
+ * {@code updatedAt} es la version del producto: un evento mas antiguo que la copia se descarta.
+ */
+@Entity
+@Table(name = "product_replica")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductReplica {
+    @Id
+    private Integer productId;
+
+    @Column(length = 100, nullable = false)
+    private String name;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(length = 255, nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+}
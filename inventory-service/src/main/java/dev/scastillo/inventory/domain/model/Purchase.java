@@ -2,11 +2,12 @@ package dev.scastillo.inventory.domain.model;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 @Entity
+// El indice (product_id, purchase_date, id) y las particiones mensuales los administra PurchasePartitionManager
 @Table(name = "purchases")
 @Getter
 @Setter
@@ -16,7 +17,8 @@ import java.time.OffsetDateTime;
 public class Purchase {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchases_seq")
+    @SequenceGenerator(name = "purchases_seq", sequenceName = "purchases_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,7 +33,19 @@ public class Purchase {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal totalPrice;
 
-    @CreationTimestamp
     @Column(nullable = false)
     private OffsetDateTime purchaseDate;
+
+    @Builder.Default
+    @ColumnDefault("true")
+    @Column(nullable = false)
+    private Boolean stockApplied = true;
+
+    // Se fija al persistir y no al hacer flush: el acumulado diario necesita la fecha dentro de la misma transaccion
+    @PrePersist
+    void prePersist() {
+        if (purchaseDate == null) {
+            purchaseDate = OffsetDateTime.now();
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package dev.scastillo.inventory.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Unidades, ingresos y numero de compras de un producto en un dia. Se incrementa con cada compra,
+ * asi las estadisticas leen una fila por dia en lugar de agregar {@code purchases}.
+ */
+@Entity
+@Table(name = "purchase_daily_rollup")
+@IdClass(PurchaseDailyRollup.Key.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseDailyRollup {
+    @Id
+    private Integer productId;
+
+    @Id
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false)
+    private Long purchases;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Integer productId;
+        private LocalDate salesDate;
+    }
+}
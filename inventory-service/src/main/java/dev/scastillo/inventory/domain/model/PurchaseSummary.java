@@ -0,0 +1,21 @@
+package dev.scastillo.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Proyeccion de una compra para el historial: se lee con una consulta de constructor, sin cargar la entidad.
+ */
+@Getter
+@AllArgsConstructor
+public class PurchaseSummary {
+    private Long id;
+    private Integer productId;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
+    private OffsetDateTime purchaseDate;
+}
@@ -0,0 +1,15 @@
+package dev.scastillo.inventory.domain.repository;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductReplicaRepository {
+    Optional<ProductReplica> findById(Integer productId);
+    List<ProductReplica> findAllById(Collection<Integer> productIds);
+    List<ProductReplica> saveAll(List<ProductReplica> replicas);
+    long count();
+    void deleteAll();
+}
@@ -1,10 +1,17 @@
 package dev.scastillo.inventory.domain.repository;
 
 import dev.scastillo.inventory.domain.model.ProductStock;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductStockRepository {
     ProductStock save(ProductStock productStock);
     Optional<ProductStock> findByProductId(Integer productId);
+    List<ProductStock> findByProductIds(Collection<Integer> productIds);
+    List<ProductStock> findPageAfterProductId(Integer afterProductId, int limit);
+    boolean decrementStock(Integer productId, Integer quantity);
+    void adjustStock(Integer productId, Integer delta);
+    List<ProductStock> findAll();
     void deleteAll();
 }
@@ -1,11 +1,24 @@
 package dev.scastillo.inventory.domain.repository;
 
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PurchaseRepository {
     Optional<Purchase> findById(Long id);
     Purchase save(Purchase purchase);
+    List<Purchase> saveAll(List<Purchase> purchases);
+    List<Purchase> findPendingStock(int limit);
+    List<PurchaseSummary> findHistoryPage(Integer productId, OffsetDateTime afterDate, Long afterId,
+                                          OffsetDateTime to, int limit);
+    List<Purchase> findStockAppliedAfter(Long afterId, int limit);
+    long sumPendingStock(Integer productId);
+    Map<Integer, Long> sumPendingStockByProduct();
+    void markStockApplied(Collection<Long> ids);
     void deleteAll();
 }
@@ -0,0 +1,14 @@
+package dev.scastillo.inventory.domain.repository;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface PurchaseRollupRepository {
+    void addSales(Collection<Purchase> purchases);
+    List<PurchaseDailyRollup> findByProductId(Integer productId, LocalDate from, LocalDate to);
+    void deleteAll();
+}
@@ -0,0 +1,9 @@
+package dev.scastillo.inventory.domain.service;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+
+import java.util.List;
+
+public interface ProductReplicationService {
+    int apply(List<ProductReplica> replicas);
+}
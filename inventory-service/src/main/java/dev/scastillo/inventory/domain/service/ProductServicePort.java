@@ -2,8 +2,13 @@ package dev.scastillo.inventory.domain.service;
 
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface ProductServicePort {
     Optional<ExternalProductDto> getProductById(Integer id);
+    CompletableFuture<Optional<ExternalProductDto>> getProductByIdAsync(Integer id);
+    List<ExternalProductDto> getProductsByIds(Collection<Integer> ids);
 }
@@ -2,7 +2,14 @@ package dev.scastillo.inventory.domain.service;
 
 import dev.scastillo.inventory.domain.service.dto.ProductResponse;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface ProductStockService {
     ProductResponse getDetailProductById(Integer productId);
+    CompletableFuture<ProductResponse> getDetailProductByIdAsync(Integer productId);
+    List<ProductResponse> getDetailProductsByIds(Collection<Integer> productIds);
+    List<ProductResponse> getDetailProductsPage(Integer afterProductId, Integer limit);
     ProductResponse updateProductStock(Integer productId, Integer stock);
 }
@@ -2,10 +2,21 @@ package dev.scastillo.inventory.domain.service;
 
 
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.service.dto.PurchaseHistoryPage;
+import dev.scastillo.inventory.domain.service.dto.PurchaseLine;
 import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseStats;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
 
 public interface PurchaseService {
     PurchaseResponse createPurchase(Integer productId, Integer quantity);
+    List<PurchaseResponse> createPurchases(List<PurchaseLine> lines);
     PurchaseResponse getPurchaseById(Long id);
+    PurchaseHistoryPage getPurchaseHistory(Integer productId, OffsetDateTime from, OffsetDateTime to,
+                                           String after, Integer limit);
+    PurchaseStats getPurchaseStats(Integer productId, LocalDate from, LocalDate to);
 
 }
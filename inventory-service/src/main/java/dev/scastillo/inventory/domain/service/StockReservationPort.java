@@ -0,0 +1,24 @@
+package dev.scastillo.inventory.domain.service;
+
+import java.util.Collection;
+import java.util.function.IntSupplier;
+
+public interface StockReservationPort {
+    /**
+     * Prepara la reserva de los productos; se llama antes de abrir la transaccion de la compra.
+     */
+    void preload(Collection<Integer> productIds);
+
+    /**
+     * Reserva unidades del producto. Dentro de una transaccion, la reserva se devuelve sola si la transaccion
+     * se revierte, incluso cuando la falla ocurre al confirmar.
+     */
+    boolean tryReserve(Integer productId, Integer quantity);
+    boolean isDeferred();
+
+    /**
+     * Ejecuta el cambio de stock de un producto; {@code stockUpdate} retorna la diferencia entre la cantidad
+     * nueva y la anterior.
+     */
+    void runStockUpdate(Integer productId, IntSupplier stockUpdate);
+}
@@ -0,0 +1,16 @@
+package dev.scastillo.inventory.domain.service.dto;
+
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseHistoryPage {
+    private List<PurchaseSummary> items;
+    private String next;
+}
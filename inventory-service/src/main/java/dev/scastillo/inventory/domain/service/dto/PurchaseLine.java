@@ -0,0 +1,13 @@
+package dev.scastillo.inventory.domain.service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseLine {
+    private Integer productId;
+    private Integer quantity;
+}
@@ -0,0 +1,23 @@
+package dev.scastillo.inventory.domain.service.dto;
+
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PurchaseStats {
+    private Integer productId;
+    private LocalDate from;
+    private LocalDate to;
+    private Long units;
+    private BigDecimal revenue;
+    private Long purchases;
+    private List<PurchaseDailyRollup> days;
+}
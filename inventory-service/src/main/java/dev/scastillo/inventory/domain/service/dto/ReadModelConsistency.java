@@ -0,0 +1,16 @@
+package dev.scastillo.inventory.domain.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReadModelConsistency {
+    private Integer checked;
+    private Integer mismatched;
+    private List<Integer> productIds;
+}
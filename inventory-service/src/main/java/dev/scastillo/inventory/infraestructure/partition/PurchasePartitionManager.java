@@ -0,0 +1,263 @@
+package dev.scastillo.inventory.infraestructure.partition;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Particiona {@code purchases} por mes de {@code purchase_date} (meses UTC) en PostgreSQL; es opcional y viene
+ * desactivado. Hibernate crea la tabla como una tabla normal; al arrancar, antes de recibir trafico, se convierte
+ * en tabla particionada: lo existente queda como la particion {@code purchases_legacy} hasta el inicio del mes
+ * actual y desde ahi una particion por mes.
+ * Un proceso diario crea los meses siguientes por adelantado y desacopla los que superan la retencion:
+ * la tabla desacoplada sigue en el esquema para exportarla con {@code pg_dump} y eliminarla sin tocar la activa.
+ * En H2 (perfil test) no hay particiones: el archivado mueve las compras vencidas a {@code purchases_archive}.
+ * <p>
+ * El indice del historial se crea aqui y no con {@code @Index}: Hibernate no reconoce los indices de una tabla
+ * particionada y con {@code ddl-auto: update} intentaria crearlo de nuevo en cada arranque.
+ */
+@Component
+public class PurchasePartitionManager implements SmartInitializingSingleton {
+    private static final String LEGACY_PARTITION = "purchases_legacy";
+    private static final String ARCHIVE_TABLE = "purchases_archive";
+    private static final String PARTITION_PREFIX = "purchases_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssxxx");
+    // Evita que dos instancias conviertan, creen o desacoplen particiones a la vez
+    private static final long LOCK_KEY = 0x70757263L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String schema;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Clock clock;
+    private Boolean postgres;
+
+    @Autowired
+    public PurchasePartitionManager(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${spring.jpa.properties.hibernate.default_schema:public}") String schema,
+                                    @Value("${inventory.purchases.partitioning.enabled:false}") boolean enabled,
+                                    @Value("${inventory.purchases.partitioning.months-ahead:3}") int monthsAhead,
+                                    @Value("${inventory.purchases.partitioning.retention-months:24}") int retentionMonths) {
+        this(jdbcTemplate, transactionManager, schema, enabled, monthsAhead, retentionMonths, Clock.systemUTC());
+    }
+
+    public PurchasePartitionManager(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    String schema,
+                                    boolean enabled,
+                                    int monthsAhead,
+                                    int retentionMonths,
+                                    Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schema = schema;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    // La conversion bloquea la tabla: se hace al terminar de crear los beans, antes de que el servidor web acepte compras
+    @Override
+    public void afterSingletonsInstantiated() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${inventory.purchases.partitioning.cron:0 0 3 * * *}")
+    public void maintain() {
+        jdbcTemplate.execute("create index if not exists idx_purchases_product_date_id on " + table("purchases")
+                + " (product_id, purchase_date, id)");
+        if (enabled) {
+            createPartitions();
+            archive();
+        }
+    }
+
+    /**
+     * Crea las particiones del mes actual y de los {@code monthsAhead} siguientes.
+     *
+     * @return nombres de las particiones creadas
+     */
+    public List<String> createPartitions() {
+        if (!isPostgres()) {
+            return List.of();
+        }
+        return transactionTemplate.execute(status -> {
+            lock();
+            YearMonth current = YearMonth.now(clock);
+            if (!isPartitioned()) {
+                convertToPartitioned(current);
+            }
+            List<String> created = new ArrayList<>();
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                if (createPartition(month)) {
+                    created.add(partitionName(month));
+                }
+            }
+            return created;
+        });
+    }
+
+    /**
+     * Saca de la tabla activa las compras anteriores a {@code retentionMonths} meses completos.
+     *
+     * @return particiones desacopladas en PostgreSQL, o la tabla de archivo si se movieron filas en H2
+     */
+    public List<String> archive() {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        YearMonth firstKept = YearMonth.now(clock).minusMonths(retentionMonths);
+        OffsetDateTime cutoff = monthStart(firstKept);
+        return transactionTemplate.execute(status -> {
+            if (!isPostgres()) {
+                return moveRowsBefore(cutoff);
+            }
+            lock();
+            return detachPartitionsBefore(firstKept, cutoff);
+        });
+    }
+
+    private void lock() {
+        jdbcTemplate.execute("select pg_advisory_xact_lock(" + LOCK_KEY + ")");
+    }
+
+    private void convertToPartitioned(YearMonth current) {
+        String legacy = table(LEGACY_PARTITION);
+        String bound = bound(monthStart(current));
+        jdbcTemplate.execute("lock table " + table("purchases") + " in access exclusive mode");
+        jdbcTemplate.execute("alter table " + table("purchases") + " rename to " + LEGACY_PARTITION);
+        // Al adjuntarla hereda la clave primaria (id, purchase_date) de la tabla particionada
+        jdbcTemplate.queryForList("select conname from pg_constraint where conrelid = to_regclass(?) and contype = 'p'",
+                        String.class, legacy)
+                .forEach(primaryKey -> jdbcTemplate.execute("alter table " + legacy + " drop constraint " + primaryKey));
+        jdbcTemplate.execute("alter index if exists " + table("idx_purchases_product_date_id")
+                + " rename to idx_purchases_legacy_product_date_id");
+
+        // La clave primaria de una tabla particionada debe incluir la columna de particion
+        jdbcTemplate.execute("create table " + table("purchases") + " (like " + legacy + " including defaults)"
+                + " partition by range (purchase_date)");
+        jdbcTemplate.execute("alter table " + table("purchases") + " add constraint purchases_pkey primary key (id, purchase_date)");
+        jdbcTemplate.execute("create index idx_purchases_product_date_id on " + table("purchases")
+                + " (product_id, purchase_date, id)");
+
+        createPartition(current);
+        jdbcTemplate.update("insert into " + table("purchases") + " select * from " + legacy + " where purchase_date >= ?",
+                Timestamp.from(monthStart(current).toInstant()));
+        jdbcTemplate.update("delete from " + legacy + " where purchase_date >= ?",
+                Timestamp.from(monthStart(current).toInstant()));
+        // Con el limite ya validado como restriccion, attach partition no vuelve a recorrer la tabla
+        jdbcTemplate.execute("alter table " + legacy + " add constraint purchases_legacy_bound"
+                + " check (purchase_date < '" + bound + "') not valid");
+        jdbcTemplate.execute("alter table " + legacy + " validate constraint purchases_legacy_bound");
+        jdbcTemplate.execute("alter table " + table("purchases") + " attach partition " + legacy
+                + " for values from (minvalue) to ('" + bound + "')");
+        jdbcTemplate.execute("alter table " + legacy + " drop constraint purchases_legacy_bound");
+    }
+
+    private boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+        if (tableExists(name)) {
+            return false;
+        }
+        jdbcTemplate.execute("create table " + table(name) + " partition of " + table("purchases")
+                + " for values from ('" + bound(monthStart(month)) + "') to ('" + bound(monthStart(month.plusMonths(1))) + "')");
+        return true;
+    }
+
+    private List<String> detachPartitionsBefore(YearMonth firstKept, OffsetDateTime cutoff) {
+        List<String> detached = new ArrayList<>();
+        for (String partition : partitions()) {
+            if (isExpired(partition, firstKept, cutoff)) {
+                jdbcTemplate.execute("alter table " + table("purchases") + " detach partition " + table(partition));
+                detached.add(partition);
+            }
+        }
+        return detached;
+    }
+
+    private boolean isExpired(String partition, YearMonth firstKept, OffsetDateTime cutoff) {
+        if (partition.equals(LEGACY_PARTITION)) {
+            // Limite superior tomado del catalogo para no recorrer la particion
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select substring(pg_get_expr(relpartbound, oid) "
+                    + "from 'TO \\(''([^'']+)''\\)')::timestamptz <= ? from pg_class where oid = to_regclass(?)",
+                    Boolean.class, Timestamp.from(cutoff.toInstant()), table(partition)));
+        }
+        return partition.startsWith(PARTITION_PREFIX)
+                && YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX).isBefore(firstKept);
+    }
+
+    private List<String> moveRowsBefore(OffsetDateTime cutoff) {
+        Timestamp before = Timestamp.from(cutoff.toInstant());
+        jdbcTemplate.execute("create table if not exists " + table(ARCHIVE_TABLE)
+                + " as select * from " + table("purchases") + " with no data");
+        int moved = jdbcTemplate.update("insert into " + table(ARCHIVE_TABLE)
+                + " select * from " + table("purchases") + " where purchase_date < ?", before);
+        if (moved == 0) {
+            return List.of();
+        }
+        jdbcTemplate.update("delete from " + table("purchases") + " where purchase_date < ?", before);
+        return List.of(ARCHIVE_TABLE);
+    }
+
+    private boolean isPartitioned() {
+        String kind = jdbcTemplate.queryForObject("select relkind::text from pg_class where oid = to_regclass(?)",
+                String.class, table("purchases"));
+        return "p".equals(kind);
+    }
+
+    private boolean tableExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select to_regclass(?) is not null",
+                Boolean.class, table(name)));
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid "
+                + "where i.inhparent = to_regclass(?) order by c.relname", String.class, table("purchases"));
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.getMetaData()
+                    .getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql"));
+        }
+        return postgres;
+    }
+
+    private String table(String name) {
+        return schema + "." + name;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static OffsetDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    private static String bound(OffsetDateTime instant) {
+        return instant.format(BOUND);
+    }
+}
@@ -0,0 +1,120 @@
+package dev.scastillo.inventory.infraestructure.readmodel;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Detalle de producto con stock ya armado por id. Las escrituras se aplican cuando su transaccion
+ * confirma; mientras hay una en curso, o si termino alguna despues de tomar el {@link #stamp()} previo
+ * a leer la fuente, la carga no se guarda, para no dejar un valor anterior al cambio.
+ * <p>
+ * Solo ve las escrituras de su propia instancia: las entradas vencen a los {@code ttl} de escritas para que,
+ * con varias instancias, un cambio hecho en otra se vea como maximo tras ese tiempo.
+ */
+public class ProductDetailReadModel {
+    private final Map<Integer, ProductResponse> details;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> writesInProgress = new ConcurrentHashMap<>();
+
+    public ProductDetailReadModel(Duration ttl, long maximumSize) {
+        this(ttl, maximumSize, Ticker.systemTicker());
+    }
+
+    public ProductDetailReadModel(Duration ttl, long maximumSize, Ticker ticker) {
+        this.details = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .<Integer, ProductResponse>build()
+                .asMap();
+    }
+
+    public Optional<ProductResponse> get(Integer productId) {
+        return Optional.ofNullable(details.get(productId));
+    }
+
+    /**
+     * Marca a tomar antes de leer la fuente y pasar a {@link #load}; sirve para varios productos.
+     */
+    public long stamp() {
+        return sequence.get();
+    }
+
+    public boolean unchanged(Integer productId, long stamp) {
+        return !writesInProgress.containsKey(productId) && versions.getOrDefault(productId, 0L) <= stamp;
+    }
+
+    public void load(ProductResponse product, long stamp) {
+        details.compute(product.getId(), (productId, current) ->
+                current == null && unchanged(productId, stamp) ? product : current);
+    }
+
+    /**
+     * Ejecuta {@code write} y, cuando confirma, reemplaza cada entrada presente por
+     * {@code change(resultado, actual)}; si retorna {@code null} la entrada se elimina.
+     */
+    public <T> T write(Collection<Integer> productIds,
+                       Supplier<T> write,
+                       BiFunction<T, ProductResponse, ProductResponse> change) {
+        productIds.forEach(productId -> writesInProgress.merge(productId, 1, Integer::sum));
+        T result;
+        try {
+            result = write.get();
+        } catch (RuntimeException e) {
+            productIds.forEach(productId -> complete(productId, UnaryOperator.identity()));
+            throw e;
+        }
+
+        UnaryOperator<ProductResponse> apply = current -> change.apply(result, current);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    UnaryOperator<ProductResponse> outcome = status == STATUS_COMMITTED ? apply : UnaryOperator.identity();
+                    productIds.forEach(productId -> complete(productId, outcome));
+                }
+            });
+        } else {
+            productIds.forEach(productId -> complete(productId, apply));
+        }
+        return result;
+    }
+
+    public void evict(Integer productId) {
+        details.compute(productId, (key, current) -> {
+            versions.put(key, sequence.incrementAndGet());
+            return null;
+        });
+    }
+
+    public void evictAll() {
+        details.keySet().forEach(this::evict);
+    }
+
+    public List<Integer> productIds() {
+        return details.keySet().stream().sorted().toList();
+    }
+
+    private void complete(Integer productId, UnaryOperator<ProductResponse> change) {
+        details.compute(productId, (key, current) -> {
+            writesInProgress.computeIfPresent(key, (ignored, count) -> count == 1 ? null : count - 1);
+            versions.put(key, sequence.incrementAndGet());
+            return current == null ? null : change.apply(current);
+        });
+    }
+}
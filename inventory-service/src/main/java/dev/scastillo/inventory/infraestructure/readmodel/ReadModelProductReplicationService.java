@@ -0,0 +1,23 @@
+package dev.scastillo.inventory.infraestructure.readmodel;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.service.ProductReplicationService;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Los productos que llegan por eventos salen del {@link ProductDetailReadModel}; la siguiente
+ * lectura los vuelve a armar desde la replica ya actualizada.
+ */
+@AllArgsConstructor
+public class ReadModelProductReplicationService implements ProductReplicationService {
+    private final ProductReplicationService delegate;
+    private final ProductDetailReadModel readModel;
+
+    @Override
+    public int apply(List<ProductReplica> replicas) {
+        List<Integer> productIds = replicas.stream().map(ProductReplica::getProductId).distinct().toList();
+        return readModel.write(productIds, () -> delegate.apply(replicas), (changed, current) -> null);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.scastillo.inventory.infraestructure.readmodel;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import lombok.AllArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorador de {@link ProductStockRepository} que lleva cada cambio de {@code product_stock} al
+ * {@link ProductDetailReadModel}, incluidos los que aplica el proceso de reservas diferidas.
+ */
+@AllArgsConstructor
+public class ReadModelProductStockRepository implements ProductStockRepository {
+    private final ProductStockRepository delegate;
+    private final ProductDetailReadModel readModel;
+
+    @Override
+    public ProductStock save(ProductStock productStock) {
+        return readModel.write(List.of(productStock.getProductId()), () -> delegate.save(productStock),
+                (saved, current) -> withStock(current, saved.getQuantity()));
+    }
+
+    @Override
+    public Optional<ProductStock> findByProductId(Integer productId) {
+        return delegate.findByProductId(productId);
+    }
+
+    @Override
+    public List<ProductStock> findByProductIds(Collection<Integer> productIds) {
+        return delegate.findByProductIds(productIds);
+    }
+
+    @Override
+    public List<ProductStock> findPageAfterProductId(Integer afterProductId, int limit) {
+        return delegate.findPageAfterProductId(afterProductId, limit);
+    }
+
+    @Override
+    public boolean decrementStock(Integer productId, Integer quantity) {
+        return readModel.write(List.of(productId), () -> delegate.decrementStock(productId, quantity),
+                (decremented, current) -> decremented ? withStock(current, current.getStock() - quantity) : current);
+    }
+
+    @Override
+    public void adjustStock(Integer productId, Integer delta) {
+        readModel.write(List.of(productId), () -> {
+            delegate.adjustStock(productId, delta);
+            return delta;
+        }, (applied, current) -> withStock(current, current.getStock() + applied));
+    }
+
+    @Override
+    public List<ProductStock> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        readModel.evictAll();
+    }
+
+    private static ProductResponse withStock(ProductResponse product, Integer stock) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .description(product.getDescription())
+                .stock(stock)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package dev.scastillo.inventory.infraestructure.readmodel;
+
+import dev.scastillo.inventory.domain.service.ProductStockService;
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.domain.service.dto.ReadModelConsistency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sirve el detalle de un producto desde el {@link ProductDetailReadModel}, sin base de datos ni
+ * HTTP. Si el producto aun no esta, lo arma el servicio original y queda guardado para las
+ * siguientes lecturas.
+ */
+public class ReadModelProductStockService implements ProductStockService {
+    private static final int PAGE_SIZE = 500;
+
+    private final ProductStockService delegate;
+    private final ProductDetailReadModel readModel;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter warmUpFailures;
+
+    public ReadModelProductStockService(ProductStockService delegate,
+                                        ProductDetailReadModel readModel,
+                                        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.readModel = readModel;
+        this.hits = meterRegistry.counter("product.read-model.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("product.read-model.lookups", "result", "miss");
+        this.warmUpFailures = meterRegistry.counter("product.read-model.warmup.failures");
+    }
+
+    /**
+     * Carga los productos con stock al arrancar. Si product-service no responde se detiene, lo cuenta en
+     * {@code product.read-model.warmup.failures} y los que falten se cargan en su primera lectura.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Integer after = null;
+        try {
+            List<ProductResponse> page;
+            do {
+                long stamp = readModel.stamp();
+                page = delegate.getDetailProductsPage(after, PAGE_SIZE);
+                for (ProductResponse product : page) {
+                    readModel.load(product, stamp);
+                    after = product.getId();
+                }
+            } while (!page.isEmpty());
+        } catch (RuntimeException e) {
+            // se continua con la carga por demanda
+            warmUpFailures.increment();
+        }
+    }
+
+    @Override
+    public ProductResponse getDetailProductById(Integer productId) {
+        Optional<ProductResponse> cached = readModel.get(productId);
+        if (cached.isPresent()) {
+            hits.increment();
+            return cached.get();
+        }
+        misses.increment();
+        long stamp = readModel.stamp();
+        ProductResponse product = delegate.getDetailProductById(productId);
+        readModel.load(product, stamp);
+        return product;
+    }
+
+    @Override
+    public CompletableFuture<ProductResponse> getDetailProductByIdAsync(Integer productId) {
+        Optional<ProductResponse> cached = readModel.get(productId);
+        if (cached.isPresent()) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        misses.increment();
+        long stamp = readModel.stamp();
+        return delegate.getDetailProductByIdAsync(productId).thenApply(product -> {
+            readModel.load(product, stamp);
+            return product;
+        });
+    }
+
+    @Override
+    public List<ProductResponse> getDetailProductsByIds(Collection<Integer> productIds) {
+        return delegate.getDetailProductsByIds(productIds);
+    }
+
+    @Override
+    public List<ProductResponse> getDetailProductsPage(Integer afterProductId, Integer limit) {
+        return delegate.getDetailProductsPage(afterProductId, limit);
+    }
+
+    @Override
+    public ProductResponse updateProductStock(Integer productId, Integer stock) {
+        return delegate.updateProductStock(productId, stock);
+    }
+
+    /**
+     * Compara cada entrada con el detalle armado desde la fuente y elimina las que difieren, que se
+     * vuelven a cargar en su siguiente lectura. Las entradas que cambian durante la revision se omiten.
+     */
+    public ReadModelConsistency checkConsistency() {
+        List<Integer> productIds = readModel.productIds();
+        int checked = 0;
+        List<Integer> mismatched = new ArrayList<>();
+        for (int from = 0; from < productIds.size(); from += PAGE_SIZE) {
+            List<Integer> page = productIds.subList(from, Math.min(from + PAGE_SIZE, productIds.size()));
+            long stamp = readModel.stamp();
+            Map<Integer, ProductResponse> source = delegate.getDetailProductsByIds(page).stream()
+                    .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+
+            for (Integer productId : page) {
+                Optional<ProductResponse> cached = readModel.get(productId);
+                if (cached.isEmpty() || !readModel.unchanged(productId, stamp)) {
+                    continue;
+                }
+                checked++;
+                if (!sameDetail(cached.get(), source.get(productId))) {
+                    mismatched.add(productId);
+                    readModel.evict(productId);
+                }
+            }
+        }
+        return ReadModelConsistency.builder()
+                .checked(checked)
+                .mismatched(mismatched.size())
+                .productIds(mismatched)
+                .build();
+    }
+
+    private static boolean sameDetail(ProductResponse cached, ProductResponse source) {
+        return source != null
+                && Objects.equals(cached.getName(), source.getName())
+                && Objects.equals(cached.getDescription(), source.getDescription())
+                && Objects.equals(cached.getStock(), source.getStock())
+                && samePrice(cached.getPrice(), source.getPrice());
+    }
+
+    private static boolean samePrice(BigDecimal cached, BigDecimal source) {
+        return cached == null ? source == null : source != null && cached.compareTo(source) == 0;
+    }
+}
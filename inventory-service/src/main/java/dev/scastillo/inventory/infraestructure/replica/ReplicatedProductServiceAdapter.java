@@ -0,0 +1,89 @@
+package dev.scastillo.inventory.infraestructure.replica;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sirve los productos desde la replica local alimentada por los eventos de product-service, sin
+ * llamadas HTTP. Solo un producto que aun no llego a la replica se consulta a product-service, y
+ * unicamente si {@code remoteFallback} esta activo.
+ */
+public class ReplicatedProductServiceAdapter implements ProductServicePort {
+    private final ProductReplicaRepository productReplicaRepository;
+    private final ProductServicePort remote;
+    private final boolean remoteFallback;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReplicatedProductServiceAdapter(ProductReplicaRepository productReplicaRepository,
+                                           ProductServicePort remote,
+                                           boolean remoteFallback,
+                                           MeterRegistry meterRegistry) {
+        this.productReplicaRepository = productReplicaRepository;
+        this.remote = remote;
+        this.remoteFallback = remoteFallback;
+        this.hits = meterRegistry.counter("product.replica.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("product.replica.lookups", "result", "miss");
+    }
+
+    @Override
+    public Optional<ExternalProductDto> getProductById(Integer id) {
+        Optional<ProductReplica> replica = productReplicaRepository.findById(id);
+        if (replica.isPresent()) {
+            hits.increment();
+            return replica.map(ReplicatedProductServiceAdapter::toDto);
+        }
+        misses.increment();
+        return remoteFallback ? remote.getProductById(id) : Optional.empty();
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalProductDto>> getProductByIdAsync(Integer id) {
+        Optional<ProductReplica> replica = productReplicaRepository.findById(id);
+        if (replica.isPresent()) {
+            hits.increment();
+            return CompletableFuture.completedFuture(replica.map(ReplicatedProductServiceAdapter::toDto));
+        }
+        misses.increment();
+        return remoteFallback ? remote.getProductByIdAsync(id) : CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsByIds(Collection<Integer> ids) {
+        List<ExternalProductDto> products = new ArrayList<>(ids.size());
+        Set<Integer> missing = new HashSet<>(ids);
+        for (ProductReplica replica : productReplicaRepository.findAllById(ids)) {
+            products.add(toDto(replica));
+            missing.remove(replica.getProductId());
+        }
+        hits.increment(products.size());
+        if (!missing.isEmpty()) {
+            misses.increment(missing.size());
+            if (remoteFallback) {
+                products.addAll(remote.getProductsByIds(missing));
+            }
+        }
+        return products;
+    }
+
+    private static ExternalProductDto toDto(ProductReplica replica) {
+        return ExternalProductDto.builder()
+                .id(replica.getProductId())
+                .name(replica.getName())
+                .price(replica.getPrice())
+                .description(replica.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package dev.scastillo.inventory.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@AllArgsConstructor
+public class JpaProductReplicaRepository implements ProductReplicaRepository {
+    private final SpringDataProductReplicaRepository repository;
+
+    @Override
+    public Optional<ProductReplica> findById(Integer productId) {
+        return repository.findById(productId);
+    }
+
+    @Override
+    public List<ProductReplica> findAllById(Collection<Integer> productIds) {
+        return repository.findAllById(productIds);
+    }
+
+    @Override
+    public List<ProductReplica> saveAll(List<ProductReplica> replicas) {
+        return repository.saveAll(replicas);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public void deleteAll() {
+        repository.deleteAll();
+    }
+}
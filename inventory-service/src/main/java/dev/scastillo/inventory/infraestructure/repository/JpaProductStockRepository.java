@@ -3,8 +3,11 @@ package dev.scastillo.inventory.infraestructure.repository;
 import dev.scastillo.inventory.domain.model.ProductStock;
 import dev.scastillo.inventory.domain.repository.ProductStockRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,6 +24,31 @@ public class JpaProductStockRepository implements ProductStockRepository {
         return repository.findByProductId(productId);
     }
 
+    @Override
+    public List<ProductStock> findByProductIds(Collection<Integer> productIds) {
+        return repository.findByProductIdIn(productIds);
+    }
+
+    @Override
+    public List<ProductStock> findPageAfterProductId(Integer afterProductId, int limit) {
+        return repository.findByProductIdGreaterThanOrderByProductIdAsc(afterProductId, Limit.of(limit));
+    }
+
+    @Override
+    public boolean decrementStock(Integer productId, Integer quantity) {
+        return repository.decrementQuantity(productId, quantity) == 1;
+    }
+
+    @Override
+    public void adjustStock(Integer productId, Integer delta) {
+        repository.adjustQuantity(productId, delta);
+    }
+
+    @Override
+    public List<ProductStock> findAll() {
+        return repository.findAll();
+    }
+
     @Override
     public void deleteAll() {
         repository.deleteAll();
@@ -1,10 +1,17 @@
 package dev.scastillo.inventory.infraestructure.repository;
 
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
 import dev.scastillo.inventory.domain.repository.PurchaseRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 @Repository
 @AllArgsConstructor
@@ -21,6 +28,46 @@ public class JpaPurchaseRepository implements PurchaseRepository {
         return repository.save(purchase);
     }
 
+    @Override
+    public List<Purchase> saveAll(List<Purchase> purchases) {
+        return repository.saveAll(purchases);
+    }
+
+    @Override
+    public List<Purchase> findPendingStock(int limit) {
+        return repository.findByStockAppliedFalseOrderByIdAsc(Limit.of(limit));
+    }
+
+    @Override
+    public List<PurchaseSummary> findHistoryPage(Integer productId, OffsetDateTime afterDate, Long afterId,
+                                                 OffsetDateTime to, int limit) {
+        return repository.findHistoryPage(productId, afterDate, afterId, to, Limit.of(limit));
+    }
+
+    @Override
+    public List<Purchase> findStockAppliedAfter(Long afterId, int limit) {
+        return repository.findByStockAppliedTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    @Override
+    public long sumPendingStock(Integer productId) {
+        return repository.sumPendingQuantity(productId);
+    }
+
+    @Override
+    public Map<Integer, Long> sumPendingStockByProduct() {
+        Map<Integer, Long> pending = new HashMap<>();
+        for (Object[] row : repository.sumPendingQuantityByProduct()) {
+            pending.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+        return pending;
+    }
+
+    @Override
+    public void markStockApplied(Collection<Long> ids) {
+        repository.markStockApplied(ids);
+    }
+
     @Override
     public void deleteAll() {
         repository.deleteAll();
@@ -0,0 +1,58 @@
+package dev.scastillo.inventory.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+public class JpaPurchaseRollupRepository implements PurchaseRollupRepository {
+    // Mismo orden de filas en todas las transacciones para que dos compras concurrentes no se bloqueen en cruz
+    private static final Comparator<PurchaseDailyRollup.Key> KEY_ORDER = Comparator
+            .comparing(PurchaseDailyRollup.Key::getProductId)
+            .thenComparing(PurchaseDailyRollup.Key::getSalesDate);
+
+    private final SpringDataPurchaseRollupRepository repository;
+    private final ZoneId zone;
+
+    public JpaPurchaseRollupRepository(SpringDataPurchaseRollupRepository repository,
+                                       @Value("${inventory.purchases.rollup.zone:America/Bogota}") ZoneId zone) {
+        this.repository = repository;
+        this.zone = zone;
+    }
+
+    @Override
+    public void addSales(Collection<Purchase> purchases) {
+        Map<PurchaseDailyRollup.Key, PurchaseDailyRollup> days = new TreeMap<>(KEY_ORDER);
+        for (Purchase purchase : purchases) {
+            LocalDate salesDate = purchase.getPurchaseDate().atZoneSameInstant(zone).toLocalDate();
+            PurchaseDailyRollup day = days.computeIfAbsent(new PurchaseDailyRollup.Key(purchase.getProductId(), salesDate),
+                    key -> new PurchaseDailyRollup(key.getProductId(), key.getSalesDate(), 0L, BigDecimal.ZERO, 0L));
+            day.setUnits(day.getUnits() + purchase.getQuantity());
+            day.setRevenue(day.getRevenue().add(purchase.getTotalPrice()));
+            day.setPurchases(day.getPurchases() + 1);
+        }
+        days.values().forEach(day -> repository.addSales(day.getProductId(), day.getSalesDate(), day.getUnits(),
+                day.getRevenue(), day.getPurchases()));
+    }
+
+    @Override
+    public List<PurchaseDailyRollup> findByProductId(Integer productId, LocalDate from, LocalDate to) {
+        return repository.findByProductIdAndSalesDateBetweenOrderBySalesDateAsc(productId, from, to);
+    }
+
+    @Override
+    public void deleteAll() {
+        repository.deleteAllInBatch();
+    }
+}
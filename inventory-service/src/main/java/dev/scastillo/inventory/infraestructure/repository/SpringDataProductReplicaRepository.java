@@ -0,0 +1,7 @@
+package dev.scastillo.inventory.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataProductReplicaRepository extends JpaRepository<ProductReplica, Integer> {
+}
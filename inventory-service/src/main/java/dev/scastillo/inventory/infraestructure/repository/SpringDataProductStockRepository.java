@@ -1,10 +1,32 @@
 package dev.scastillo.inventory.infraestructure.repository;
 
 import dev.scastillo.inventory.domain.model.ProductStock;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataProductStockRepository extends JpaRepository<ProductStock, Integer> {
     Optional<ProductStock> findByProductId(Integer productId);
+
+    List<ProductStock> findByProductIdIn(Collection<Integer> productIds);
+
+    List<ProductStock> findByProductIdGreaterThanOrderByProductIdAsc(Integer productId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("update ProductStock s set s.quantity = s.quantity - :quantity "
+            + "where s.productId = :productId and s.quantity >= :quantity")
+    int decrementQuantity(@Param("productId") Integer productId, @Param("quantity") Integer quantity);
+
+    @Transactional
+    @Modifying
+    @Query("update ProductStock s set s.quantity = s.quantity + :delta where s.productId = :productId")
+    int adjustQuantity(@Param("productId") Integer productId, @Param("delta") Integer delta);
 }
@@ -1,7 +1,49 @@
 package dev.scastillo.inventory.infraestructure.repository;
 
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface SpringDataPurchaseRepository extends JpaRepository<Purchase, Long> {
+    List<Purchase> findByStockAppliedFalseOrderByIdAsc(Limit limit);
+
+    /**
+     * Pagina por cursor {@code (purchaseDate, id)}: la condicion sobre purchaseDate acota el rango del indice
+     * {@code (product_id, purchase_date, id)} y el costo no crece con la profundidad de la pagina.
+     * Ordenar tambien por productId (constante) alinea el ORDER BY con el indice completo y permite cortar
+     * la lectura en el limite sin ordenar todo el rango.
+     */
+    @Query("select new dev.scastillo.inventory.domain.model.PurchaseSummary("
+            + "p.id, p.productId, p.quantity, p.unitPrice, p.totalPrice, p.purchaseDate) "
+            + "from Purchase p "
+            + "where p.productId = :productId and p.purchaseDate >= :afterDate and p.purchaseDate < :to "
+            + "and (p.purchaseDate > :afterDate or p.id > :afterId) "
+            + "order by p.productId, p.purchaseDate, p.id")
+    List<PurchaseSummary> findHistoryPage(@Param("productId") Integer productId,
+                                          @Param("afterDate") OffsetDateTime afterDate,
+                                          @Param("afterId") Long afterId,
+                                          @Param("to") OffsetDateTime to,
+                                          Limit limit);
+
+    List<Purchase> findByStockAppliedTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select coalesce(sum(p.quantity), 0) from Purchase p where p.productId = :productId and p.stockApplied = false")
+    long sumPendingQuantity(@Param("productId") Integer productId);
+
+    @Query("select p.productId, sum(p.quantity) from Purchase p where p.stockApplied = false group by p.productId")
+    List<Object[]> sumPendingQuantityByProduct();
+
+    @Transactional
+    @Modifying
+    @Query("update Purchase p set p.stockApplied = true where p.id in :ids")
+    int markStockApplied(@Param("ids") Collection<Long> ids);
 }
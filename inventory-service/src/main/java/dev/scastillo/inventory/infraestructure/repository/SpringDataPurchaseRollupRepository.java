@@ -0,0 +1,34 @@
+package dev.scastillo.inventory.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SpringDataPurchaseRollupRepository extends JpaRepository<PurchaseDailyRollup, PurchaseDailyRollup.Key> {
+    List<PurchaseDailyRollup> findByProductIdAndSalesDateBetweenOrderBySalesDateAsc(Integer productId,
+                                                                                   LocalDate from,
+                                                                                   LocalDate to);
+
+    /**
+     * Suma sobre la fila del dia o la crea: Hibernate lo traduce a {@code on conflict} en PostgreSQL y a
+     * {@code merge} en H2, sin leer la fila antes.
+     */
+    @Transactional
+    @Modifying
+    @Query("insert into PurchaseDailyRollup (productId, salesDate, units, revenue, purchases) "
+            + "values (:productId, :salesDate, :units, :revenue, :purchases) "
+            + "on conflict (productId, salesDate) do update set units = units + excluded.units, "
+            + "revenue = revenue + excluded.revenue, purchases = purchases + excluded.purchases")
+    void addSales(@Param("productId") Integer productId,
+                  @Param("salesDate") LocalDate salesDate,
+                  @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("purchases") long purchases);
+}
@@ -0,0 +1,37 @@
+package dev.scastillo.inventory.infraestructure.reservation;
+
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.IntSupplier;
+
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "inventory.reservation.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseStockReservationAdapter implements StockReservationPort {
+    private final ProductStockRepository productStockRepository;
+
+    @Override
+    public boolean tryReserve(Integer productId, Integer quantity) {
+        return productStockRepository.decrementStock(productId, quantity);
+    }
+
+    @Override
+    public void preload(Collection<Integer> productIds) {
+        // El stock se descuenta directamente en la base de datos
+    }
+
+    @Override
+    public boolean isDeferred() {
+        return false;
+    }
+
+    @Override
+    public void runStockUpdate(Integer productId, IntSupplier stockUpdate) {
+        stockUpdate.getAsInt();
+    }
+}
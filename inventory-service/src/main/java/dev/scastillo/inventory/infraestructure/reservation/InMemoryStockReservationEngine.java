@@ -0,0 +1,197 @@
+package dev.scastillo.inventory.infraestructure.reservation;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Admite compras descontando contadores en memoria (CAS por producto) sin bloquear la fila de
+ * {@code product_stock}. Las compras admitidas se guardan con {@code stockApplied = false} y un
+ * proceso periódico las aplica al stock en lotes; como esa marca es durable, al reiniciar tras una
+ * caída los contadores se reconstruyen como {@code stock - compras pendientes} y no hay sobreventa.
+ * Los contadores se cargan con {@link #preload} antes de abrir la transaccion de la compra.
+ * Supone una única instancia de inventory-service escribiendo el stock.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.reservation.enabled", havingValue = "true")
+public class InMemoryStockReservationEngine implements StockReservationPort, SmartInitializingSingleton {
+    private final ProductStockRepository productStockRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final PurchaseRollupRepository purchaseRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushBatchSize;
+    private final Map<Integer, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public InMemoryStockReservationEngine(ProductStockRepository productStockRepository,
+                                          PurchaseRepository purchaseRepository,
+                                          PurchaseRollupRepository purchaseRollupRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${inventory.reservation.flush-batch-size:1000}") int flushBatchSize) {
+        this.productStockRepository = productStockRepository;
+        this.purchaseRepository = purchaseRepository;
+        this.purchaseRollupRepository = purchaseRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    // Corre al terminar de crear los beans, antes de que el servidor web acepte compras
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * Reconstruye los contadores desde la base de datos. Descarta las reservas en curso, asi que solo debe
+     * llamarse mientras no se reciben compras.
+     */
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            flush();
+            Map<Integer, Long> pending = purchaseRepository.sumPendingStockByProduct();
+            available.clear();
+            productStockRepository.findAll().forEach(stock -> available.put(stock.getProductId(),
+                    new AtomicInteger((int) (stock.getQuantity() - pending.getOrDefault(stock.getProductId(), 0L)))));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void preload(Collection<Integer> productIds) {
+        for (Integer productId : productIds) {
+            if (!available.containsKey(productId)) {
+                loadCounter(productId);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryReserve(Integer productId, Integer quantity) {
+        AtomicInteger counter = available.get(productId);
+        if (counter == null) {
+            // Dentro de una transaccion no se espera el lock del flush: se retendria una conexion que el flush necesita
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                return false;
+            }
+            counter = loadCounter(productId);
+            if (counter == null) {
+                return false;
+            }
+        }
+        int current;
+        do {
+            current = counter.get();
+            if (current < quantity) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current - quantity));
+        releaseOnRollback(counter, quantity);
+        return true;
+    }
+
+    @Override
+    public boolean isDeferred() {
+        return true;
+    }
+
+    @Override
+    public void runStockUpdate(Integer productId, IntSupplier stockUpdate) {
+        flushLock.lock();
+        try {
+            flush();
+            int delta = stockUpdate.getAsInt();
+            // Se ajusta el mismo contador: las reservas en curso sobre el lo siguen descontando
+            AtomicInteger counter = available.get(productId);
+            if (counter != null) {
+                counter.addAndGet(delta);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.flush-interval:200ms}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> applyPendingBatch()))) {
+                // continúa mientras queden lotes completos por aplicar
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean applyPendingBatch() {
+        List<Purchase> pending = purchaseRepository.findPendingStock(flushBatchSize);
+        if (pending.isEmpty()) {
+            return false;
+        }
+        Map<Integer, Integer> quantities = new HashMap<>();
+        pending.forEach(purchase -> quantities.merge(purchase.getProductId(), purchase.getQuantity(), Integer::sum));
+        quantities.forEach((productId, quantity) -> productStockRepository.adjustStock(productId, -quantity));
+        purchaseRepository.markStockApplied(pending.stream().map(Purchase::getId).toList());
+        // En la misma transaccion que la marca: cada compra se suma una sola vez a las ventas del dia
+        purchaseRollupRepository.addSales(pending);
+        return pending.size() == flushBatchSize;
+    }
+
+    private static void releaseOnRollback(AtomicInteger counter, Integer quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // Los inserts en lote se ejecutan al confirmar, despues de que el servicio retorna: solo aqui se ve esa falla
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    counter.addAndGet(quantity);
+                }
+            }
+        });
+    }
+
+    private AtomicInteger loadCounter(Integer productId) {
+        flushLock.lock();
+        try {
+            AtomicInteger existing = available.get(productId);
+            if (existing != null) {
+                return existing;
+            }
+            Optional<ProductStock> stock = productStockRepository.findByProductId(productId);
+            if (stock.isEmpty()) {
+                return null;
+            }
+            long pending = purchaseRepository.sumPendingStock(productId);
+            AtomicInteger counter = new AtomicInteger((int) (stock.get().getQuantity() - pending));
+            available.put(productId, counter);
+            return counter;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
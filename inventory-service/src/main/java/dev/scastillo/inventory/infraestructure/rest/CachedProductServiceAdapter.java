@@ -0,0 +1,64 @@
+package dev.scastillo.inventory.infraestructure.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import lombok.AllArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorador de {@link ProductServicePort} que mantiene en memoria los productos consultados
+ * a product-service, incluyendo los no encontrados (cache negativo).
+ */
+@AllArgsConstructor
+public class CachedProductServiceAdapter implements ProductServicePort {
+    private final ProductServicePort delegate;
+    private final Cache<Integer, Optional<ExternalProductDto>> cache;
+
+    @Override
+    public Optional<ExternalProductDto> getProductById(Integer id) {
+        // No se usa Cache.get(id, loader): el loader corre dentro del lock de ConcurrentHashMap (synchronized)
+        // y con hilos virtuales la llamada HTTP dejaria fijado el hilo portador mientras espera
+        Optional<ExternalProductDto> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<ExternalProductDto> product = delegate.getProductById(id);
+        cache.put(id, product);
+        return product;
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalProductDto>> getProductByIdAsync(Integer id) {
+        Optional<ExternalProductDto> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return delegate.getProductByIdAsync(id).thenApply(product -> {
+            cache.put(id, product);
+            return product;
+        });
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsByIds(Collection<Integer> ids) {
+        return cache.getAll(ids, this::loadProducts).values().stream()
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private Map<Integer, Optional<ExternalProductDto>> loadProducts(Set<? extends Integer> ids) {
+        Map<Integer, Optional<ExternalProductDto>> products = new HashMap<>();
+        ids.forEach(id -> products.put(id, Optional.empty()));
+        delegate.getProductsByIds(List.copyOf(ids))
+                .forEach(product -> products.put(product.getId(), Optional.of(product)));
+        return products;
+    }
+}
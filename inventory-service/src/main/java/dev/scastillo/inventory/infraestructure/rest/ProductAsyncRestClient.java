@@ -0,0 +1,87 @@
+package dev.scastillo.inventory.infraestructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cliente no bloqueante de product-service: la solicitud se envia con {@link HttpClient#sendAsync}
+ * y ningun hilo queda esperando la respuesta.
+ */
+@Component
+public class ProductAsyncRestClient {
+    private final HttpClient httpClient;
+    private final ObjectReader productReader;
+    private final ProductValidatorCache productValidatorCache;
+
+    @Value("${product.api.base-url}")
+    private String productApiBaseUrl;
+
+    @Value("${product.api.api-key}")
+    private String apiKey;
+
+    @Value("${product.api.http.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    public ProductAsyncRestClient(HttpClient productAsyncHttpClient, ObjectMapper objectMapper,
+                                  ProductValidatorCache productValidatorCache) {
+        this.httpClient = productAsyncHttpClient;
+        this.productReader = objectMapper.readerFor(ExternalProductDto.class);
+        this.productValidatorCache = productValidatorCache;
+    }
+
+    public CompletableFuture<Optional<ExternalProductDto>> getProductById(Integer productId) {
+        ProductValidatorCache.Validated validated = productValidatorCache.get(productId);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(productApiBaseUrl + "/api/v1/products/" + productId))
+                .timeout(responseTimeout)
+                .header("X-API-KEY", apiKey)
+                .header("Accept", "application/json")
+                .GET();
+        if (validated != null && validated.eTag() != null) {
+            request.header("If-None-Match", validated.eTag());
+        } else if (validated != null) {
+            request.header("If-Modified-Since", validated.lastModified());
+        }
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new InternalServerException("No fue posible consultar el producto con id: " + productId);
+                    }
+                    return toProduct(productId, validated, response);
+                });
+    }
+
+    private Optional<ExternalProductDto> toProduct(Integer productId, ProductValidatorCache.Validated validated,
+                                                   HttpResponse<byte[]> response) {
+        if (response.statusCode() == 304 && validated != null) {
+            return Optional.of(productValidatorCache.notModified(validated));
+        }
+        if (response.statusCode() == 404) {
+            productValidatorCache.evict(productId);
+            return Optional.empty();
+        }
+        if (response.statusCode() != 200) {
+            throw new InternalServerException("No fue posible consultar el producto con id: " + productId);
+        }
+        try {
+            ExternalProductDto product = productReader.readValue(response.body());
+            productValidatorCache.store(productId, response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null), product);
+            return Optional.ofNullable(product);
+        } catch (IOException e) {
+            throw new InternalServerException("Respuesta inválida de product-service para el producto con id: " + productId);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.scastillo.inventory.infraestructure.rest;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Expiración por entrada del cache de productos: los productos encontrados viven {@code ttl}
+ * y las respuestas 404 (cache negativo) viven {@code negativeTtl}.
+ */
+public class ProductCacheExpiry implements Expiry<Integer, Optional<ExternalProductDto>> {
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    public ProductCacheExpiry(Duration ttl, Duration negativeTtl) {
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Integer key, Optional<ExternalProductDto> value, long currentTime) {
+        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Integer key, Optional<ExternalProductDto> value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Integer key, Optional<ExternalProductDto> value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
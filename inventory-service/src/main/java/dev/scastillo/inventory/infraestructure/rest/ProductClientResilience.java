@@ -0,0 +1,111 @@
+package dev.scastillo.inventory.infraestructure.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import dev.scastillo.inventory.shared.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Protege las llamadas a product-service: reintentos con backoff aleatorio, circuit breaker y un bulkhead
+ * que limita las llamadas en vuelo, en ese orden de afuera hacia adentro. Con el circuito abierto o el
+ * bulkhead lleno la llamada falla de inmediato con {@link ServiceUnavailableException} y no se reintenta.
+ * <p>
+ * Si el fallback esta activo, guarda la ultima version conocida de cada producto para responder con ella
+ * cuando product-service no esta disponible.
+ */
+public class ProductClientResilience {
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ScheduledExecutorService retryScheduler;
+    private final Cache<Integer, ExternalProductDto> lastKnownProducts;
+    private final Counter fallbackCounter;
+
+    public ProductClientResilience(Retry retry, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                   ScheduledExecutorService retryScheduler,
+                                   Cache<Integer, ExternalProductDto> lastKnownProducts, Counter fallbackCounter) {
+        this.retry = retry;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retryScheduler = retryScheduler;
+        this.lastKnownProducts = lastKnownProducts;
+        this.fallbackCounter = fallbackCounter;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        Supplier<T> protectedCall = Retry.decorateSupplier(retry,
+                CircuitBreaker.decorateSupplier(circuitBreaker,
+                        Bulkhead.decorateSupplier(bulkhead, call)));
+        try {
+            return protectedCall.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw unavailable(e);
+        }
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletionStage<T>> call) {
+        Supplier<CompletionStage<T>> protectedCall = Retry.decorateCompletionStage(retry, retryScheduler,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker,
+                        Bulkhead.decorateCompletionStage(bulkhead, call)));
+        return protectedCall.get().toCompletableFuture().exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+                return CompletableFuture.failedFuture(unavailable(cause));
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    public void remember(ExternalProductDto product) {
+        if (lastKnownProducts != null && product != null && product.getId() != null) {
+            lastKnownProducts.put(product.getId(), product);
+        }
+    }
+
+    public Optional<ExternalProductDto> lastKnown(Integer productId) {
+        if (lastKnownProducts == null) {
+            return Optional.empty();
+        }
+        Optional<ExternalProductDto> product = Optional.ofNullable(lastKnownProducts.getIfPresent(productId));
+        product.ifPresent(found -> fallbackCounter.increment());
+        return product;
+    }
+
+    /**
+     * Fallas atribuibles a product-service (red, timeouts, 5xx). Los 4xx son errores de la solicitud
+     * y no cuentan para el circuit breaker ni se reintentan.
+     */
+    public static boolean isDependencyFailure(Throwable error) {
+        return error instanceof InternalServerException
+                || (error instanceof RestClientException && !(error instanceof HttpClientErrorException));
+    }
+
+    /**
+     * Indica si ante este error se puede responder con la ultima version conocida del producto.
+     */
+    public static boolean allowsFallback(Throwable error) {
+        return error instanceof ServiceUnavailableException || isDependencyFailure(error);
+    }
+
+    private ServiceUnavailableException unavailable(Throwable cause) {
+        if (cause instanceof BulkheadFullException) {
+            return new ServiceUnavailableException("Demasiadas consultas simultáneas a product-service, intente nuevamente");
+        }
+        return new ServiceUnavailableException("product-service no está disponible temporalmente");
+    }
+}
@@ -0,0 +1,173 @@
+package dev.scastillo.inventory.infraestructure.rest;
+
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupa consultas de productos a product-service:
+ * <ul>
+ *     <li>Single-flight: las consultas concurrentes de un mismo id comparten una sola llamada y su resultado.</li>
+ *     <li>Micro-batching (opcional): los ids distintos que llegan dentro de {@code window} se piden en una sola
+ *     llamada por lotes de hasta {@code maxBatchSize} ids.</li>
+ * </ul>
+ * Las llamadas reales quedan en {@code product.client.backend.calls} y las consultas que se unieron a una
+ * llamada en curso en {@code product.client.coalesced.requests}.
+ */
+public class ProductLookupCoalescer implements AutoCloseable {
+    private final Map<Integer, CompletableFuture<Optional<ExternalProductDto>>> inFlight = new ConcurrentHashMap<>();
+    private final boolean batchingEnabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService batchExecutor;
+    private final ReentrantLock batchLock = new ReentrantLock();
+    private final Counter singleCalls;
+    private final Counter batchCalls;
+    private final Counter coalescedRequests;
+    private final DistributionSummary batchSizes;
+    private PendingBatch pendingBatch;
+
+    public ProductLookupCoalescer(boolean batchingEnabled, Duration window, int maxBatchSize, MeterRegistry meterRegistry) {
+        this.batchingEnabled = batchingEnabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = batchingEnabled
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("product-batch").daemon().factory())
+                : null;
+        // Las llamadas por lotes son bloqueantes; cada una corre en su propio hilo virtual
+        this.batchExecutor = batchingEnabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.singleCalls = meterRegistry.counter("product.client.backend.calls", "type", "single");
+        this.batchCalls = meterRegistry.counter("product.client.backend.calls", "type", "batch");
+        this.coalescedRequests = meterRegistry.counter("product.client.coalesced.requests");
+        this.batchSizes = DistributionSummary.builder("product.client.batch.size").register(meterRegistry);
+    }
+
+    /**
+     * Retorna el resultado del producto {@code id}, uniendose a la llamada en curso si ya existe una.
+     *
+     * @param singleLoader carga individual, usada cuando el micro-batching esta desactivado
+     * @param batchLoader  carga por lotes, usada cuando el micro-batching esta activo
+     */
+    public CompletableFuture<Optional<ExternalProductDto>> get(Integer id,
+                                                              Supplier<CompletableFuture<Optional<ExternalProductDto>>> singleLoader,
+                                                              Function<List<Integer>, List<ExternalProductDto>> batchLoader) {
+        CompletableFuture<Optional<ExternalProductDto>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<ExternalProductDto>> existing = inFlight.putIfAbsent(id, flight);
+        if (existing != null) {
+            coalescedRequests.increment();
+            // Copia para que un llamador no pueda completar ni cancelar el resultado compartido
+            return existing.copy();
+        }
+        flight.whenComplete((product, error) -> inFlight.remove(id, flight));
+
+        if (batchingEnabled) {
+            enqueue(id, flight, batchLoader);
+        } else {
+            singleCalls.increment();
+            load(singleLoader, flight);
+        }
+        return flight;
+    }
+
+    private void load(Supplier<CompletableFuture<Optional<ExternalProductDto>>> loader,
+                      CompletableFuture<Optional<ExternalProductDto>> flight) {
+        try {
+            loader.get().whenComplete((product, error) -> {
+                if (error != null) {
+                    flight.completeExceptionally(error);
+                } else {
+                    flight.complete(product);
+                }
+            });
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+        }
+    }
+
+    private void enqueue(Integer id, CompletableFuture<Optional<ExternalProductDto>> flight,
+                         Function<List<Integer>, List<ExternalProductDto>> batchLoader) {
+        PendingBatch ready = null;
+        batchLock.lock();
+        try {
+            if (pendingBatch == null) {
+                PendingBatch batch = new PendingBatch(batchLoader);
+                pendingBatch = batch;
+                scheduler.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+            pendingBatch.flights.put(id, flight);
+            if (pendingBatch.flights.size() >= maxBatchSize) {
+                ready = pendingBatch;
+                pendingBatch = null;
+            }
+        } finally {
+            batchLock.unlock();
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    private void flush(PendingBatch batch) {
+        batchLock.lock();
+        try {
+            // El lote pudo haberse despachado antes por llegar al tamano maximo
+            if (pendingBatch != batch) {
+                return;
+            }
+            pendingBatch = null;
+        } finally {
+            batchLock.unlock();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(PendingBatch batch) {
+        batchCalls.increment();
+        batchSizes.record(batch.flights.size());
+        batchExecutor.execute(() -> {
+            try {
+                Map<Integer, ExternalProductDto> products = batch.loader.apply(new ArrayList<>(batch.flights.keySet())).stream()
+                        .collect(Collectors.toMap(ExternalProductDto::getId, Function.identity(), (first, second) -> first));
+                batch.flights.forEach((id, flight) -> flight.complete(Optional.ofNullable(products.get(id))));
+            } catch (RuntimeException e) {
+                batch.flights.values().forEach(flight -> flight.completeExceptionally(e));
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            batchExecutor.shutdownNow();
+        }
+    }
+
+    private static final class PendingBatch {
+        private final Function<List<Integer>, List<ExternalProductDto>> loader;
+        private final Map<Integer, CompletableFuture<Optional<ExternalProductDto>>> flights = new LinkedHashMap<>();
+
+        private PendingBatch(Function<List<Integer>, List<ExternalProductDto>> loader) {
+            this.loader = loader;
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package dev.scastillo.inventory.infraestructure.rest;
 
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class ProductRestClient {
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final ParameterizedTypeReference<List<ExternalProductDto>> PRODUCT_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String SMILE_FORMAT = "smile";
+    // JSON queda como alternativa para instancias de product-service sin soporte de Smile
+    private static final String SMILE_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
     private final RestTemplate restTemplate;
+    private final ProductValidatorCache productValidatorCache;
 
     @Value("${product.api.base-url}")
     private String productApiBaseUrl;
@@ -22,25 +38,77 @@ public class ProductRestClient {
     @Value("${product.api.api-key}")
     private String apiKey;
 
-    public ProductRestClient(RestTemplate restTemplate) {
+    @Value("${product.api.format:json}")
+    private String format;
+
+    public ProductRestClient(RestTemplate restTemplate, ProductValidatorCache productValidatorCache) {
         this.restTemplate = restTemplate;
+        this.productValidatorCache = productValidatorCache;
     }
 
     public Optional<ExternalProductDto> getProductById(Integer productId) {
+        ProductValidatorCache.Validated validated = productValidatorCache.get(productId);
         try {
             String url = productApiBaseUrl + "/api/v1/products/" + productId;
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-API-KEY", apiKey);
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
             ResponseEntity<ExternalProductDto> response = restTemplate.exchange(
                     url,
                     HttpMethod.GET,
-                    entity,
+                    buildRequestEntity(validated),
                     ExternalProductDto.class
             );
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && validated != null) {
+                return Optional.of(productValidatorCache.notModified(validated));
+            }
+            HttpHeaders headers = response.getHeaders();
+            productValidatorCache.store(productId, headers.getFirst(HttpHeaders.ETAG),
+                    headers.getFirst(HttpHeaders.LAST_MODIFIED), response.getBody());
             return Optional.ofNullable(response.getBody());
         } catch (HttpClientErrorException.NotFound e) {
+            productValidatorCache.evict(productId);
             return Optional.empty();
+        } catch (ResourceAccessException e) {
+            throw new InternalServerException("No fue posible consultar el producto con id: " + productId);
+        }
+    }
+
+    public List<ExternalProductDto> getProductsByIds(Collection<Integer> productIds) {
+        List<Integer> ids = List.copyOf(productIds);
+        List<ExternalProductDto> products = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + MAX_BATCH_SIZE, ids.size()));
+            products.addAll(fetchProducts(chunk));
+        }
+        return products;
+    }
+
+    private List<ExternalProductDto> fetchProducts(List<Integer> productIds) {
+        try {
+            String url = productApiBaseUrl + "/api/v1/products?ids=" + productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            ResponseEntity<List<ExternalProductDto>> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    buildRequestEntity(null),
+                    PRODUCT_LIST_TYPE
+            );
+            return Optional.ofNullable(response.getBody()).orElse(List.of());
+        } catch (ResourceAccessException e) {
+            throw new InternalServerException("No fue posible consultar los productos con ids: " + productIds);
+        }
+    }
+
+    private HttpEntity<Void> buildRequestEntity(ProductValidatorCache.Validated validated) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-API-KEY", apiKey);
+        if (SMILE_FORMAT.equalsIgnoreCase(format)) {
+            headers.set(HttpHeaders.ACCEPT, SMILE_ACCEPT);
+        }
+        if (validated != null && validated.eTag() != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, validated.eTag());
+        } else if (validated != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validated.lastModified());
         }
+        return new HttpEntity<>(headers);
     }
 }
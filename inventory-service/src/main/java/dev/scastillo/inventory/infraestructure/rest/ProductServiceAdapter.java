@@ -3,18 +3,79 @@ package dev.scastillo.inventory.infraestructure.rest;
 import dev.scastillo.inventory.domain.service.ProductServicePort;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
 import lombok.AllArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Component
 @AllArgsConstructor
 public class ProductServiceAdapter implements ProductServicePort {
     private final ProductRestClient client;
+    private final ProductAsyncRestClient asyncClient;
+    private final ProductClientResilience resilience;
+    private final ProductLookupCoalescer coalescer;
+
     @Override
     public Optional<ExternalProductDto> getProductById(Integer id) {
-        return client.getProductById(id);
+        try {
+            // El hilo que inicia la llamada la ejecuta; los demas esperan su resultado
+            return coalescer.get(id, () -> CompletableFuture.completedFuture(fetchProduct(id)), this::fetchProducts).join();
+        } catch (RuntimeException e) {
+            return Optional.of(fallback(id, e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Optional<ExternalProductDto>> getProductByIdAsync(Integer id) {
+        return coalescer.get(id, () -> fetchProductAsync(id), this::fetchProducts)
+                .exceptionally(error -> Optional.of(fallback(id, error)));
+    }
+
+    @Override
+    public List<ExternalProductDto> getProductsByIds(Collection<Integer> ids) {
+        try {
+            return fetchProducts(ids);
+        } catch (RuntimeException e) {
+            // Sin la respuesta no se distingue un producto inexistente de uno sin version conocida: el fallback exige todos
+            return ids.stream().map(id -> fallback(id, e)).toList();
+        }
+    }
+
+    private Optional<ExternalProductDto> fetchProduct(Integer id) {
+        Optional<ExternalProductDto> product = resilience.execute(() -> client.getProductById(id));
+        product.ifPresent(resilience::remember);
+        return product;
+    }
+
+    private CompletableFuture<Optional<ExternalProductDto>> fetchProductAsync(Integer id) {
+        return resilience.executeAsync(() -> asyncClient.getProductById(id))
+                .thenApply(product -> {
+                    product.ifPresent(resilience::remember);
+                    return product;
+                });
+    }
+
+    private List<ExternalProductDto> fetchProducts(Collection<Integer> ids) {
+        List<ExternalProductDto> products = resilience.execute(() -> client.getProductsByIds(ids));
+        products.forEach(resilience::remember);
+        return products;
+    }
+
+    private ExternalProductDto fallback(Integer id, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Optional<ExternalProductDto> lastKnown = ProductClientResilience.allowsFallback(cause)
+                ? resilience.lastKnown(id)
+                : Optional.empty();
+        if (lastKnown.isPresent()) {
+            return lastKnown.get();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new CompletionException(cause);
     }
 }
@@ -0,0 +1,59 @@
+package dev.scastillo.inventory.infraestructure.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guarda el ultimo producto recibido de product-service junto con sus validadores (ETag y
+ * Last-Modified), para que la siguiente consulta sea condicional y, si el producto no cambio,
+ * se resuelva con un 304 sin cuerpo.
+ */
+@Component
+public class ProductValidatorCache {
+    private final boolean enabled;
+    private final Cache<Integer, Validated> entries;
+    private final Counter notModified;
+
+    public ProductValidatorCache(@Value("${product.api.conditional.enabled:true}") boolean enabled,
+                                 @Value("${product.api.conditional.maximum-size:10000}") long maximumSize,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.entries = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.notModified = meterRegistry.counter("product.client.not.modified");
+    }
+
+    public Validated get(Integer productId) {
+        return enabled ? entries.getIfPresent(productId) : null;
+    }
+
+    public void store(Integer productId, String eTag, String lastModified, ExternalProductDto product) {
+        if (!enabled || product == null || (eTag == null && lastModified == null)) {
+            entries.invalidate(productId);
+            return;
+        }
+        entries.put(productId, new Validated(eTag, lastModified, product));
+    }
+
+    public void evict(Integer productId) {
+        entries.invalidate(productId);
+    }
+
+    /**
+     * Retorna el producto guardado para un 304; null si no habia validadores para este producto.
+     */
+    public ExternalProductDto notModified(Validated validated) {
+        if (validated == null) {
+            return null;
+        }
+        notModified.increment();
+        return validated.product();
+    }
+
+    public record Validated(String eTag, String lastModified, ExternalProductDto product) {
+    }
+}
@@ -0,0 +1,117 @@
+package dev.scastillo.inventory.infraestructure.rollup;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reconstruye {@code purchase_daily_rollup} a partir de las compras existentes, por ejemplo al activar los
+ * acumulados sobre una base con historial. Corre una sola vez: al terminar deja una marca en
+ * {@code purchase_rollup_backfill} y los arranques siguientes no hacen nada.
+ * <p>
+ * Solo cuenta las compras con el stock aplicado; las pendientes las suma el lote que aplica su stock. Todo corre
+ * en una transaccion que en PostgreSQL bloquea la tabla de acumulados: las compras que terminan mientras tanto
+ * esperan para sumar sus ventas y ninguna queda contada dos veces ni perdida. Las lecturas van por id en lotes y
+ * se limpia el contexto de persistencia entre lotes para no acumular las compras en memoria.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.purchases.rollup.backfill.enabled", havingValue = "true")
+public class PurchaseRollupBackfillJob {
+    private static final String MARKER_TABLE = "purchase_rollup_backfill";
+    private static final String JOB_NAME = "purchase_daily_rollup";
+    // Evita que dos instancias recalculen a la vez
+    private static final long LOCK_KEY = 0x726f6c6cL;
+
+    private final PurchaseRepository purchaseRepository;
+    private final PurchaseRollupRepository purchaseRollupRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String schema;
+    private final int batchSize;
+
+    public PurchaseRollupBackfillJob(PurchaseRepository purchaseRepository,
+                                     PurchaseRollupRepository purchaseRollupRepository,
+                                     EntityManager entityManager,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${spring.jpa.properties.hibernate.default_schema:public}") String schema,
+                                     @Value("${inventory.purchases.rollup.backfill.batch-size:5000}") int batchSize) {
+        this.purchaseRepository = purchaseRepository;
+        this.purchaseRollupRepository = purchaseRollupRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schema = schema;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return numero de compras sumadas, o 0 si los acumulados ya se habian reconstruido
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public long backfill() {
+        jdbcTemplate.execute("create table if not exists " + table(MARKER_TABLE)
+                + " (job varchar(50) primary key, completed_at timestamp with time zone not null)");
+        return transactionTemplate.execute(status -> {
+            if (isPostgres()) {
+                jdbcTemplate.execute("select pg_advisory_xact_lock(" + LOCK_KEY + ")");
+                jdbcTemplate.execute("lock table " + table("purchase_daily_rollup") + " in exclusive mode");
+            }
+            if (isCompleted()) {
+                return 0L;
+            }
+            long processed = rebuild();
+            jdbcTemplate.update("insert into " + table(MARKER_TABLE) + " (job, completed_at) values (?, ?)",
+                    JOB_NAME, Timestamp.from(Instant.now()));
+            return processed;
+        });
+    }
+
+    private long rebuild() {
+        purchaseRollupRepository.deleteAll();
+        long processed = 0;
+        long lastId = 0;
+        List<Purchase> batch;
+        do {
+            batch = purchaseRepository.findStockAppliedAfter(lastId, batchSize);
+            purchaseRollupRepository.addSales(batch);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+                processed += batch.size();
+            }
+            entityManager.clear();
+        } while (batch.size() == batchSize);
+        return processed;
+    }
+
+    private boolean isCompleted() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from " + table(MARKER_TABLE) + " where job = ?",
+                Integer.class, JOB_NAME);
+        return count != null && count > 0;
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.getMetaData()
+                .getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql")));
+    }
+
+    private String table(String name) {
+        return schema + "." + name;
+    }
+}
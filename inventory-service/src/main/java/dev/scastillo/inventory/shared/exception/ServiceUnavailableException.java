@@ -0,0 +1,7 @@
+package dev.scastillo.inventory.shared.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.scastillo.inventory.integration.adapter.web.controller;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.infraestructure.rest.ProductAsyncRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "product.cache.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class InventoryControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @MockitoBean
+    private ProductAsyncRestClient productAsyncRestClient;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @BeforeEach
+    void setUp() {
+        productStockRepository.deleteAll();
+        productStockRepository.save(ProductStock.builder().productId(1).quantity(12).build());
+    }
+
+    @Test
+    void getProductsByIds_ShouldCombineProductsAndStock_WithOneProductServiceCall() throws Exception {
+        productStockRepository.save(ProductStock.builder().productId(2).quantity(5).build());
+        when(productRestClient.getProductsByIds(List.of(2, 1, 3))).thenReturn(List.of(
+                ExternalProductDto.builder().id(1).name("Producto A").build(),
+                ExternalProductDto.builder().id(2).name("Producto B").build(),
+                ExternalProductDto.builder().id(3).name("Producto C").build()));
+
+        mockMvc.perform(get("/api/v1/inventory/products").param("ids", "2,1,3").header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(2, 1, 3)))
+                .andExpect(jsonPath("$[*].stock").value(contains(5, 12, 0)));
+
+        verify(productRestClient, times(1)).getProductsByIds(List.of(2, 1, 3));
+    }
+
+    @Test
+    void getProductsPage_ShouldListStockedProductsAfterCursor() throws Exception {
+        for (int productId = 2; productId <= 4; productId++) {
+            productStockRepository.save(ProductStock.builder().productId(productId).quantity(productId * 10).build());
+        }
+        when(productRestClient.getProductsByIds(List.of(2, 3))).thenReturn(List.of(
+                ExternalProductDto.builder().id(2).name("Producto B").build(),
+                ExternalProductDto.builder().id(3).name("Producto C").build()));
+
+        mockMvc.perform(get("/api/v1/inventory/products").param("after", "1").param("limit", "2")
+                        .header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(2, 3)))
+                .andExpect(jsonPath("$[*].stock").value(contains(20, 30)));
+    }
+
+    @Test
+    void getProductsPage_ShouldReturnBadRequest_WhenLimitIsTooLarge() throws Exception {
+        mockMvc.perform(get("/api/v1/inventory/products").param("limit", "501").header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.message").value("El parámetro limit debe estar entre 1 y 500"));
+    }
+
+    @Test
+    void getProductById_ShouldCombineProductAndStock() throws Exception {
+        when(productAsyncRestClient.getProductById(1)).thenReturn(CompletableFuture.completedFuture(Optional.of(
+                ExternalProductDto.builder().id(1).name("Producto A").price(new BigDecimal("10.00")).build())));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/inventory/products/1").header("X-API-KEY", "test-api-key"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Producto A"))
+                .andExpect(jsonPath("$.stock").value(12));
+    }
+
+    @Test
+    void getProductById_ShouldReturnNotFound_WhenProductDoesNotExist() throws Exception {
+        when(productAsyncRestClient.getProductById(99)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/inventory/products/99").header("X-API-KEY", "test-api-key"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.message").value("Producto no encontrado id: 99"));
+    }
+
+    @Test
+    void getProductById_ShouldReturnInternalServerError_WhenProductServiceFails() throws Exception {
+        when(productAsyncRestClient.getProductById(1)).thenReturn(CompletableFuture.failedFuture(
+                new InternalServerException("No fue posible consultar el producto con id: 1")));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/inventory/products/1").header("X-API-KEY", "test-api-key"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error.message").value("No fue posible consultar el producto con id: 1"));
+    }
+}
@@ -0,0 +1,110 @@
+package dev.scastillo.inventory.integration.adapter.web.controller;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.infraestructure.rest.ProductAsyncRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "product.replication.enabled=true",
+        "product.replication.remote-fallback=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ProductEventControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductReplicaRepository productReplicaRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @MockitoBean
+    private ProductAsyncRestClient productAsyncRestClient;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productReplicaRepository.deleteAll();
+        productStockRepository.save(ProductStock.builder().productId(1).quantity(10).build());
+    }
+
+    @Test
+    void receiveEvents_ShouldReplicateProduct_AndPurchaseShouldNotCallProductService() throws Exception {
+        sendEvents("""
+                [{"eventId":1,"type":"CREATED","productId":1,"name":"Producto A","price":10.00,
+                  "description":"Descripción","updatedAt":"2025-01-01T10:00:00Z"}]
+                """);
+
+        mockMvc.perform(post("/api/v1/purchases")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":1,\"quantity\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productName").value("Producto A"));
+
+        verifyNoInteractions(productRestClient, productAsyncRestClient);
+    }
+
+    @Test
+    void receiveEvents_ShouldIgnoreOlderEvent_WhenItArrivesAfterNewerOne() throws Exception {
+        sendEvents("""
+                [{"eventId":2,"type":"UPDATED","productId":1,"name":"Producto A v2","price":12.00,
+                  "description":"Descripción","updatedAt":"2025-01-01T10:00:05Z"}]
+                """);
+        sendEvents("""
+                [{"eventId":1,"type":"CREATED","productId":1,"name":"Producto A","price":10.00,
+                  "description":"Descripción","updatedAt":"2025-01-01T10:00:00Z"}]
+                """);
+
+        ProductReplica replica = productReplicaRepository.findById(1).orElseThrow();
+        assertEquals("Producto A v2", replica.getName());
+        assertEquals(0, new BigDecimal("12.00").compareTo(replica.getPrice()));
+    }
+
+    @Test
+    void receiveEvents_ShouldRequireApiKey() throws Exception {
+        mockMvc.perform(post("/api/v1/product-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void sendEvents(String body) throws Exception {
+        mockMvc.perform(post("/api/v1/product-events")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent());
+    }
+}
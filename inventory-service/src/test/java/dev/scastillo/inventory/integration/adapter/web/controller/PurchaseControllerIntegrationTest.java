@@ -0,0 +1,115 @@
+package dev.scastillo.inventory.integration.adapter.web.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "product.cache.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PurchaseControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+    }
+
+    @Test
+    void getPurchaseHistory_ShouldWalkAllPagesOfOneProduct_WithoutRepeatingRows() throws Exception {
+        // Arrange: compras intercaladas de dos productos
+        List<Purchase> saved = purchaseRepository.saveAll(IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> purchase(i % 2 == 0 ? 1 : 2))
+                .toList());
+        List<Long> expected = saved.stream()
+                .filter(purchase -> purchase.getProductId() == 1)
+                .sorted((a, b) -> a.getPurchaseDate().isEqual(b.getPurchaseDate())
+                        ? a.getId().compareTo(b.getId())
+                        : a.getPurchaseDate().compareTo(b.getPurchaseDate()))
+                .map(Purchase::getId)
+                .toList();
+
+        // Act
+        List<Long> received = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/v1/purchases")
+                    .param("productId", "1")
+                    .param("limit", "2")
+                    .header("X-API-KEY", "test-api-key");
+            if (after != null) {
+                request.param("after", after);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> received.add(item.get("id").asLong()));
+            after = page.get("next").isNull() ? null : page.get("next").asText();
+            pages++;
+        } while (after != null);
+
+        // Assert
+        assertEquals(expected, received);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void getPurchaseHistory_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/v1/purchases")
+                        .param("productId", "1")
+                        .param("after", "x")
+                        .header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.message").value("El cursor after no es válido: x"));
+    }
+
+    @Test
+    void purchasesTable_ShouldHaveHistoryIndex() {
+        Integer indexes = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where upper(index_name) = 'IDX_PURCHASES_PRODUCT_DATE_ID'",
+                Integer.class);
+
+        assertEquals(1, indexes);
+    }
+
+    private Purchase purchase(Integer productId) {
+        return Purchase.builder()
+                .productId(productId)
+                .quantity(1)
+                .unitPrice(new BigDecimal("10.00"))
+                .totalPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package dev.scastillo.inventory.integration.application.service;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.infraestructure.repository.SpringDataPurchaseRepository;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "product.cache.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PurchaseBatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private SpringDataPurchaseRepository springDataPurchaseRepository;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productStockRepository.save(ProductStock.builder().productId(1).quantity(10).build());
+        productStockRepository.save(ProductStock.builder().productId(2).quantity(2).build());
+        when(productRestClient.getProductsByIds(anyCollection())).thenReturn(List.of(
+                ExternalProductDto.builder().id(1).name("Producto A").price(new BigDecimal("10.00")).build(),
+                ExternalProductDto.builder().id(2).name("Producto B").price(new BigDecimal("4.50")).build()));
+    }
+
+    @Test
+    void createPurchases_ShouldSaveEveryLine_WhenStockIsSufficient() throws Exception {
+        mockMvc.perform(post("/api/v1/purchases/batch")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"productId\":1,\"quantity\":3},{\"productId\":2,\"quantity\":2},{\"productId\":1,\"quantity\":1}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[1].productName").value("Producto B"))
+                .andExpect(jsonPath("$[1].totalPrice").value(9.00));
+
+        assertEquals(6, productStockRepository.findByProductId(1).orElseThrow().getQuantity());
+        assertEquals(0, productStockRepository.findByProductId(2).orElseThrow().getQuantity());
+        assertEquals(3, springDataPurchaseRepository.count());
+        verify(productRestClient, times(1)).getProductsByIds(anyCollection());
+        verify(productRestClient, never()).getProductById(anyInt());
+    }
+
+    @Test
+    void createPurchases_ShouldRollbackEveryLine_WhenAnyLineHasInsufficientStock() throws Exception {
+        mockMvc.perform(post("/api/v1/purchases/batch")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"productId\":1,\"quantity\":3},{\"productId\":2,\"quantity\":5}]}"))
+                .andExpect(status().isConflict());
+
+        assertEquals(10, productStockRepository.findByProductId(1).orElseThrow().getQuantity());
+        assertEquals(2, productStockRepository.findByProductId(2).orElseThrow().getQuantity());
+        assertEquals(0, springDataPurchaseRepository.count());
+    }
+}
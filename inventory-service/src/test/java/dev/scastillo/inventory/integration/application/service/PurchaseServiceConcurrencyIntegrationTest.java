@@ -0,0 +1,97 @@
+package dev.scastillo.inventory.integration.application.service;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.infraestructure.repository.SpringDataPurchaseRepository;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "product.cache.enabled=false")
+@ActiveProfiles("test")
+public class PurchaseServiceConcurrencyIntegrationTest {
+    private static final int PRODUCT_ID = 1;
+    private static final int INITIAL_STOCK = 100;
+    private static final int PURCHASES = 300;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private SpringDataPurchaseRepository springDataPurchaseRepository;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productStockRepository.save(ProductStock.builder().productId(PRODUCT_ID).quantity(INITIAL_STOCK).build());
+        when(productRestClient.getProductById(PRODUCT_ID)).thenReturn(Optional.of(ExternalProductDto.builder()
+                .id(PRODUCT_ID)
+                .name("Producto concurrente")
+                .price(new BigDecimal("10.00"))
+                .build()));
+    }
+
+    @Test
+    void createPurchase_ShouldNeverOversell_WhenPurchasesRunConcurrently() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < PURCHASES; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    purchaseService.createPurchase(PRODUCT_ID, 1);
+                    accepted.incrementAndGet();
+                } catch (ConflictException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(INITIAL_STOCK, accepted.get());
+        assertEquals(PURCHASES - INITIAL_STOCK, rejected.get());
+        assertEquals(0, productStockRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity());
+        assertEquals(INITIAL_STOCK, springDataPurchaseRepository.count());
+    }
+}
@@ -0,0 +1,66 @@
+package dev.scastillo.inventory.integration.infraestructure.partition;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.infraestructure.partition.PurchasePartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "product.cache.enabled=false")
+@ActiveProfiles("test")
+public class PurchasePartitionManagerIntegrationTest {
+
+    @Autowired
+    private PurchasePartitionManager partitionManager;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+        jdbcTemplate.execute("drop table if exists purchases_archive");
+    }
+
+    @Test
+    void archive_ShouldMoveExpiredPurchasesToArchiveTable_WhenDatabaseIsH2() {
+        // Arrange
+        List<Purchase> saved = purchaseRepository.saveAll(List.of(purchase(), purchase()));
+        Long expiredId = saved.get(0).getId();
+        jdbcTemplate.update("update purchases set purchase_date = ? where id = ?",
+                Timestamp.from(OffsetDateTime.now().minusYears(3).toInstant()), expiredId);
+
+        // Act
+        List<String> archived = partitionManager.archive();
+
+        // Assert
+        assertEquals(List.of("purchases_archive"), archived);
+        assertTrue(purchaseRepository.findById(expiredId).isEmpty());
+        assertTrue(purchaseRepository.findById(saved.get(1).getId()).isPresent());
+        assertEquals(List.of(expiredId), jdbcTemplate.queryForList("select id from purchases_archive", Long.class));
+        assertTrue(partitionManager.createPartitions().isEmpty());
+    }
+
+    private Purchase purchase() {
+        return Purchase.builder()
+                .productId(1)
+                .quantity(1)
+                .unitPrice(new BigDecimal("10.00"))
+                .totalPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
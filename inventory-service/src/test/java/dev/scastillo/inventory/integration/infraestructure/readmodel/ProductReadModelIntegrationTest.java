@@ -0,0 +1,136 @@
+package dev.scastillo.inventory.integration.infraestructure.readmodel;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.infraestructure.readmodel.ProductDetailReadModel;
+import dev.scastillo.inventory.infraestructure.rest.ProductAsyncRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "product.cache.enabled=false",
+        "product.replication.enabled=true",
+        "product.replication.remote-fallback=false",
+        "inventory.read-model.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ProductReadModelIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductDetailReadModel productDetailReadModel;
+
+    @Autowired
+    private ProductReplicaRepository productReplicaRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @MockitoBean
+    private ProductAsyncRestClient productAsyncRestClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        purchaseRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productReplicaRepository.deleteAll();
+        productStockRepository.save(ProductStock.builder().productId(1).quantity(10).build());
+        sendEvent("CREATED", "Producto A", "2025-01-01T10:00:00Z");
+    }
+
+    @Test
+    void getProductById_ShouldFollowPurchasesStockUpdatesAndProductEvents() throws Exception {
+        getProduct().andExpect(jsonPath("$.stock").value(10));
+
+        mockMvc.perform(post("/api/v1/purchases")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":1,\"quantity\":2}"))
+                .andExpect(status().isOk());
+        assertEquals(8, productDetailReadModel.get(1).orElseThrow().getStock());
+
+        mockMvc.perform(patch("/api/v1/inventory/products/1/stock")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\":20}"))
+                .andExpect(status().isOk());
+        sendEvent("UPDATED", "Producto A v2", "2025-01-01T10:00:05Z");
+
+        getProduct()
+                .andExpect(jsonPath("$.name").value("Producto A v2"))
+                .andExpect(jsonPath("$.stock").value(20));
+        verifyNoInteractions(productRestClient, productAsyncRestClient);
+    }
+
+    @Test
+    void checkConsistency_ShouldReportAndRepairEntryChangedOutsideService() throws Exception {
+        getProduct().andExpect(jsonPath("$.stock").value(10));
+        checkConsistency()
+                .andExpect(jsonPath("$.checked").value(1))
+                .andExpect(jsonPath("$.mismatched").value(0));
+
+        jdbcTemplate.update("update product_stock set quantity = 99 where product_id = 1");
+
+        checkConsistency()
+                .andExpect(jsonPath("$.mismatched").value(1))
+                .andExpect(jsonPath("$.productIds").value(contains(1)));
+        getProduct().andExpect(jsonPath("$.stock").value(99));
+    }
+
+    private ResultActions getProduct() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/inventory/products/1").header("X-API-KEY", "test-api-key"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    private ResultActions checkConsistency() throws Exception {
+        return mockMvc.perform(get("/api/v1/inventory/read-model/consistency").header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isOk());
+    }
+
+    private void sendEvent(String type, String name, String updatedAt) throws Exception {
+        mockMvc.perform(post("/api/v1/product-events")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"eventId\":1,\"type\":\"" + type + "\",\"productId\":1,\"name\":\"" + name
+                                + "\",\"price\":10.00,\"description\":\"Descripción\",\"updatedAt\":\"" + updatedAt + "\"}]"))
+                .andExpect(status().isNoContent());
+    }
+}
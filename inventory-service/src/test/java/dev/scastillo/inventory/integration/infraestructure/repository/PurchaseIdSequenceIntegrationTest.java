@@ -0,0 +1,69 @@
+package dev.scastillo.inventory.integration.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:purchasesequence;DB_CLOSE_DELAY=-1;INIT=CREATE SEQUENCE IF NOT EXISTS purchases_seq INCREMENT BY 20",
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+public class PurchaseIdSequenceIntegrationTest {
+    private static final int PURCHASES = 30;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purchasesSequence_ShouldKeepDatabaseIncrement_AsAllocationSize() {
+        Long increment = jdbcTemplate.queryForObject(
+                "select increment from information_schema.sequences where lower(sequence_name) = 'purchases_seq'", Long.class);
+
+        assertEquals(20L, increment);
+    }
+
+    @Test
+    void saveAll_ShouldBatchInserts_WhenIdsComeFromPooledSequence() {
+        List<Purchase> purchases = new ArrayList<>();
+        for (int i = 0; i < PURCHASES; i++) {
+            purchases.add(Purchase.builder()
+                    .productId(1)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.TEN)
+                    .totalPrice(BigDecimal.TEN)
+                    .build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Purchase> saved = purchaseRepository.saveAll(purchases);
+
+        assertEquals(PURCHASES, saved.stream().map(Purchase::getId).distinct().count());
+        assertEquals(PURCHASES, statistics.getEntityInsertCount());
+        // 2 llamadas a la secuencia (bloques de 20) y un solo statement preparado para el lote de inserts
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Statements preparados: " + statistics.getPrepareStatementCount());
+    }
+}
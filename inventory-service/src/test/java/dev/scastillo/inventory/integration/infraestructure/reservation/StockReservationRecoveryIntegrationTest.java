@@ -0,0 +1,171 @@
+package dev.scastillo.inventory.integration.infraestructure.reservation;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import dev.scastillo.inventory.domain.service.ProductStockService;
+import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.infraestructure.repository.SpringDataPurchaseRepository;
+import dev.scastillo.inventory.infraestructure.reservation.InMemoryStockReservationEngine;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "product.cache.enabled=false",
+        "inventory.reservation.enabled=true",
+        "inventory.reservation.flush-interval=1h"
+})
+@ActiveProfiles("test")
+public class StockReservationRecoveryIntegrationTest {
+    private static final int PRODUCT_ID = 7;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private InMemoryStockReservationEngine engine;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private PurchaseRollupRepository purchaseRollupRepository;
+
+    @Autowired
+    private SpringDataPurchaseRepository springDataPurchaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @BeforeEach
+    void setUp() {
+        engine.flush();
+        purchaseRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productStockRepository.save(ProductStock.builder().productId(PRODUCT_ID).quantity(10).build());
+        engine.reconcile();
+        when(productRestClient.getProductById(PRODUCT_ID)).thenReturn(Optional.of(ExternalProductDto.builder()
+                .id(PRODUCT_ID)
+                .name("Producto reservado")
+                .price(new BigDecimal("5.00"))
+                .build()));
+    }
+
+    @Test
+    void reconcile_ShouldNotOversell_WhenEngineRestartsWithUnflushedPurchases() {
+        for (int i = 0; i < 6; i++) {
+            purchaseService.createPurchase(PRODUCT_ID, 1);
+        }
+        assertEquals(10, productStockRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity());
+
+        // Simula una caída: los contadores en memoria se pierden y un nuevo motor arranca
+        InMemoryStockReservationEngine restarted = new InMemoryStockReservationEngine(
+                productStockRepository, purchaseRepository, purchaseRollupRepository, transactionManager, 1000);
+        restarted.reconcile();
+
+        assertEquals(4, productStockRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity());
+        assertTrue(restarted.tryReserve(PRODUCT_ID, 4));
+        assertFalse(restarted.tryReserve(PRODUCT_ID, 1));
+    }
+
+    @Test
+    void tryReserve_ShouldNotOversell_WhenCounterIsRebuiltBeforeFlush() {
+        for (int i = 0; i < 8; i++) {
+            purchaseService.createPurchase(PRODUCT_ID, 1);
+        }
+
+        InMemoryStockReservationEngine restarted = new InMemoryStockReservationEngine(
+                productStockRepository, purchaseRepository, purchaseRollupRepository, transactionManager, 1000);
+
+        assertTrue(restarted.tryReserve(PRODUCT_ID, 2));
+        assertFalse(restarted.tryReserve(PRODUCT_ID, 1));
+    }
+
+    @Test
+    void updateProductStock_ShouldNotOversell_WhenPurchasesAreInFlight() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            if (i == 20) {
+                futures.add(executor.submit(() -> productStockService.updateProductStock(PRODUCT_ID, 30)));
+            }
+            futures.add(executor.submit(() -> {
+                try {
+                    purchaseService.createPurchase(PRODUCT_ID, 1);
+                } catch (ConflictException e) {
+                    // sin stock
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        engine.flush();
+
+        int remaining = productStockRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity();
+        assertTrue(remaining >= 0);
+        assertTrue(engine.tryReserve(PRODUCT_ID, remaining));
+        assertFalse(engine.tryReserve(PRODUCT_ID, 1));
+    }
+
+    @Test
+    void createPurchase_ShouldReturnReservation_WhenInsertFailsAtCommit() {
+        // El precio excede la precision de la columna: el insert en lote falla al confirmar, no en save()
+        when(productRestClient.getProductById(PRODUCT_ID)).thenReturn(Optional.of(ExternalProductDto.builder()
+                .id(PRODUCT_ID)
+                .name("Producto reservado")
+                .price(new BigDecimal("100000000000.00"))
+                .build()));
+
+        assertThrows(RuntimeException.class, () -> purchaseService.createPurchase(PRODUCT_ID, 4));
+
+        assertEquals(0, springDataPurchaseRepository.count());
+        assertTrue(engine.tryReserve(PRODUCT_ID, 10));
+        assertFalse(engine.tryReserve(PRODUCT_ID, 1));
+    }
+
+    @Test
+    void createPurchase_ShouldRejectAndFlushInBatches_WhenStockIsExhausted() {
+        for (int i = 0; i < 10; i++) {
+            purchaseService.createPurchase(PRODUCT_ID, 1);
+        }
+        assertThrows(ConflictException.class, () -> purchaseService.createPurchase(PRODUCT_ID, 1));
+
+        engine.flush();
+
+        assertEquals(0, productStockRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity());
+        assertEquals(10, springDataPurchaseRepository.count());
+        assertEquals(0, purchaseRepository.findPendingStock(100).size());
+    }
+}
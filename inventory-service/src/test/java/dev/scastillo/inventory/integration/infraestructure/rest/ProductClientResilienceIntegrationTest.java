@@ -0,0 +1,82 @@
+package dev.scastillo.inventory.integration.infraestructure.rest;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "product.cache.enabled=false",
+        "product.resilience.circuit-breaker.sliding-window-size=2",
+        "product.resilience.circuit-breaker.minimum-calls=2",
+        "product.resilience.circuit-breaker.open-duration=1m",
+        "product.resilience.retry.max-attempts=2",
+        "product.resilience.retry.initial-backoff=1ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ProductClientResilienceIntegrationTest {
+    private static final String PURCHASE = "{\"productId\":1,\"quantity\":1}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @MockitoBean
+    private ProductRestClient productRestClient;
+
+    @BeforeEach
+    void setUp() {
+        productStockRepository.save(ProductStock.builder().productId(1).quantity(10).build());
+    }
+
+    @Test
+    void createPurchase_ShouldFailFastWithServiceUnavailable_WhenCircuitOpens() throws Exception {
+        when(productRestClient.getProductById(anyInt()))
+                .thenThrow(new InternalServerException("No fue posible consultar el producto con id: 1"));
+
+        // Un solo intento con reintento ya llena la ventana de 2 llamadas fallidas
+        mockMvc.perform(post("/api/v1/purchases")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PURCHASE))
+                .andExpect(status().isInternalServerError());
+
+        mockMvc.perform(post("/api/v1/purchases")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PURCHASE))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error.message").value("product-service no está disponible temporalmente"));
+
+        verify(productRestClient, times(2)).getProductById(1);
+        assertEquals(1.0, meterRegistry.get("product.client.circuitbreaker.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.not.permitted.calls")
+                .tag("name", "product-service").counter().count());
+    }
+}
@@ -0,0 +1,92 @@
+package dev.scastillo.inventory.integration.infraestructure.rollup;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.domain.service.dto.PurchaseStats;
+import dev.scastillo.inventory.infraestructure.rollup.PurchaseRollupBackfillJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "product.cache.enabled=false",
+        "inventory.purchases.rollup.backfill.enabled=true",
+        "inventory.purchases.rollup.backfill.batch-size=2"
+})
+@ActiveProfiles("test")
+public class PurchaseRollupBackfillJobIntegrationTest {
+
+    @Autowired
+    private PurchaseRollupBackfillJob backfillJob;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private PurchaseRollupRepository purchaseRollupRepository;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+        purchaseRollupRepository.deleteAll();
+        // El proceso ya corrio al arrancar el contexto
+        jdbcTemplate.update("delete from purchase_rollup_backfill");
+    }
+
+    @Test
+    void backfill_ShouldRebuildDailyRollups_AndLaterSalesShouldIncrementThem() {
+        // Arrange: 2025-08-02T03:00Z todavia es 1 de agosto en Bogota
+        purchaseRepository.saveAll(List.of(
+                purchase(2, "2025-08-01T15:00:00Z"),
+                purchase(3, "2025-08-02T03:00:00Z"),
+                purchase(1, "2025-08-02T15:00:00Z")));
+        // Pendiente de aplicar: la suma el lote que aplica su stock, no la reconstruccion
+        Purchase pending = purchase(7, "2025-08-02T15:30:00Z");
+        pending.setStockApplied(false);
+        purchaseRepository.save(pending);
+
+        // Act
+        long processed = backfillJob.backfill();
+        purchaseRollupRepository.addSales(List.of(purchase(4, "2025-08-02T16:00:00Z")));
+
+        // Assert
+        assertEquals(3, processed);
+        assertEquals(0, backfillJob.backfill(), "Solo debe correr una vez");
+        PurchaseStats stats = purchaseService.getPurchaseStats(1, LocalDate.parse("2025-08-01"), LocalDate.parse("2025-08-31"));
+        assertEquals(10L, stats.getUnits());
+        assertEquals(0, new BigDecimal("100.00").compareTo(stats.getRevenue()));
+        assertEquals(4L, stats.getPurchases());
+        assertEquals(2, stats.getDays().size());
+        assertEquals(5L, stats.getDays().get(0).getUnits());
+        assertEquals(5L, stats.getDays().get(1).getUnits());
+    }
+
+    private Purchase purchase(int quantity, String purchaseDate) {
+        BigDecimal unitPrice = new BigDecimal("10.00");
+        return Purchase.builder()
+                .productId(1)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .totalPrice(unitPrice.multiply(BigDecimal.valueOf(quantity)))
+                .purchaseDate(OffsetDateTime.parse(purchaseDate))
+                .build();
+    }
+}
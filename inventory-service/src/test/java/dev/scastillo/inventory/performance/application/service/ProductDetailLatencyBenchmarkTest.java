@@ -0,0 +1,196 @@
+package dev.scastillo.inventory.performance.application.service;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.scastillo.inventory.application.service.ProductStockServiceImpl;
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.domain.service.ProductStockService;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
+import dev.scastillo.inventory.infraestructure.readmodel.ProductDetailReadModel;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductStockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compara la latencia de {@code getDetailProductById} consultando producto y stock uno tras otro contra
+ * las dos consultas en paralelo. product-service es un stub local con {@value #PRODUCT_DELAY_MS} ms de espera
+ * y la lectura de stock agrega {@value #STOCK_DELAY_MS} ms. Tambien compara el camino actual contra el
+ * modelo de lectura en memoria. Ejecutar con {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductDetailLatencyBenchmarkTest {
+    private static final long PRODUCT_DELAY_MS = 30;
+    private static final long STOCK_DELAY_MS = 20;
+    private static final int PRODUCTS = 20;
+    private static final int THREADS = 4;
+    private static final int REQUESTS_PER_THREAD = 100;
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private ProductServicePort productServicePort;
+
+    @Autowired
+    private StockReservationPort stockReservationPort;
+
+    @Autowired
+    @Qualifier("inventoryIoExecutor")
+    private Executor inventoryIoExecutor;
+
+    @DynamicPropertySource
+    static void productApi(DynamicPropertyRegistry registry) {
+        registry.add("product.api.base-url", () -> "http://localhost:" + STUB.getAddress().getPort());
+        registry.add("product.cache.enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        productStockRepository.deleteAll();
+        for (int id = 1; id <= PRODUCTS; id++) {
+            productStockRepository.save(ProductStock.builder().productId(id).quantity(100).build());
+        }
+    }
+
+    @Test
+    void getDetailProductById_ShouldReportLatency_SequentialVersusConcurrent() throws Exception {
+        ProductStockRepository slowRepository = slowStockRepository();
+        ProductStockService sequential = new ProductStockServiceImpl(slowRepository, productServicePort,
+                stockReservationPort, Runnable::run, TransactionOperations.withoutTransaction());
+        ProductStockService concurrent = new ProductStockServiceImpl(slowRepository, productServicePort,
+                stockReservationPort, inventoryIoExecutor, TransactionOperations.withoutTransaction());
+
+        run("warm-up", concurrent);
+        long[] baseline = run("secuencial", sequential);
+        long[] parallel = run("en paralelo", concurrent);
+
+        assertTrue(percentile(parallel, 0.50) < percentile(baseline, 0.50),
+                "La consulta en paralelo deberia reducir la latencia p50");
+    }
+
+    @Test
+    void getDetailProductById_ShouldReportLatency_CurrentPathVersusReadModel() throws Exception {
+        ProductStockService current = new ProductStockServiceImpl(slowStockRepository(), productServicePort,
+                stockReservationPort, inventoryIoExecutor, TransactionOperations.withoutTransaction());
+        ProductStockService readModel = new ReadModelProductStockService(current, new ProductDetailReadModel(Duration.ofMinutes(5), PRODUCTS),
+                new SimpleMeterRegistry());
+
+        run("warm-up modelo de lectura", readModel);
+        long[] baseline = run("camino actual", current);
+        long[] fromReadModel = run("modelo de lectura", readModel);
+
+        assertTrue(percentile(fromReadModel, 0.50) < percentile(baseline, 0.50),
+                "El modelo de lectura deberia reducir la latencia p50");
+    }
+
+    private ProductStockRepository slowStockRepository() {
+        ProductStockRepository slow = mock(ProductStockRepository.class);
+        when(slow.findByProductId(anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(STOCK_DELAY_MS);
+            return productStockRepository.findByProductId(invocation.getArgument(0));
+        });
+        return slow;
+    }
+
+    private long[] run(String label, ProductStockService service) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            Callable<long[]> worker = () -> {
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    service.getDetailProductById(i % PRODUCTS + 1);
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            };
+            futures.add(executor.submit(worker));
+        }
+        long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(all);
+        System.out.printf("[%s] requests=%d throughput=%.0f req/s p50=%.3f ms p99=%.3f ms max=%.3f ms%n",
+                label, all.length, all.length / (elapsed / 1e9),
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+            server.createContext("/api/v1/products/", exchange -> {
+                String id = exchange.getRequestURI().getPath().substring("/api/v1/products/".length());
+                try {
+                    Thread.sleep(PRODUCT_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = ("{\"id\":" + id + ",\"name\":\"Producto " + id
+                        + "\",\"price\":10.00,\"description\":\"Stub\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newFixedThreadPool(64));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
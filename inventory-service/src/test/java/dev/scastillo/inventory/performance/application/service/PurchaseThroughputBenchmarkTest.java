@@ -0,0 +1,153 @@
+package dev.scastillo.inventory.performance.application.service;
+
+import dev.scastillo.inventory.application.service.PurchaseServiceImpl;
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mide compras por segundo de {@code createPurchase} con cada operacion en su propia transaccion
+ * (comportamiento anterior) contra la reserva y el insert en una sola transaccion, y con muchas compras
+ * concurrentes sobre un mismo producto con stock escaso. Usa H2 en modo PostgreSQL. Ejecutar con {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest(properties = {
+        "product.cache.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:purchasebench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+public class PurchaseThroughputBenchmarkTest {
+    private static final int PRODUCTS = 50;
+    private static final int THREADS = 8;
+    private static final int PURCHASES_PER_THREAD = 1000;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private StockReservationPort stockReservationPort;
+
+    @Autowired
+    private PurchaseRollupRepository purchaseRollupRepository;
+
+    @MockitoBean
+    private ProductServicePort productServicePort;
+
+    @BeforeEach
+    void setUp() {
+        purchaseRepository.deleteAll();
+        productStockRepository.deleteAll();
+        for (int id = 1; id <= PRODUCTS; id++) {
+            productStockRepository.save(ProductStock.builder().productId(id).quantity(1_000_000).build());
+        }
+        when(productServicePort.getProductById(anyInt())).thenAnswer(invocation -> Optional.of(ExternalProductDto.builder()
+                .id(invocation.getArgument(0))
+                .name("Producto benchmark")
+                .price(new BigDecimal("10.00"))
+                .build()));
+    }
+
+    @Test
+    void createPurchase_ShouldReportThroughput_WithAndWithoutSingleTransaction() throws Exception {
+        PurchaseService perOperation = new PurchaseServiceImpl(purchaseRepository, productServicePort,
+                productStockRepository, stockReservationPort, TransactionOperations.withoutTransaction(),
+                purchaseRollupRepository);
+
+        run("warm-up", purchaseService);
+        run("transaccion por operacion", perOperation);
+        run("transaccion unica", purchaseService);
+
+        int purchases = 3 * THREADS * PURCHASES_PER_THREAD;
+        long remaining = productStockRepository.findAll().stream().mapToLong(ProductStock::getQuantity).sum();
+        assertEquals((long) PRODUCTS * 1_000_000 - purchases, remaining);
+    }
+
+    @Test
+    void createPurchase_ShouldReportThroughput_WhenPurchasesContendForOneProduct() throws Exception {
+        int productId = PRODUCTS + 1;
+        int initialStock = 500;
+        int purchases = 2000;
+        productStockRepository.save(ProductStock.builder().productId(productId).quantity(initialStock).build());
+
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < purchases; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    purchaseService.createPurchase(productId, 1);
+                    accepted.incrementAndGet();
+                } catch (ConflictException e) {
+                    // Sin stock
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        System.out.printf("[contencion] compras=%d tiempo=%.0f ms throughput=%.0f compras/s%n",
+                purchases, elapsed / 1e6, purchases / (elapsed / 1e9));
+
+        assertEquals(initialStock, accepted.get());
+        assertEquals(0, productStockRepository.findByProductId(productId).orElseThrow().getQuantity());
+    }
+
+    private void run(String label, PurchaseService service) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < PURCHASES_PER_THREAD; i++) {
+                    service.createPurchase((thread * PURCHASES_PER_THREAD + i) % PRODUCTS + 1, 1);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        int purchases = THREADS * PURCHASES_PER_THREAD;
+        System.out.printf("[%s] compras=%d tiempo=%.0f ms throughput=%.0f compras/s%n",
+                label, purchases, elapsed / 1e6, purchases / (elapsed / 1e9));
+    }
+}
@@ -0,0 +1,101 @@
+package dev.scastillo.inventory.performance.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.domain.service.dto.PurchaseHistoryPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latencia por pagina del historial de compras de un producto sobre una tabla de 10M filas
+ * (configurable con {@code -Dpurchase.history.rows}). Compara el cursor {@code (purchaseDate, id)}
+ * contra OFFSET a distintas profundidades. Usa H2 en archivo y modo PostgreSQL.
+ * Ejecutar con {@code mvn test -Pperformance -Dtest=PurchaseHistoryPageBenchmarkTest}.
+ */
+@Tag("performance")
+@SpringBootTest(properties = {
+        "product.cache.enabled=false",
+        "spring.datasource.url=jdbc:h2:file:./target/h2/purchasehistory;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;QUERY_CACHE_SIZE=0"
+})
+@ActiveProfiles("test")
+public class PurchaseHistoryPageBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("purchase.history.rows", 10_000_000);
+    private static final int INSERT_CHUNK = 250_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int REPETITIONS = 200;
+    private static final Instant BASE_DATE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate table purchases");
+        // Una de cada 10 compras es del producto 1 (ids multiplos de 10); el resto se reparte en 1000 productos
+        for (int from = 1; from <= ROWS; from += INSERT_CHUNK) {
+            jdbcTemplate.update("insert into purchases (id, product_id, quantity, unit_price, total_price, purchase_date, stock_applied) "
+                    + "select x, case when mod(x, 10) = 0 then 1 else mod(x, 1000) + 2 end, 1, 10.00, 10.00, "
+                    + "dateadd('SECOND', x, timestamp with time zone '2024-01-01 00:00:00+00'), true "
+                    + "from (select * from system_range(?, ?)) r(x)", from, Math.min(from + INSERT_CHUNK - 1, ROWS));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("truncate table purchases");
+    }
+
+    @Test
+    void getPurchaseHistory_ShouldKeepPageLatency_WhenPagingDeep() {
+        int productRows = ROWS / 10;
+        for (double depth : new double[]{0, 0.5, 0.99}) {
+            int offset = (int) (productRows * depth);
+            long lastId = offset * 10L;
+
+            // Warm-up
+            keysetPage(lastId);
+            offsetPage(offset);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < REPETITIONS; i++) {
+                assertEquals(PAGE_SIZE, keysetPage(lastId).getItems().size());
+            }
+            double keysetMicros = (System.nanoTime() - start) / 1e3 / REPETITIONS;
+
+            int offsetRepetitions = Math.max(1, REPETITIONS / 20);
+            start = System.nanoTime();
+            for (int i = 0; i < offsetRepetitions; i++) {
+                assertEquals(PAGE_SIZE, offsetPage(offset).size());
+            }
+            double offsetMicros = (System.nanoTime() - start) / 1e3 / offsetRepetitions;
+
+            System.out.printf("[filas=%d profundidad=%d] cursor=%.0f us/pagina offset=%.0f us/pagina%n",
+                    ROWS, offset, keysetMicros, offsetMicros);
+        }
+    }
+
+    private PurchaseHistoryPage keysetPage(long lastId) {
+        String after = lastId == 0 ? null
+                : ChronoUnit.MICROS.between(Instant.EPOCH, BASE_DATE.plusSeconds(lastId)) + "_" + lastId;
+        return purchaseService.getPurchaseHistory(1, null, null, after, PAGE_SIZE);
+    }
+
+    private List<Long> offsetPage(int offset) {
+        return jdbcTemplate.queryForList("select id from purchases where product_id = 1 "
+                + "order by purchase_date, id limit ? offset ?", Long.class, PAGE_SIZE, offset);
+    }
+}
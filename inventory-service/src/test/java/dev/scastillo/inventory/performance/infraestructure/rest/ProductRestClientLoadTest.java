@@ -0,0 +1,144 @@
+package dev.scastillo.inventory.performance.infraestructure.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductValidatorCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara la latencia de {@link ProductRestClient} usando el RestTemplate con pool de conexiones
+ * contra un RestTemplate sin pool, frente a un product-service simulado en local.
+ * Ejecutar con {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductRestClientLoadTest {
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 2000;
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @DynamicPropertySource
+    static void productApi(DynamicPropertyRegistry registry) {
+        registry.add("product.api.base-url", () -> "http://localhost:" + STUB.getAddress().getPort());
+        registry.add("product.cache.enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void getProductById_ShouldReportLatency_WithAndWithoutConnectionPool() throws Exception {
+        RestTemplate unpooled = new RestTemplate(new SimpleClientHttpRequestFactory());
+
+        run("warm-up sin pool", unpooled);
+        run("warm-up con pool", restTemplate);
+        long[] baseline = run("sin pool", unpooled);
+        long[] pooled = run("con pool", restTemplate);
+
+        assertEquals(THREADS * REQUESTS_PER_THREAD, baseline.length);
+        assertEquals(THREADS * REQUESTS_PER_THREAD, pooled.length);
+    }
+
+    private long[] run(String label, RestTemplate template) throws Exception {
+        // Sin validadores: cada solicitud debe ir completa a product-service para medir el pool de conexiones
+        ProductRestClient client = new ProductRestClient(template, new ProductValidatorCache(false, 0, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "productApiBaseUrl", "http://localhost:" + STUB.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "apiKey", "test-api-key");
+
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            Callable<long[]> worker = () -> {
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    try {
+                        client.getProductById(i % 100 + 1);
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            };
+            futures.add(executor.submit(worker));
+        }
+        long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(all);
+        System.out.printf("[%s] requests=%d errors=%d throughput=%.0f req/s p50=%.3f ms p99=%.3f ms max=%.3f ms%n",
+                label, all.length, errors.get(), all.length / (elapsed / 1e9),
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        assertEquals(0, errors.get());
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static HttpServer startStub() {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+            server.createContext("/api/v1/products/", exchange -> {
+                String id = exchange.getRequestURI().getPath().substring("/api/v1/products/".length());
+                byte[] body = ("{\"id\":" + id + ",\"name\":\"Producto " + id
+                        + "\",\"price\":10.00,\"description\":\"Stub\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newFixedThreadPool(64));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -10,6 +10,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -31,26 +35,28 @@ public class InventoryControllerTest {
         ProductResponse productResponse = ProductResponse.builder().id(productId).stock(10).build();
         ProductResponseDto productResponseDto = ProductResponseDto.builder().id(productId).stock(10).build();
 
-        when(productStockService.getDetailProductById(productId)).thenReturn(productResponse);
+        when(productStockService.getDetailProductByIdAsync(productId)).thenReturn(CompletableFuture.completedFuture(productResponse));
         when(productMapper.toProductResponseDto(productResponse)).thenReturn(productResponseDto);
 
-        ProductResponseDto result = inventoryController.getProductById(productId);
+        ProductResponseDto result = inventoryController.getProductById(productId).join();
 
         assertEquals(productId, result.getId());
         assertEquals(10, result.getStock());
-        verify(productStockService).getDetailProductById(productId);
+        verify(productStockService).getDetailProductByIdAsync(productId);
         verify(productMapper).toProductResponseDto(productResponse);
     }
 
     @Test
     void getProductById_ShouldThrowException_WhenProductDoesNotExist() {
         Integer productId = 99;
-        when(productStockService.getDetailProductById(productId)).thenThrow(new ResponseStatusException(org.springframework.http.HttpStatus.NOT_FOUND, "Product not found"));
+        when(productStockService.getDetailProductByIdAsync(productId)).thenReturn(CompletableFuture.failedFuture(
+                new ResponseStatusException(org.springframework.http.HttpStatus.NOT_FOUND, "Product not found")));
 
-        ResponseStatusException exception = assertThrows(
-                ResponseStatusException.class,
-                () -> inventoryController.getProductById(productId)
+        CompletionException completion = assertThrows(
+                CompletionException.class,
+                () -> inventoryController.getProductById(productId).join()
         );
+        ResponseStatusException exception = assertInstanceOf(ResponseStatusException.class, completion.getCause());
         assertEquals(404, exception.getStatusCode().value());
         assertTrue(exception.getReason().contains("Product not found"));
     }
@@ -88,4 +94,29 @@ public class InventoryControllerTest {
         assertEquals(404, exception.getStatusCode().value());
         assertTrue(exception.getReason().contains("Product not found"));
     }
+
+    @Test
+    void getProductsByIds_ShouldReturnMappedProducts() {
+        ProductResponse productResponse = ProductResponse.builder().id(1).stock(3).build();
+        ProductResponseDto productResponseDto = ProductResponseDto.builder().id(1).stock(3).build();
+        when(productStockService.getDetailProductsByIds(List.of(1, 2))).thenReturn(List.of(productResponse));
+        when(productMapper.toProductResponseDto(productResponse)).thenReturn(productResponseDto);
+
+        List<ProductResponseDto> result = inventoryController.getProductsByIds(List.of(1, 2));
+
+        assertEquals(List.of(productResponseDto), result);
+        verify(productStockService).getDetailProductsByIds(List.of(1, 2));
+    }
+
+    @Test
+    void getProductsPage_ShouldReturnMappedProducts() {
+        ProductResponse productResponse = ProductResponse.builder().id(6).stock(1).build();
+        ProductResponseDto productResponseDto = ProductResponseDto.builder().id(6).stock(1).build();
+        when(productStockService.getDetailProductsPage(5, 10)).thenReturn(List.of(productResponse));
+        when(productMapper.toProductResponseDto(productResponse)).thenReturn(productResponseDto);
+
+        List<ProductResponseDto> result = inventoryController.getProductsPage(5, 10);
+
+        assertEquals(List.of(productResponseDto), result);
+    }
 }
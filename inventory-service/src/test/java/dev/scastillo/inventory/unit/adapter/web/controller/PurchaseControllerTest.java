@@ -1,15 +1,25 @@
 package dev.scastillo.inventory.unit.adapter.web.controller;
 
 import dev.scastillo.inventory.adapter.web.controller.PurchaseController;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseBatchRequestDto;
 import dev.scastillo.inventory.adapter.web.dto.PurchaseCreateRequestDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseHistoryPageDto;
 import dev.scastillo.inventory.adapter.web.dto.PurchaseResponseDto;
+import dev.scastillo.inventory.adapter.web.dto.PurchaseStatsDto;
 import dev.scastillo.inventory.adapter.web.mapper.PurchaseMapper;
 import dev.scastillo.inventory.domain.service.PurchaseService;
+import dev.scastillo.inventory.domain.service.dto.PurchaseHistoryPage;
+import dev.scastillo.inventory.domain.service.dto.PurchaseLine;
 import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -72,6 +82,30 @@ public class PurchaseControllerTest {
         assertTrue(exception.getReason().contains("Error al crear compra"));
     }
 
+    @Test
+    void createPurchases_ShouldReturnOneResultPerLine_WhenBatchIsSuccessful() {
+        List<PurchaseCreateRequestDto> items = List.of(
+                PurchaseCreateRequestDto.builder().productId(1).quantity(2).build(),
+                PurchaseCreateRequestDto.builder().productId(3).quantity(1).build());
+        List<PurchaseLine> lines = List.of(new PurchaseLine(1, 2), new PurchaseLine(3, 1));
+        List<PurchaseResponse> responses = List.of(
+                PurchaseResponse.builder().id(1L).productId(1).quantity(2).build(),
+                PurchaseResponse.builder().id(2L).productId(3).quantity(1).build());
+        List<PurchaseResponseDto> responseDtos = List.of(
+                PurchaseResponseDto.builder().id(1L).productId(1).quantity(2).build(),
+                PurchaseResponseDto.builder().id(2L).productId(3).quantity(1).build());
+
+        when(purchaseMapper.toLines(items)).thenReturn(lines);
+        when(purchaseService.createPurchases(lines)).thenReturn(responses);
+        when(purchaseMapper.toDtoList(responses)).thenReturn(responseDtos);
+
+        List<PurchaseResponseDto> result = purchaseController.createPurchases(new PurchaseBatchRequestDto(items));
+
+        assertEquals(2, result.size());
+        assertEquals(3, result.get(1).getProductId());
+        verify(purchaseService).createPurchases(lines);
+    }
+
     @Test
     void getPurchaseById_ShouldReturnPurchaseResponseDto_WhenPurchaseExists() {
         Integer purchaseId = 1;
@@ -112,4 +146,32 @@ public class PurchaseControllerTest {
         assertTrue(exception.getReason().contains("Purchase not found"));
     }
 
+    @Test
+    void getPurchaseHistory_ShouldReturnMappedPage() {
+        OffsetDateTime from = OffsetDateTime.parse("2025-08-01T00:00:00Z");
+        PurchaseHistoryPage page = PurchaseHistoryPage.builder().items(List.of()).next("1_2").build();
+        PurchaseHistoryPageDto pageDto = PurchaseHistoryPageDto.builder().items(List.of()).next("1_2").build();
+        when(purchaseService.getPurchaseHistory(1, from, null, null, 20)).thenReturn(page);
+        when(purchaseMapper.toDto(page)).thenReturn(pageDto);
+
+        PurchaseHistoryPageDto result = purchaseController.getPurchaseHistory(1, from, null, null, 20);
+
+        assertEquals("1_2", result.getNext());
+        verify(purchaseService).getPurchaseHistory(1, from, null, null, 20);
+    }
+
+    @Test
+    void getPurchaseStats_ShouldReturnMappedStats() {
+        LocalDate from = LocalDate.parse("2025-08-01");
+        LocalDate to = LocalDate.parse("2025-08-31");
+        PurchaseStats stats = PurchaseStats.builder().productId(1).units(7L).build();
+        PurchaseStatsDto statsDto = PurchaseStatsDto.builder().productId(1).units(7L).build();
+        when(purchaseService.getPurchaseStats(1, from, to)).thenReturn(stats);
+        when(purchaseMapper.toDto(stats)).thenReturn(statsDto);
+
+        PurchaseStatsDto result = purchaseController.getPurchaseStats(1, from, to);
+
+        assertEquals(7L, result.getUnits());
+        verify(purchaseService).getPurchaseStats(1, from, to);
+    }
 }
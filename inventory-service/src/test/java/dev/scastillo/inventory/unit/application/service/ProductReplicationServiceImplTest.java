@@ -0,0 +1,137 @@
+package dev.scastillo.inventory.unit.application.service;
+
+import dev.scastillo.inventory.application.service.ProductReplicationServiceImpl;
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ProductReplicationServiceImplTest {
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    private ProductReplicaRepository productReplicaRepository;
+    private ProductReplicationServiceImpl productReplicationService;
+
+    @BeforeEach
+    void setUp() {
+        this.productReplicaRepository = mock(ProductReplicaRepository.class);
+        this.productReplicationService = new ProductReplicationServiceImpl(productReplicaRepository,
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void apply_ShouldInsertReplica_WhenProductIsNew() {
+        // Arrange
+        when(productReplicaRepository.findAllById(anyCollection())).thenReturn(List.of());
+        ProductReplica incoming = replica(1, "Producto A", T0);
+
+        // Act
+        int changed = productReplicationService.apply(List.of(incoming));
+
+        // Assert
+        assertEquals(1, changed);
+        verify(productReplicaRepository).saveAll(List.of(incoming));
+    }
+
+    @Test
+    void apply_ShouldReapplyAgainstStoredReplica_WhenConcurrentInsertWins() {
+        // Arrange
+        ProductReplica stored = replica(1, "Producto A v2", T0.plusSeconds(1));
+        when(productReplicaRepository.findAllById(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(stored));
+        when(productReplicaRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("llave duplicada"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        int changed = productReplicationService.apply(List.of(replica(1, "Producto A", T0)));
+
+        // Assert
+        assertEquals(0, changed);
+        assertEquals("Producto A v2", stored.getName());
+        verify(productReplicaRepository, times(2)).findAllById(anyCollection());
+    }
+
+    @Test
+    void apply_ShouldUpdateReplica_WhenEventIsNewer() {
+        // Arrange
+        ProductReplica current = replica(1, "Producto A", T0);
+        when(productReplicaRepository.findAllById(anyCollection())).thenReturn(List.of(current));
+
+        // Act
+        int changed = productReplicationService.apply(List.of(replica(1, "Producto A v2", T0.plusSeconds(1))));
+
+        // Assert
+        assertEquals(1, changed);
+        assertEquals("Producto A v2", current.getName());
+        assertEquals(T0.plusSeconds(1), current.getUpdatedAt());
+        verify(productReplicaRepository).saveAll(List.of(current));
+    }
+
+    @Test
+    void apply_ShouldIgnoreEvent_WhenItIsRepeatedOrOlder() {
+        // Arrange
+        ProductReplica current = replica(1, "Producto A v2", T0.plusSeconds(1));
+        when(productReplicaRepository.findAllById(anyCollection())).thenReturn(List.of(current));
+
+        // Act
+        int changed = productReplicationService.apply(List.of(
+                replica(1, "Producto A", T0),
+                replica(1, "Producto A v2", T0.plusSeconds(1))));
+
+        // Assert
+        assertEquals(0, changed);
+        assertEquals("Producto A v2", current.getName());
+        verify(productReplicaRepository).saveAll(List.of());
+    }
+
+    @Test
+    void apply_ShouldKeepNewestEventPerProduct_WhenBatchHasSeveral() {
+        // Arrange
+        when(productReplicaRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        // Act
+        productReplicationService.apply(List.of(
+                replica(1, "Producto A v2", T0.plusSeconds(1)),
+                replica(1, "Producto A", T0),
+                replica(2, "Producto B", T0)));
+
+        // Assert
+        ArgumentCaptor<List<ProductReplica>> captor = ArgumentCaptor.captor();
+        verify(productReplicaRepository).saveAll(captor.capture());
+        assertEquals(List.of("Producto A v2", "Producto B"), captor.getValue().stream().map(ProductReplica::getName).toList());
+    }
+
+    @Test
+    void apply_ShouldDoNothing_WhenThereAreNoEvents() {
+        // Act
+        int changed = productReplicationService.apply(List.of());
+
+        // Assert
+        assertEquals(0, changed);
+        verifyNoInteractions(productReplicaRepository);
+    }
+
+    private static ProductReplica replica(Integer id, String name, OffsetDateTime updatedAt) {
+        return ProductReplica.builder()
+                .productId(id)
+                .name(name)
+                .price(new BigDecimal("10.00"))
+                .description("Descripción")
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -5,19 +5,35 @@ import dev.scastillo.inventory.domain.model.ProductStock;
 import dev.scastillo.inventory.domain.repository.ProductStockRepository;
 import dev.scastillo.inventory.domain.service.ProductServicePort;
 import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.infraestructure.reservation.DatabaseStockReservationAdapter;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.BadRequestException;
 import dev.scastillo.inventory.shared.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class ProductStockServiceImplTest {
@@ -28,7 +44,8 @@ public class ProductStockServiceImplTest {
     void setUp() {
         this.productStockRepository =  mock(ProductStockRepository.class);
         this.productServicePort = mock(ProductServicePort.class);
-        this.productStockService = new ProductStockServiceImpl(productStockRepository, productServicePort);
+        this.productStockService = new ProductStockServiceImpl(productStockRepository, productServicePort,
+                new DatabaseStockReservationAdapter(productStockRepository), Runnable::run, TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -92,6 +109,86 @@ public class ProductStockServiceImplTest {
         assertEquals(expectedMessage, exception.getMessage());
     }
 
+    @Test
+    void getDetailProductById_ShouldReadStockWhileWaitingForProduct() throws Exception {
+        Integer productId = 4;
+        CountDownLatch productRequested = new CountDownLatch(1);
+        CountDownLatch stockRead = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ProductStockServiceImpl service = new ProductStockServiceImpl(productStockRepository, productServicePort,
+                new DatabaseStockReservationAdapter(productStockRepository), executor, TransactionOperations.withoutTransaction());
+        when(productStockRepository.findByProductId(productId)).thenAnswer(invocation -> {
+            stockRead.countDown();
+            // Si las llamadas fueran secuenciales el producto aun no se habria pedido
+            return productRequested.await(1, TimeUnit.SECONDS)
+                    ? Optional.of(ProductStock.builder().productId(productId).quantity(7).build())
+                    : Optional.empty();
+        });
+        when(productServicePort.getProductById(productId)).thenAnswer(invocation -> {
+            productRequested.countDown();
+            stockRead.await(1, TimeUnit.SECONDS);
+            return Optional.of(ExternalProductDto.builder().id(productId).name("Producto D").build());
+        });
+
+        try {
+            ProductResponse response = service.getDetailProductById(productId);
+
+            assertEquals(7, response.getStock());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getDetailProductById_ShouldPropagateStockReadFailure() {
+        Integer productId = 5;
+        when(productServicePort.getProductById(productId))
+                .thenReturn(Optional.of(ExternalProductDto.builder().id(productId).build()));
+        when(productStockRepository.findByProductId(productId)).thenThrow(new IllegalStateException("sin conexion"));
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> productStockService.getDetailProductById(productId)
+        );
+
+        assertEquals("sin conexion", exception.getMessage());
+    }
+
+    @Test
+    void getDetailProductByIdAsync_ShouldReadStockWhileProductIsInFlight() {
+        Integer productId = 3;
+        CompletableFuture<Optional<ExternalProductDto>> pendingProduct = new CompletableFuture<>();
+        when(productServicePort.getProductByIdAsync(productId)).thenReturn(pendingProduct);
+        when(productStockRepository.findByProductId(productId))
+                .thenReturn(Optional.of(ProductStock.builder().productId(productId).quantity(7).build()));
+
+        CompletableFuture<ProductResponse> result = productStockService.getDetailProductByIdAsync(productId);
+
+        verify(productStockRepository).findByProductId(productId);
+        assertFalse(result.isDone());
+
+        pendingProduct.complete(Optional.of(ExternalProductDto.builder().id(productId).name("Producto C").build()));
+
+        ProductResponse response = result.join();
+        assertEquals("Producto C", response.getName());
+        assertEquals(7, response.getStock());
+    }
+
+    @Test
+    void getDetailProductByIdAsync_ShouldFailWithNotFound_WhenProductDoesNotExist() {
+        Integer productId = 99;
+        when(productServicePort.getProductByIdAsync(productId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(productStockRepository.findByProductId(productId)).thenReturn(Optional.empty());
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> productStockService.getDetailProductByIdAsync(productId).join()
+        );
+
+        assertInstanceOf(NotFoundException.class, exception.getCause());
+        assertEquals("Producto no encontrado id: " + productId, exception.getCause().getMessage());
+    }
+
     @Test
     void updateProductStock_ShouldUpdateExistingStock() {
         Integer productId = 1;
@@ -141,6 +238,40 @@ public class ProductStockServiceImplTest {
         verify(productStockRepository).save(any(ProductStock.class));
     }
 
+    @Test
+    void updateProductStock_ShouldReadAndSaveStock_InSameTransaction() {
+        Integer productId = 3;
+        ProductStock existingStock = ProductStock.builder().productId(productId).quantity(5).build();
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        TransactionOperations transactionOperations = mock(TransactionOperations.class);
+        when(transactionOperations.execute(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+        ProductStockServiceImpl service = new ProductStockServiceImpl(productStockRepository, productServicePort,
+                new DatabaseStockReservationAdapter(productStockRepository), Runnable::run, transactionOperations);
+        when(productServicePort.getProductById(productId))
+                .thenReturn(Optional.of(ExternalProductDto.builder().id(productId).name("Producto C").build()));
+        when(productStockRepository.findByProductId(productId)).thenAnswer(invocation -> {
+            assertTrue(inTransaction.get());
+            return Optional.of(existingStock);
+        });
+        when(productStockRepository.save(existingStock)).thenAnswer(invocation -> {
+            assertTrue(inTransaction.get());
+            return existingStock;
+        });
+
+        ProductResponse response = service.updateProductStock(productId, 8);
+
+        assertEquals(8, response.getStock());
+        verify(productStockRepository, times(1)).findByProductId(productId);
+        verify(productStockRepository).save(existingStock);
+    }
+
     @Test
     void updateProductStock_ShouldThrowNotFound_WhenProductDoesNotExist() {
         Integer productId = 99;
@@ -154,6 +285,75 @@ public class ProductStockServiceImplTest {
         );
 
         assertEquals(expectedMessage, exception.getMessage());
+        verify(productStockRepository, never()).save(any(ProductStock.class));
+    }
+
+    @Test
+    void getDetailProductsByIds_ShouldJoinStockAndProducts_InRequestedOrder() {
+        // Arrange
+        when(productServicePort.getProductsByIds(List.of(3, 1, 2))).thenReturn(List.of(
+                ExternalProductDto.builder().id(1).name("Producto A").build(),
+                ExternalProductDto.builder().id(3).name("Producto C").build()));
+        when(productStockRepository.findByProductIds(List.of(3, 1, 2))).thenReturn(List.of(
+                ProductStock.builder().productId(3).quantity(7).build()));
+
+        // Act
+        List<ProductResponse> responses = productStockService.getDetailProductsByIds(List.of(3, 1, 2, 3));
+
+        // Assert: el producto 2 no existe en product-service y el 1 no tiene stock registrado
+        assertEquals(List.of(3, 1), responses.stream().map(ProductResponse::getId).toList());
+        assertEquals(7, responses.get(0).getStock());
+        assertEquals(0, responses.get(1).getStock());
+        verify(productServicePort, times(1)).getProductsByIds(List.of(3, 1, 2));
+        verify(productStockRepository, never()).findByProductId(any());
+    }
+
+    @Test
+    void getDetailProductsByIds_ShouldThrowBadRequest_WhenTooManyIds() {
+        List<Integer> ids = IntStream.rangeClosed(1, 501).boxed().toList();
+
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> productStockService.getDetailProductsByIds(ids)
+        );
+
+        assertEquals("No se pueden consultar más de 500 productos por solicitud", exception.getMessage());
+        verifyNoInteractions(productServicePort);
+    }
+
+    @Test
+    void getDetailProductsPage_ShouldJoinStockPageWithProducts() {
+        // Arrange
+        when(productStockRepository.findPageAfterProductId(0, 2)).thenReturn(List.of(
+                ProductStock.builder().productId(1).quantity(4).build(),
+                ProductStock.builder().productId(2).quantity(9).build()));
+        when(productServicePort.getProductsByIds(List.of(1, 2))).thenReturn(List.of(
+                ExternalProductDto.builder().id(2).name("Producto B").build(),
+                ExternalProductDto.builder().id(1).name("Producto A").build()));
+
+        // Act
+        List<ProductResponse> responses = productStockService.getDetailProductsPage(null, 2);
+
+        // Assert
+        assertEquals(List.of(1, 2), responses.stream().map(ProductResponse::getId).toList());
+        assertEquals(List.of(4, 9), responses.stream().map(ProductResponse::getStock).toList());
+    }
+
+    @Test
+    void getDetailProductsPage_ShouldNotCallProductService_WhenPageIsEmpty() {
+        when(productStockRepository.findPageAfterProductId(10, 50)).thenReturn(List.of());
+
+        assertTrue(productStockService.getDetailProductsPage(10, 50).isEmpty());
+        verifyNoInteractions(productServicePort);
     }
 
+    @Test
+    void getDetailProductsPage_ShouldThrowBadRequest_WhenLimitIsOutOfRange() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> productStockService.getDetailProductsPage(null, 0)
+        );
+
+        assertEquals("El parámetro limit debe estar entre 1 y 500", exception.getMessage());
+    }
 }
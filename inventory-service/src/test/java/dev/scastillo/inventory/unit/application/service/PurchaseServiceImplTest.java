@@ -3,23 +3,45 @@ package dev.scastillo.inventory.unit.application.service;
 import dev.scastillo.inventory.application.service.PurchaseServiceImpl;
 import dev.scastillo.inventory.domain.model.ProductStock;
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseDailyRollup;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
 import dev.scastillo.inventory.domain.repository.ProductStockRepository;
 import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
 import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.domain.service.StockReservationPort;
+import dev.scastillo.inventory.domain.service.dto.PurchaseHistoryPage;
+import dev.scastillo.inventory.domain.service.dto.PurchaseLine;
 import dev.scastillo.inventory.domain.service.dto.PurchaseResponse;
+import dev.scastillo.inventory.domain.service.dto.PurchaseStats;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.BadRequestException;
 import dev.scastillo.inventory.shared.exception.ConflictException;
 import dev.scastillo.inventory.shared.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +49,8 @@ public class PurchaseServiceImplTest {
     private PurchaseRepository purchaseRepository;
     private ProductServicePort productServicePort;
     private ProductStockRepository productStockRepository;
+    private StockReservationPort stockReservationPort;
+    private PurchaseRollupRepository purchaseRollupRepository;
     private PurchaseServiceImpl purchaseService;
 
     @BeforeEach
@@ -34,7 +58,10 @@ public class PurchaseServiceImplTest {
         this.purchaseRepository = mock(PurchaseRepository.class);
         this.productServicePort = mock(ProductServicePort.class);
         this.productStockRepository = mock(ProductStockRepository.class);
-        this.purchaseService = new PurchaseServiceImpl(purchaseRepository, productServicePort, productStockRepository);
+        this.stockReservationPort = mock(StockReservationPort.class);
+        this.purchaseRollupRepository = mock(PurchaseRollupRepository.class);
+        this.purchaseService = new PurchaseServiceImpl(purchaseRepository, productServicePort, productStockRepository, stockReservationPort,
+                TransactionOperations.withoutTransaction(), purchaseRollupRepository);
     }
 
     @Test
@@ -46,16 +73,6 @@ public class PurchaseServiceImplTest {
                 .name("Producto A")
                 .price(BigDecimal.valueOf(100))
                 .build();
-        ProductStock productStock = ProductStock.builder()
-                .productId(productId)
-                .quantity(5)
-                .build();
-        Purchase purchase = Purchase.builder()
-                .productId(productId)
-                .quantity(quantity)
-                .unitPrice(product.getPrice())
-                .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
-                .build();
         Purchase savedPurchase = Purchase.builder()
                 .id(10L)
                 .productId(productId)
@@ -65,9 +82,8 @@ public class PurchaseServiceImplTest {
                 .build();
 
         when(productServicePort.getProductById(productId)).thenReturn(Optional.of(product));
-        when(productStockRepository.findByProductId(productId)).thenReturn(Optional.of(productStock));
+        when(stockReservationPort.tryReserve(productId, quantity)).thenReturn(true);
         when(purchaseRepository.save(any(Purchase.class))).thenReturn(savedPurchase);
-        when(productStockRepository.save(any(ProductStock.class))).thenReturn(productStock);
 
         PurchaseResponse response = purchaseService.createPurchase(productId, quantity);
 
@@ -77,7 +93,8 @@ public class PurchaseServiceImplTest {
         assertEquals(product.getPrice(), response.getUnitPrice());
         assertEquals(product.getPrice().multiply(BigDecimal.valueOf(quantity)), response.getTotalPrice());
         verify(purchaseRepository).save(any(Purchase.class));
-        verify(productStockRepository).save(any(ProductStock.class));
+        verify(stockReservationPort).tryReserve(productId, quantity);
+        verify(productStockRepository, never()).save(any(ProductStock.class));
     }
 
     @Test
@@ -95,6 +112,7 @@ public class PurchaseServiceImplTest {
                 .build();
 
         when(productServicePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(stockReservationPort.tryReserve(productId, quantity)).thenReturn(false);
         when(productStockRepository.findByProductId(productId)).thenReturn(Optional.of(productStock));
 
         String expectedMessage = "Stock insuficiente para el producto con id: " + productId;
@@ -103,6 +121,95 @@ public class PurchaseServiceImplTest {
                 () -> purchaseService.createPurchase(productId, quantity)
         );
         assertTrue(exception.getMessage().contains(expectedMessage));
+        verify(purchaseRepository, never()).save(any(Purchase.class));
+    }
+
+    @Test
+    void createPurchase_ShouldSavePendingPurchase_WhenReservationIsDeferred() {
+        Integer productId = 5;
+        ExternalProductDto product = ExternalProductDto.builder()
+                .id(productId)
+                .name("Producto D")
+                .price(BigDecimal.valueOf(20))
+                .build();
+        when(productServicePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(stockReservationPort.tryReserve(productId, 1)).thenReturn(true);
+        when(stockReservationPort.isDeferred()).thenReturn(true);
+        when(purchaseRepository.save(any(Purchase.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        purchaseService.createPurchase(productId, 1);
+
+        verify(purchaseRepository).save(argThat(purchase -> !purchase.getStockApplied()));
+        verify(purchaseRollupRepository, never()).addSales(anyList());
+    }
+
+    @Test
+    void createPurchase_ShouldAddSalesToRollup_WhenReservationIsApplied() {
+        Integer productId = 8;
+        ExternalProductDto product = ExternalProductDto.builder()
+                .id(productId)
+                .name("Producto G")
+                .price(BigDecimal.valueOf(20))
+                .build();
+        when(productServicePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(stockReservationPort.tryReserve(productId, 3)).thenReturn(true);
+        when(purchaseRepository.save(any(Purchase.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        purchaseService.createPurchase(productId, 3);
+
+        verify(purchaseRollupRepository).addSales(argThat(purchases -> purchases.size() == 1
+                && purchases.iterator().next().getQuantity() == 3));
+    }
+
+    @Test
+    void createPurchase_ShouldLeaveReleaseToTransactionRollback_WhenPurchaseCannotBeSaved() {
+        Integer productId = 6;
+        ExternalProductDto product = ExternalProductDto.builder()
+                .id(productId)
+                .name("Producto E")
+                .price(BigDecimal.valueOf(20))
+                .build();
+        when(productServicePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(stockReservationPort.tryReserve(productId, 2)).thenReturn(true);
+        when(purchaseRepository.save(any(Purchase.class))).thenThrow(new IllegalStateException("db caída"));
+
+        // La excepcion revierte la transaccion y el puerto devuelve la reserva; el servicio no la libera dos veces
+        assertThrows(IllegalStateException.class, () -> purchaseService.createPurchase(productId, 2));
+        verify(stockReservationPort).preload(List.of(productId));
+        verify(productStockRepository, never()).adjustStock(anyInt(), anyInt());
+    }
+
+    @Test
+    void createPurchase_ShouldReserveAndSaveInsideTransaction_WhenProductExists() {
+        Integer productId = 7;
+        ExternalProductDto product = ExternalProductDto.builder()
+                .id(productId)
+                .name("Producto F")
+                .price(BigDecimal.valueOf(15))
+                .build();
+        TransactionOperations transactionOperations = mock(TransactionOperations.class);
+        when(transactionOperations.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        PurchaseServiceImpl service = new PurchaseServiceImpl(purchaseRepository, productServicePort,
+                productStockRepository, stockReservationPort, transactionOperations, purchaseRollupRepository);
+        when(productServicePort.getProductById(productId)).thenReturn(Optional.of(product));
+        when(stockReservationPort.tryReserve(productId, 1)).thenReturn(true);
+        when(purchaseRepository.save(any(Purchase.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.createPurchase(productId, 1);
+
+        InOrder inOrder = inOrder(productServicePort, transactionOperations, stockReservationPort, purchaseRepository);
+        inOrder.verify(productServicePort).getProductById(productId);
+        inOrder.verify(transactionOperations).execute(any());
+        inOrder.verify(stockReservationPort).tryReserve(productId, 1);
+        inOrder.verify(purchaseRepository).save(any(Purchase.class));
+    }
+
+    @Test
+    void createPurchase_ShouldThrowBadRequest_WhenQuantityIsNotPositive() {
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchase(1, 0));
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchase(1, -3));
+        verifyNoInteractions(productServicePort, stockReservationPort, purchaseRepository);
     }
 
     @Test
@@ -139,6 +246,84 @@ public class PurchaseServiceImplTest {
         assertTrue(exception.getMessage().contains(expectedMessage));
     }
 
+    @Test
+    void createPurchases_ShouldReserveAndSaveAllLines_WhenStockIsSufficient() {
+        ExternalProductDto productA = ExternalProductDto.builder().id(1).name("Producto A").price(BigDecimal.valueOf(10)).build();
+        ExternalProductDto productB = ExternalProductDto.builder().id(2).name("Producto B").price(BigDecimal.valueOf(5)).build();
+        List<PurchaseLine> lines = List.of(new PurchaseLine(2, 1), new PurchaseLine(1, 3), new PurchaseLine(2, 4));
+        when(productServicePort.getProductsByIds(Set.of(1, 2))).thenReturn(List.of(productA, productB));
+        when(stockReservationPort.tryReserve(anyInt(), anyInt())).thenReturn(true);
+        when(purchaseRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PurchaseResponse> responses = purchaseService.createPurchases(lines);
+
+        assertEquals(3, responses.size());
+        assertEquals("Producto B", responses.get(0).getProductName());
+        assertEquals(BigDecimal.valueOf(30), responses.get(1).getTotalPrice());
+        assertEquals(4, responses.get(2).getQuantity());
+        InOrder inOrder = inOrder(stockReservationPort);
+        inOrder.verify(stockReservationPort).tryReserve(1, 3);
+        inOrder.verify(stockReservationPort).tryReserve(2, 5);
+        verify(productServicePort, never()).getProductById(anyInt());
+        verify(purchaseRepository).saveAll(anyList());
+        verify(purchaseRepository, never()).save(any(Purchase.class));
+    }
+
+    @Test
+    void createPurchases_ShouldStopReserving_WhenAnyLineHasInsufficientStock() {
+        ExternalProductDto productA = ExternalProductDto.builder().id(1).name("Producto A").price(BigDecimal.valueOf(10)).build();
+        ExternalProductDto productB = ExternalProductDto.builder().id(2).name("Producto B").price(BigDecimal.valueOf(5)).build();
+        when(productServicePort.getProductsByIds(Set.of(1, 2))).thenReturn(List.of(productA, productB));
+        when(stockReservationPort.tryReserve(1, 3)).thenReturn(true);
+        when(stockReservationPort.tryReserve(2, 9)).thenReturn(false);
+        when(productStockRepository.findByProductId(2)).thenReturn(Optional.of(ProductStock.builder().productId(2).quantity(1).build()));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> purchaseService.createPurchases(List.of(new PurchaseLine(1, 3), new PurchaseLine(2, 9))));
+
+        assertTrue(exception.getMessage().contains("Stock insuficiente para el producto con id: 2"));
+        verify(stockReservationPort).preload(Set.of(1, 2));
+        verify(stockReservationPort).tryReserve(1, 3);
+        verify(productStockRepository, never()).adjustStock(anyInt(), anyInt());
+        verify(purchaseRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createPurchases_ShouldThrowNotFound_WhenAnyProductDoesNotExist() {
+        ExternalProductDto productA = ExternalProductDto.builder().id(1).name("Producto A").price(BigDecimal.valueOf(10)).build();
+        when(productServicePort.getProductsByIds(Set.of(1, 8))).thenReturn(List.of(productA));
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> purchaseService.createPurchases(List.of(new PurchaseLine(1, 1), new PurchaseLine(8, 1))));
+
+        assertTrue(exception.getMessage().contains("No fue encontrado el producto con id: 8"));
+        verifyNoInteractions(stockReservationPort, purchaseRepository);
+    }
+
+    @Test
+    void createPurchases_ShouldThrowBadRequest_WhenLinesAreInvalid() {
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchases(List.of()));
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchases(null));
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchases(List.of(new PurchaseLine(null, 1))));
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchases(List.of(new PurchaseLine(1, 0))));
+        assertThrows(BadRequestException.class, () -> purchaseService.createPurchases(
+                Collections.nCopies(101, new PurchaseLine(1, 1))));
+        verifyNoInteractions(productServicePort, stockReservationPort, purchaseRepository);
+    }
+
+    @Test
+    void createPurchases_ShouldThrowBadRequest_WhenProductQuantitiesOverflow() {
+        ExternalProductDto productA = ExternalProductDto.builder().id(1).name("Producto A").price(BigDecimal.valueOf(10)).build();
+        when(productServicePort.getProductsByIds(Set.of(1))).thenReturn(List.of(productA));
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> purchaseService.createPurchases(
+                List.of(new PurchaseLine(1, Integer.MAX_VALUE), new PurchaseLine(1, 1))));
+
+        assertTrue(exception.getMessage().contains("producto con id 1"));
+        verify(stockReservationPort, never()).tryReserve(anyInt(), anyInt());
+        verifyNoInteractions(purchaseRepository);
+    }
+
     @Test
     void getPurchaseById_ShouldReturnResponse_WhenPurchaseExists() {
         Long purchaseId = 1L;
@@ -181,4 +366,84 @@ public class PurchaseServiceImplTest {
         );
         assertTrue(exception.getMessage().contains(expectedMessage));
     }
+
+    @Test
+    void getPurchaseHistory_ShouldReturnNextCursor_WhenThereAreMoreRows() {
+        // Arrange
+        OffsetDateTime date = OffsetDateTime.of(2025, 8, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        List<PurchaseSummary> rows = List.of(summary(1L, date), summary(2L, date), summary(3L, date.plusSeconds(1)));
+        when(purchaseRepository.findHistoryPage(eq(7), any(), eq(0L), any(), eq(3))).thenReturn(rows);
+
+        // Act
+        PurchaseHistoryPage page = purchaseService.getPurchaseHistory(7, null, null, null, 2);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), page.getItems().stream().map(PurchaseSummary::getId).toList());
+        assertEquals(ChronoUnit.MICROS.between(Instant.EPOCH, date.toInstant()) + "_2", page.getNext());
+    }
+
+    @Test
+    void getPurchaseHistory_ShouldContinueAfterCursor_AndEndWithoutNext() {
+        // Arrange
+        OffsetDateTime date = OffsetDateTime.of(2025, 8, 1, 10, 0, 0, 123456000, ZoneOffset.UTC);
+        String cursor = ChronoUnit.MICROS.between(Instant.EPOCH, date.toInstant()) + "_2";
+        OffsetDateTime to = date.plusDays(1);
+        when(purchaseRepository.findHistoryPage(7, date, 2L, to, 51)).thenReturn(List.of(summary(3L, date)));
+
+        // Act
+        PurchaseHistoryPage page = purchaseService.getPurchaseHistory(7, date.minusDays(1), to, cursor, null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNext());
+        verify(purchaseRepository).findHistoryPage(7, date, 2L, to, 51);
+    }
+
+    @Test
+    void getPurchaseHistory_ShouldThrowBadRequest_WhenCursorIsInvalid() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> purchaseService.getPurchaseHistory(7, null, null, "no-es-cursor", null));
+
+        assertEquals("El cursor after no es válido: no-es-cursor", exception.getMessage());
+        verifyNoInteractions(purchaseRepository);
+    }
+
+    @Test
+    void getPurchaseHistory_ShouldThrowBadRequest_WhenRangeOrLimitIsInvalid() {
+        OffsetDateTime date = OffsetDateTime.of(2025, 8, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+        assertThrows(BadRequestException.class, () -> purchaseService.getPurchaseHistory(7, date, date, null, null));
+        assertThrows(BadRequestException.class, () -> purchaseService.getPurchaseHistory(7, null, null, null, 501));
+        verifyNoInteractions(purchaseRepository);
+    }
+
+    @Test
+    void getPurchaseStats_ShouldSumDailyRollups() {
+        LocalDate from = LocalDate.parse("2025-08-01");
+        LocalDate to = LocalDate.parse("2025-08-31");
+        when(purchaseRollupRepository.findByProductId(7, from, to)).thenReturn(List.of(
+                new PurchaseDailyRollup(7, from, 3L, new BigDecimal("30.00"), 2L),
+                new PurchaseDailyRollup(7, to, 1L, new BigDecimal("10.00"), 1L)));
+
+        PurchaseStats stats = purchaseService.getPurchaseStats(7, from, to);
+
+        assertEquals(4L, stats.getUnits());
+        assertEquals(new BigDecimal("40.00"), stats.getRevenue());
+        assertEquals(3L, stats.getPurchases());
+        assertEquals(2, stats.getDays().size());
+        verifyNoInteractions(purchaseRepository);
+    }
+
+    @Test
+    void getPurchaseStats_ShouldThrowBadRequest_WhenRangeIsInvalid() {
+        LocalDate from = LocalDate.parse("2025-08-01");
+
+        assertThrows(BadRequestException.class, () -> purchaseService.getPurchaseStats(7, from, from.minusDays(1)));
+        assertThrows(BadRequestException.class, () -> purchaseService.getPurchaseStats(7, from, from.plusDays(366)));
+        verifyNoInteractions(purchaseRollupRepository);
+    }
+
+    private PurchaseSummary summary(Long id, OffsetDateTime purchaseDate) {
+        return new PurchaseSummary(id, 7, 1, BigDecimal.TEN, BigDecimal.TEN, purchaseDate);
+    }
 }
@@ -0,0 +1,32 @@
+package dev.scastillo.inventory.unit.config;
+
+import dev.scastillo.inventory.config.InventoryIoExecutorConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryIoExecutorConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(InventoryIoExecutorConfig.class);
+
+    @Test
+    void inventoryIoExecutor_ShouldBeBoundedPlatformPool_WhenVirtualThreadsAreDisabled() {
+        contextRunner.withPropertyValues("inventory.io.pool-size=4").run(context -> {
+            ThreadPoolTaskExecutor executor = context.getBean("inventoryIoExecutor", ThreadPoolTaskExecutor.class);
+            assertEquals(4, executor.getMaxPoolSize());
+        });
+    }
+
+    @Test
+    void inventoryIoExecutor_ShouldUseVirtualThreadsLimitedByHikariPool_WhenVirtualThreadsAreEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true",
+                "spring.datasource.hikari.maximum-pool-size=7").run(context -> {
+            SimpleAsyncTaskExecutor executor = context.getBean("inventoryIoExecutor", SimpleAsyncTaskExecutor.class);
+            assertEquals(7, executor.getConcurrencyLimit());
+            assertTrue(context.getBeansOfType(ThreadPoolTaskExecutor.class).isEmpty());
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package dev.scastillo.inventory.unit.infraestructure.partition;
+
+import dev.scastillo.inventory.infraestructure.partition.PurchasePartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PurchasePartitionManagerTest {
+    private JdbcTemplate jdbcTemplate;
+    private PurchasePartitionManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("select to_regclass"), eq(Boolean.class), any()))
+                .thenReturn(false);
+        manager = new PurchasePartitionManager(jdbcTemplate, mock(PlatformTransactionManager.class), "inventory_schema",
+                true, 2, 24, Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void createPartitions_ShouldCreateCurrentAndNextMonths_WhenTableIsPartitioned() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("select relkind"), eq(String.class), any())).thenReturn("p");
+
+        // Act
+        List<String> created = manager.createPartitions();
+
+        // Assert
+        assertEquals(List.of("purchases_p202610", "purchases_p202611", "purchases_p202612"), created);
+        verify(jdbcTemplate).execute("create table inventory_schema.purchases_p202611 partition of inventory_schema.purchases "
+                + "for values from ('2026-11-01 00:00:00+00:00') to ('2026-12-01 00:00:00+00:00')");
+        verify(jdbcTemplate, never()).execute(contains("rename to purchases_legacy"));
+    }
+
+    @Test
+    void createPartitions_ShouldConvertTable_WhenTableIsNotPartitioned() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("select relkind"), eq(String.class), any())).thenReturn("r");
+
+        // Act
+        manager.createPartitions();
+
+        // Assert: lo anterior al mes actual queda en purchases_legacy y lo demas pasa a su particion mensual
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("alter table inventory_schema.purchases rename to purchases_legacy");
+        inOrder.verify(jdbcTemplate).execute("create table inventory_schema.purchases (like inventory_schema.purchases_legacy "
+                + "including defaults) partition by range (purchase_date)");
+        inOrder.verify(jdbcTemplate).execute(startsWith("create table inventory_schema.purchases_p202610 partition of"));
+        inOrder.verify(jdbcTemplate).update(startsWith("insert into inventory_schema.purchases select"),
+                eq(Timestamp.from(Instant.parse("2026-10-01T00:00:00Z"))));
+        inOrder.verify(jdbcTemplate).execute("alter table inventory_schema.purchases_legacy add constraint "
+                + "purchases_legacy_bound check (purchase_date < '2026-10-01 00:00:00+00:00') not valid");
+        inOrder.verify(jdbcTemplate).execute("alter table inventory_schema.purchases_legacy validate constraint "
+                + "purchases_legacy_bound");
+        inOrder.verify(jdbcTemplate).execute("alter table inventory_schema.purchases attach partition "
+                + "inventory_schema.purchases_legacy for values from (minvalue) to ('2026-10-01 00:00:00+00:00')");
+    }
+
+    @Test
+    void maintain_ShouldOnlyCreateHistoryIndex_WhenPartitioningIsDisabled() {
+        // Arrange
+        manager = new PurchasePartitionManager(jdbcTemplate, mock(PlatformTransactionManager.class), "inventory_schema",
+                false, 2, 24, Clock.systemUTC());
+
+        // Act
+        manager.maintain();
+
+        // Assert
+        verify(jdbcTemplate).execute("create index if not exists idx_purchases_product_date_id "
+                + "on inventory_schema.purchases (product_id, purchase_date, id)");
+        verify(jdbcTemplate, never()).execute(startsWith("create table"));
+        verify(jdbcTemplate, never()).execute(startsWith("alter table"));
+    }
+
+    @Test
+    void archive_ShouldDetachPartitionsOlderThanRetention() {
+        // Arrange
+        when(jdbcTemplate.queryForList(startsWith("select c.relname"), eq(String.class), any()))
+                .thenReturn(List.of("purchases_legacy", "purchases_p202409", "purchases_p202410", "purchases_p202610"));
+        when(jdbcTemplate.queryForObject(startsWith("select substring"), eq(Boolean.class), any(), any()))
+                .thenReturn(true);
+
+        // Act
+        List<String> detached = manager.archive();
+
+        // Assert
+        assertEquals(List.of("purchases_legacy", "purchases_p202409"), detached);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute(startsWith("select pg_advisory_xact_lock("));
+        inOrder.verify(jdbcTemplate).execute("alter table inventory_schema.purchases detach partition inventory_schema.purchases_p202409");
+        verify(jdbcTemplate, never()).execute(contains("detach partition inventory_schema.purchases_p202410"));
+    }
+}
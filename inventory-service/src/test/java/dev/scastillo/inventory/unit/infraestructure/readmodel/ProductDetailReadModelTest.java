@@ -0,0 +1,107 @@
+package dev.scastillo.inventory.unit.infraestructure.readmodel;
+
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.infraestructure.readmodel.ProductDetailReadModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductDetailReadModelTest {
+    private AtomicLong ticker;
+    private ProductDetailReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong();
+        readModel = new ProductDetailReadModel(Duration.ofSeconds(30), 1000, ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_ShouldExpireEntry_WhenTtlPassesSinceLastWrite() {
+        readModel.load(product(1, 10), readModel.stamp());
+        ticker.addAndGet(Duration.ofSeconds(20).toNanos());
+        readModel.write(List.of(1), () -> 3, (quantity, current) -> product(1, current.getStock() - quantity));
+
+        ticker.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertEquals(7, readModel.get(1).orElseThrow().getStock());
+
+        ticker.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertTrue(readModel.get(1).isEmpty());
+        assertEquals(List.of(), readModel.productIds());
+    }
+
+    @Test
+    void write_ShouldApplyChangeOnlyAfterCommit_WhenTransactionIsActive() {
+        readModel.load(product(1, 10), readModel.stamp());
+        TransactionSynchronizationManager.initSynchronization();
+
+        readModel.write(List.of(1), () -> 3, (quantity, current) -> product(1, current.getStock() - quantity));
+
+        assertEquals(10, readModel.get(1).orElseThrow().getStock());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(7, readModel.get(1).orElseThrow().getStock());
+    }
+
+    @Test
+    void write_ShouldKeepEntry_WhenTransactionRollsBack() {
+        readModel.load(product(1, 10), readModel.stamp());
+        TransactionSynchronizationManager.initSynchronization();
+
+        readModel.write(List.of(1), () -> 3, (quantity, current) -> product(1, current.getStock() - quantity));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(10, readModel.get(1).orElseThrow().getStock());
+    }
+
+    @Test
+    void load_ShouldBeIgnored_WhenWriteIsInProgressOrFinishedAfterStamp() {
+        long stamp = readModel.stamp();
+        TransactionSynchronizationManager.initSynchronization();
+        readModel.write(List.of(1), () -> 5, (quantity, current) -> current);
+
+        readModel.load(product(1, 10), readModel.stamp());
+        assertTrue(readModel.get(1).isEmpty());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        readModel.load(product(1, 10), stamp);
+        assertTrue(readModel.get(1).isEmpty());
+
+        readModel.load(product(1, 5), readModel.stamp());
+        assertEquals(5, readModel.get(1).orElseThrow().getStock());
+    }
+
+    @Test
+    void write_ShouldRemoveEntry_WhenChangeReturnsNull() {
+        readModel.load(product(1, 10), readModel.stamp());
+
+        readModel.write(List.of(1), () -> 1, (changed, current) -> null);
+
+        assertTrue(readModel.get(1).isEmpty());
+        assertTrue(readModel.productIds().isEmpty());
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private ProductResponse product(Integer id, Integer stock) {
+        return ProductResponse.builder().id(id).name("Producto " + id).stock(stock).build();
+    }
+}
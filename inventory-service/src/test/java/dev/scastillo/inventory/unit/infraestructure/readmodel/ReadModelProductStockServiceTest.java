@@ -0,0 +1,93 @@
+package dev.scastillo.inventory.unit.infraestructure.readmodel;
+
+import dev.scastillo.inventory.domain.service.ProductStockService;
+import dev.scastillo.inventory.domain.service.dto.ProductResponse;
+import dev.scastillo.inventory.domain.service.dto.ReadModelConsistency;
+import dev.scastillo.inventory.infraestructure.readmodel.ProductDetailReadModel;
+import dev.scastillo.inventory.infraestructure.readmodel.ReadModelProductStockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReadModelProductStockServiceTest {
+    private ProductStockService delegate;
+    private ProductDetailReadModel readModel;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadModelProductStockService readModelProductStockService;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductStockService.class);
+        readModel = new ProductDetailReadModel(Duration.ofMinutes(5), 1000);
+        meterRegistry = new SimpleMeterRegistry();
+        readModelProductStockService = new ReadModelProductStockService(delegate, readModel, meterRegistry);
+    }
+
+    @Test
+    void getDetailProductByIdAsync_ShouldLoadFromSourceOnce_AndThenServeFromReadModel() {
+        when(delegate.getDetailProductByIdAsync(1)).thenReturn(CompletableFuture.completedFuture(product(1, "10.00", 5)));
+
+        ProductResponse first = readModelProductStockService.getDetailProductByIdAsync(1).join();
+        ProductResponse second = readModelProductStockService.getDetailProductByIdAsync(1).join();
+
+        assertEquals(5, first.getStock());
+        assertSame(first, second);
+        verify(delegate, times(1)).getDetailProductByIdAsync(1);
+    }
+
+    @Test
+    void warmUp_ShouldLoadEveryPage_UntilSourceReturnsEmptyPage() {
+        when(delegate.getDetailProductsPage(null, 500)).thenReturn(List.of(product(1, "10.00", 5), product(3, "10.00", 2)));
+        when(delegate.getDetailProductsPage(3, 500)).thenReturn(List.of());
+
+        readModelProductStockService.warmUp();
+
+        assertEquals(List.of(1, 3), readModel.productIds());
+        assertEquals(2, readModelProductStockService.getDetailProductById(3).getStock());
+        verify(delegate, never()).getDetailProductById(3);
+    }
+
+    @Test
+    void warmUp_ShouldCountFailure_AndKeepLoadedPages_WhenSourceFails() {
+        when(delegate.getDetailProductsPage(null, 500)).thenReturn(List.of(product(1, "10.00", 5)));
+        when(delegate.getDetailProductsPage(1, 500)).thenThrow(new IllegalStateException("product-service no responde"));
+
+        readModelProductStockService.warmUp();
+
+        assertEquals(List.of(1), readModel.productIds());
+        assertEquals(1.0, meterRegistry.counter("product.read-model.warmup.failures").count());
+    }
+
+    @Test
+    void checkConsistency_ShouldReportAndEvictEntriesThatDifferFromSource() {
+        readModel.load(product(1, "10.00", 5), readModel.stamp());
+        readModel.load(product(2, "20.00", 8), readModel.stamp());
+        readModel.load(product(3, "30.00", 1), readModel.stamp());
+        when(delegate.getDetailProductsByIds(List.of(1, 2, 3)))
+                .thenReturn(List.of(product(1, "10.0", 5), product(2, "20.00", 6)));
+
+        ReadModelConsistency consistency = readModelProductStockService.checkConsistency();
+
+        assertEquals(3, consistency.getChecked());
+        assertEquals(2, consistency.getMismatched());
+        assertEquals(List.of(2, 3), consistency.getProductIds());
+        assertEquals(List.of(1), readModel.productIds());
+    }
+
+    private ProductResponse product(Integer id, String price, Integer stock) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("Producto " + id)
+                .price(new BigDecimal(price))
+                .stock(stock)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package dev.scastillo.inventory.unit.infraestructure.replica;
+
+import dev.scastillo.inventory.domain.model.ProductReplica;
+import dev.scastillo.inventory.domain.repository.ProductReplicaRepository;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.replica.ReplicatedProductServiceAdapter;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReplicatedProductServiceAdapterTest {
+    private ProductReplicaRepository productReplicaRepository;
+    private ProductServicePort remote;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        productReplicaRepository = mock(ProductReplicaRepository.class);
+        remote = mock(ProductServicePort.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void getProductById_ShouldServeFromReplica_WithoutCallingProductService() {
+        when(productReplicaRepository.findById(1)).thenReturn(Optional.of(replica(1)));
+
+        Optional<ExternalProductDto> result = adapter(true).getProductById(1);
+
+        assertEquals("Producto 1", result.orElseThrow().getName());
+        assertEquals(new BigDecimal("10.00"), result.get().getPrice());
+        verifyNoInteractions(remote);
+        assertEquals(1.0, meterRegistry.get("product.replica.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void getProductById_ShouldCallProductService_WhenReplicaMissesAndFallbackIsEnabled() {
+        when(productReplicaRepository.findById(1)).thenReturn(Optional.empty());
+        when(remote.getProductById(1)).thenReturn(Optional.of(ExternalProductDto.builder().id(1).name("Remoto").build()));
+
+        Optional<ExternalProductDto> result = adapter(true).getProductById(1);
+
+        assertEquals("Remoto", result.orElseThrow().getName());
+        assertEquals(1.0, meterRegistry.get("product.replica.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void getProductById_ShouldReturnEmpty_WhenReplicaMissesAndFallbackIsDisabled() {
+        when(productReplicaRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertTrue(adapter(false).getProductById(1).isEmpty());
+        verifyNoInteractions(remote);
+    }
+
+    @Test
+    void getProductByIdAsync_ShouldReturnCompletedFuture_WhenReplicaHits() {
+        when(productReplicaRepository.findById(1)).thenReturn(Optional.of(replica(1)));
+
+        CompletableFuture<Optional<ExternalProductDto>> result = adapter(true).getProductByIdAsync(1);
+
+        assertTrue(result.isDone());
+        assertEquals(1, result.join().orElseThrow().getId());
+        verifyNoInteractions(remote);
+    }
+
+    @Test
+    void getProductsByIds_ShouldFetchOnlyMissingProducts_FromProductService() {
+        when(productReplicaRepository.findAllById(List.of(1, 2))).thenReturn(List.of(replica(1)));
+        when(remote.getProductsByIds(Set.of(2))).thenReturn(List.of(ExternalProductDto.builder().id(2).name("Remoto").build()));
+
+        List<ExternalProductDto> result = adapter(true).getProductsByIds(List.of(1, 2));
+
+        assertEquals(List.of(1, 2), result.stream().map(ExternalProductDto::getId).toList());
+        verify(remote).getProductsByIds(Set.of(2));
+    }
+
+    private ReplicatedProductServiceAdapter adapter(boolean remoteFallback) {
+        return new ReplicatedProductServiceAdapter(productReplicaRepository, remote, remoteFallback, meterRegistry);
+    }
+
+    private static ProductReplica replica(Integer id) {
+        return ProductReplica.builder()
+                .productId(id)
+                .name("Producto " + id)
+                .price(new BigDecimal("10.00"))
+                .description("Descripción")
+                .updatedAt(OffsetDateTime.parse("2025-01-01T10:00:00Z"))
+                .build();
+    }
+}
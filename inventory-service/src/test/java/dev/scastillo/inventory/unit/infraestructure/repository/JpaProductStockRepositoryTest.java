@@ -5,10 +5,14 @@ import dev.scastillo.inventory.infraestructure.repository.JpaProductStockReposit
 import dev.scastillo.inventory.infraestructure.repository.SpringDataProductStockRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.times;
 
@@ -64,4 +68,54 @@ public class JpaProductStockRepositoryTest {
         verify(springDataProductStockRepository, times(1)).findByProductId(2);
     }
 
+    @Test
+    void decrementStock_ShouldReturnTrue_WhenRowIsUpdated() {
+        when(springDataProductStockRepository.decrementQuantity(1, 3)).thenReturn(1);
+
+        assertTrue(jpaProductStockRepository.decrementStock(1, 3));
+        verify(springDataProductStockRepository, times(1)).decrementQuantity(1, 3);
+    }
+
+    @Test
+    void decrementStock_ShouldReturnFalse_WhenStockIsInsufficient() {
+        when(springDataProductStockRepository.decrementQuantity(1, 30)).thenReturn(0);
+
+        assertFalse(jpaProductStockRepository.decrementStock(1, 30));
+    }
+
+    @Test
+    void adjustStock_ShouldDelegateToSpringData() {
+        jpaProductStockRepository.adjustStock(1, -4);
+
+        verify(springDataProductStockRepository, times(1)).adjustQuantity(1, -4);
+    }
+
+    @Test
+    void findAll_ShouldReturnAllProductStocks() {
+        List<ProductStock> stocks = List.of(ProductStock.builder().productId(1).quantity(3).build());
+        when(springDataProductStockRepository.findAll()).thenReturn(stocks);
+
+        assertEquals(stocks, jpaProductStockRepository.findAll());
+    }
+
+    @Test
+    void findByProductIds_ShouldDelegateToSingleInQuery() {
+        List<ProductStock> stocks = List.of(ProductStock.builder().productId(1).quantity(10).build());
+        when(springDataProductStockRepository.findByProductIdIn(List.of(1, 2))).thenReturn(stocks);
+
+        List<ProductStock> result = jpaProductStockRepository.findByProductIds(List.of(1, 2));
+
+        assertEquals(stocks, result);
+        verify(springDataProductStockRepository, times(1)).findByProductIdIn(List.of(1, 2));
+    }
+
+    @Test
+    void findPageAfterProductId_ShouldDelegateWithLimit() {
+        List<ProductStock> stocks = List.of(ProductStock.builder().productId(6).quantity(1).build());
+        when(springDataProductStockRepository.findByProductIdGreaterThanOrderByProductIdAsc(5, Limit.of(20))).thenReturn(stocks);
+
+        List<ProductStock> result = jpaProductStockRepository.findPageAfterProductId(5, 20);
+
+        assertEquals(stocks, result);
+    }
 }
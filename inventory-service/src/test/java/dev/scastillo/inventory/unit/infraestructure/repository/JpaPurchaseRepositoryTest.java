@@ -1,11 +1,17 @@
 package dev.scastillo.inventory.unit.infraestructure.repository;
 
 import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.model.PurchaseSummary;
 import dev.scastillo.inventory.infraestructure.repository.JpaPurchaseRepository;
 import dev.scastillo.inventory.infraestructure.repository.SpringDataPurchaseRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,4 +73,48 @@ public class JpaPurchaseRepositoryTest {
         verify(springDataPurchaseRepository, times(1)).save(purchase);
     }
 
+    @Test
+    void saveAll_ShouldDelegateToSpringData() {
+        List<Purchase> purchases = List.of(
+                Purchase.builder().productId(10).quantity(2).build(),
+                Purchase.builder().productId(11).quantity(1).build());
+        when(springDataPurchaseRepository.saveAll(purchases)).thenReturn(purchases);
+
+        List<Purchase> result = jpaPurchaseRepository.saveAll(purchases);
+
+        assertEquals(purchases, result);
+        verify(springDataPurchaseRepository, times(1)).saveAll(purchases);
+    }
+
+    @Test
+    void findPendingStock_ShouldDelegateWithLimit() {
+        List<Purchase> pending = List.of(Purchase.builder().id(1L).productId(10).quantity(2).stockApplied(false).build());
+        when(springDataPurchaseRepository.findByStockAppliedFalseOrderByIdAsc(Limit.of(50))).thenReturn(pending);
+
+        assertEquals(pending, jpaPurchaseRepository.findPendingStock(50));
+    }
+
+    @Test
+    void sumPendingStock_ShouldReturnPendingQuantity() {
+        when(springDataPurchaseRepository.sumPendingQuantity(10)).thenReturn(7L);
+
+        assertEquals(7L, jpaPurchaseRepository.sumPendingStock(10));
+    }
+
+    @Test
+    void markStockApplied_ShouldDelegateToSpringData() {
+        jpaPurchaseRepository.markStockApplied(List.of(1L, 2L));
+
+        verify(springDataPurchaseRepository, times(1)).markStockApplied(List.of(1L, 2L));
+    }
+
+    @Test
+    void findHistoryPage_ShouldDelegateWithLimit() {
+        OffsetDateTime after = OffsetDateTime.of(2025, 8, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = after.plusDays(1);
+        List<PurchaseSummary> page = List.of(new PurchaseSummary(5L, 1, 2, BigDecimal.TEN, BigDecimal.TEN, after));
+        when(springDataPurchaseRepository.findHistoryPage(1, after, 4L, to, Limit.of(51))).thenReturn(page);
+
+        assertEquals(page, jpaPurchaseRepository.findHistoryPage(1, after, 4L, to, 51));
+    }
 }
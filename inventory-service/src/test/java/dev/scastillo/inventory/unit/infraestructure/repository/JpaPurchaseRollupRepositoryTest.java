@@ -0,0 +1,60 @@
+package dev.scastillo.inventory.unit.infraestructure.repository;
+
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.infraestructure.repository.JpaPurchaseRollupRepository;
+import dev.scastillo.inventory.infraestructure.repository.SpringDataPurchaseRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class JpaPurchaseRollupRepositoryTest {
+    private SpringDataPurchaseRollupRepository springDataPurchaseRollupRepository;
+    private JpaPurchaseRollupRepository jpaPurchaseRollupRepository;
+
+    @BeforeEach
+    void setUp() {
+        springDataPurchaseRollupRepository = mock(SpringDataPurchaseRollupRepository.class);
+        jpaPurchaseRollupRepository = new JpaPurchaseRollupRepository(springDataPurchaseRollupRepository,
+                ZoneId.of("America/Bogota"));
+    }
+
+    @Test
+    void addSales_ShouldAddOneRowPerProductAndLocalDay_InKeyOrder() {
+        // Arrange: 2025-08-02T03:00Z todavia es 1 de agosto en Bogota
+        List<Purchase> purchases = List.of(
+                purchase(2, 1, "10.00", "2025-08-02T15:00:00Z"),
+                purchase(1, 2, "20.00", "2025-08-02T03:00:00Z"),
+                purchase(1, 3, "30.00", "2025-08-01T20:00:00Z"),
+                purchase(1, 1, "10.00", "2025-08-02T15:00:00Z"));
+
+        // Act
+        jpaPurchaseRollupRepository.addSales(purchases);
+
+        // Assert
+        InOrder inOrder = inOrder(springDataPurchaseRollupRepository);
+        inOrder.verify(springDataPurchaseRollupRepository)
+                .addSales(1, LocalDate.parse("2025-08-01"), 5, new BigDecimal("50.00"), 2);
+        inOrder.verify(springDataPurchaseRollupRepository)
+                .addSales(1, LocalDate.parse("2025-08-02"), 1, new BigDecimal("10.00"), 1);
+        inOrder.verify(springDataPurchaseRollupRepository)
+                .addSales(2, LocalDate.parse("2025-08-02"), 1, new BigDecimal("10.00"), 1);
+        verifyNoMoreInteractions(springDataPurchaseRollupRepository);
+    }
+
+    private Purchase purchase(Integer productId, Integer quantity, String totalPrice, String purchaseDate) {
+        return Purchase.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .totalPrice(new BigDecimal(totalPrice))
+                .purchaseDate(OffsetDateTime.parse(purchaseDate))
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package dev.scastillo.inventory.unit.infraestructure.reservation;
+
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.infraestructure.reservation.DatabaseStockReservationAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DatabaseStockReservationAdapterTest {
+    private ProductStockRepository productStockRepository;
+    private DatabaseStockReservationAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        productStockRepository = mock(ProductStockRepository.class);
+        adapter = new DatabaseStockReservationAdapter(productStockRepository);
+    }
+
+    @Test
+    void tryReserve_ShouldDecrementStockInDatabase() {
+        when(productStockRepository.decrementStock(1, 3)).thenReturn(true);
+
+        assertTrue(adapter.tryReserve(1, 3));
+        verify(productStockRepository).decrementStock(1, 3);
+    }
+
+    @Test
+    void isDeferred_ShouldBeFalse() {
+        assertFalse(adapter.isDeferred());
+    }
+}
@@ -0,0 +1,191 @@
+package dev.scastillo.inventory.unit.infraestructure.reservation;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.model.Purchase;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRepository;
+import dev.scastillo.inventory.domain.repository.PurchaseRollupRepository;
+import dev.scastillo.inventory.infraestructure.reservation.InMemoryStockReservationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class InMemoryStockReservationEngineTest {
+    private ProductStockRepository productStockRepository;
+    private PurchaseRepository purchaseRepository;
+    private PurchaseRollupRepository purchaseRollupRepository;
+    private InMemoryStockReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        productStockRepository = mock(ProductStockRepository.class);
+        purchaseRepository = mock(PurchaseRepository.class);
+        purchaseRollupRepository = mock(PurchaseRollupRepository.class);
+        engine = new InMemoryStockReservationEngine(productStockRepository, purchaseRepository, purchaseRollupRepository,
+                mock(PlatformTransactionManager.class), 2);
+    }
+
+    @Test
+    void tryReserve_ShouldLoadCounterOnce_AndRejectWhenExhausted() {
+        when(productStockRepository.findByProductId(1))
+                .thenReturn(Optional.of(ProductStock.builder().productId(1).quantity(5).build()));
+
+        assertTrue(engine.tryReserve(1, 3));
+        assertTrue(engine.tryReserve(1, 2));
+        assertFalse(engine.tryReserve(1, 1));
+        verify(productStockRepository, times(1)).findByProductId(1);
+        verify(productStockRepository, never()).decrementStock(anyInt(), anyInt());
+    }
+
+    @Test
+    void tryReserve_ShouldSubtractPendingPurchases_WhenLoadingCounter() {
+        when(productStockRepository.findByProductId(1))
+                .thenReturn(Optional.of(ProductStock.builder().productId(1).quantity(5).build()));
+        when(purchaseRepository.sumPendingStock(1)).thenReturn(4L);
+
+        assertTrue(engine.tryReserve(1, 1));
+        assertFalse(engine.tryReserve(1, 1));
+    }
+
+    @Test
+    void reconcile_ShouldSubtractPendingPurchases_WhenRebuildingCounters() {
+        when(productStockRepository.findAll()).thenReturn(List.of(ProductStock.builder().productId(1).quantity(5).build()));
+        when(purchaseRepository.sumPendingStockByProduct()).thenReturn(Map.of(1, 3L));
+
+        engine.reconcile();
+
+        assertTrue(engine.tryReserve(1, 2));
+        assertFalse(engine.tryReserve(1, 1));
+        verify(productStockRepository, never()).findByProductId(anyInt());
+    }
+
+    @Test
+    void runStockUpdate_ShouldKeepInFlightReservations_WhenStockChangesConcurrently() throws Exception {
+        when(productStockRepository.findByProductId(1))
+                .thenReturn(Optional.of(ProductStock.builder().productId(1).quantity(100).build()));
+        assertTrue(engine.tryReserve(1, 1));
+        AtomicInteger accepted = new AtomicInteger(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (i == 2500) {
+                futures.add(executor.submit(() -> engine.runStockUpdate(1, () -> 50)));
+            }
+            futures.add(executor.submit(() -> {
+                if (engine.tryReserve(1, 1)) {
+                    accepted.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        // La actualizacion puede terminar despues de las ultimas reservas: se consume lo que quede
+        while (engine.tryReserve(1, 1)) {
+            accepted.incrementAndGet();
+        }
+
+        assertEquals(150, accepted.get());
+    }
+
+    @Test
+    void tryReserve_ShouldReturnFalse_WhenProductHasNoStock() {
+        when(productStockRepository.findByProductId(9)).thenReturn(Optional.empty());
+
+        assertFalse(engine.tryReserve(9, 1));
+    }
+
+    @Test
+    void preload_ShouldLoadCountersOutsideTransaction_SoTryReserveDoesNotLoadThem() {
+        when(productStockRepository.findByProductId(1))
+                .thenReturn(Optional.of(ProductStock.builder().productId(1).quantity(2).build()));
+
+        engine.preload(List.of(1));
+        engine.preload(List.of(1));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertTrue(engine.tryReserve(1, 2));
+            assertFalse(engine.tryReserve(2, 1));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(productStockRepository, times(1)).findByProductId(1);
+        verify(productStockRepository, never()).findByProductId(2);
+    }
+
+    @Test
+    void tryReserve_ShouldReturnUnits_OnlyWhenTransactionRollsBack() {
+        when(productStockRepository.findByProductId(1))
+                .thenReturn(Optional.of(ProductStock.builder().productId(1).quantity(5).build()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(engine.tryReserve(1, 2));
+            assertTrue(engine.tryReserve(1, 3));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(engine.tryReserve(1, 3));
+        assertFalse(engine.tryReserve(1, 1));
+    }
+
+    @Test
+    void tryReserve_ShouldNeverOversell_WhenCalledConcurrently() throws Exception {
+        when(productStockRepository.findByProductId(1))
+                .thenReturn(Optional.of(ProductStock.builder().productId(1).quantity(1000).build()));
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            futures.add(executor.submit(() -> {
+                if (engine.tryReserve(1, 1)) {
+                    accepted.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1000, accepted.get());
+    }
+
+    @Test
+    void flush_ShouldApplyPendingPurchasesGroupedByProduct() {
+        Purchase first = Purchase.builder().id(1L).productId(1).quantity(2).stockApplied(false).build();
+        Purchase second = Purchase.builder().id(2L).productId(1).quantity(3).stockApplied(false).build();
+        Purchase third = Purchase.builder().id(3L).productId(2).quantity(1).stockApplied(false).build();
+        when(purchaseRepository.findPendingStock(2))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        engine.flush();
+
+        verify(productStockRepository).adjustStock(1, -5);
+        verify(productStockRepository).adjustStock(2, -1);
+        verify(purchaseRepository).markStockApplied(List.of(1L, 2L));
+        verify(purchaseRepository).markStockApplied(List.of(3L));
+        verify(purchaseRollupRepository).addSales(List.of(first, second));
+        verify(purchaseRollupRepository).addSales(List.of(third));
+    }
+}
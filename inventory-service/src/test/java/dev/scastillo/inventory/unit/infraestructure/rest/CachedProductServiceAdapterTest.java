@@ -0,0 +1,129 @@
+package dev.scastillo.inventory.unit.infraestructure.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.scastillo.inventory.domain.service.ProductServicePort;
+import dev.scastillo.inventory.infraestructure.rest.CachedProductServiceAdapter;
+import dev.scastillo.inventory.infraestructure.rest.ProductCacheExpiry;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CachedProductServiceAdapterTest {
+    private ProductServicePort delegate;
+    private AtomicLong ticker;
+    private Cache<Integer, Optional<ExternalProductDto>> cache;
+    private CachedProductServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductServicePort.class);
+        ticker = new AtomicLong();
+        cache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfter(new ProductCacheExpiry(Duration.ofMinutes(5), Duration.ofSeconds(30)))
+                .ticker(ticker::get)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        adapter = new CachedProductServiceAdapter(delegate, cache);
+    }
+
+    @Test
+    void getProductById_ShouldCallDelegateOnce_WhenProductIsCached() {
+        Integer productId = 1;
+        ExternalProductDto product = ExternalProductDto.builder().id(productId).name("Test").build();
+        when(delegate.getProductById(productId)).thenReturn(Optional.of(product));
+
+        Optional<ExternalProductDto> first = adapter.getProductById(productId);
+        Optional<ExternalProductDto> second = adapter.getProductById(productId);
+
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        verify(delegate, times(1)).getProductById(productId);
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void getProductById_ShouldReloadProduct_WhenTtlExpires() {
+        Integer productId = 2;
+        ExternalProductDto product = ExternalProductDto.builder().id(productId).name("Test").build();
+        when(delegate.getProductById(productId)).thenReturn(Optional.of(product));
+
+        adapter.getProductById(productId);
+        ticker.addAndGet(Duration.ofMinutes(6).toNanos());
+        adapter.getProductById(productId);
+
+        verify(delegate, times(2)).getProductById(productId);
+    }
+
+    @Test
+    void getProductById_ShouldCacheNotFoundWithNegativeTtl() {
+        Integer productId = 99;
+        when(delegate.getProductById(productId)).thenReturn(Optional.empty());
+
+        assertFalse(adapter.getProductById(productId).isPresent());
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertFalse(adapter.getProductById(productId).isPresent());
+        verify(delegate, times(1)).getProductById(productId);
+
+        ticker.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertFalse(adapter.getProductById(productId).isPresent());
+        verify(delegate, times(2)).getProductById(productId);
+    }
+
+    @Test
+    void getProductsByIds_ShouldOnlyRequestMissingIds() {
+        ExternalProductDto product1 = ExternalProductDto.builder().id(1).name("Uno").build();
+        ExternalProductDto product2 = ExternalProductDto.builder().id(2).name("Dos").build();
+        when(delegate.getProductById(1)).thenReturn(Optional.of(product1));
+        when(delegate.getProductsByIds(anyCollection())).thenReturn(List.of(product2));
+
+        adapter.getProductById(1);
+        List<ExternalProductDto> result = adapter.getProductsByIds(List.of(1, 2, 3));
+
+        assertEquals(List.of(product1, product2), result);
+        verify(delegate).getProductsByIds(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(2, 3))));
+        assertFalse(adapter.getProductById(3).isPresent());
+        verify(delegate, never()).getProductById(3);
+    }
+
+    @Test
+    void getProductByIdAsync_ShouldShareCacheWithBlockingLookups() {
+        Integer productId = 4;
+        ExternalProductDto product = ExternalProductDto.builder().id(productId).name("Cuatro").build();
+        when(delegate.getProductByIdAsync(productId)).thenReturn(CompletableFuture.completedFuture(Optional.of(product)));
+
+        Optional<ExternalProductDto> first = adapter.getProductByIdAsync(productId).join();
+        Optional<ExternalProductDto> second = adapter.getProductById(productId);
+        Optional<ExternalProductDto> third = adapter.getProductByIdAsync(productId).join();
+
+        assertSame(first.get(), second.get());
+        assertSame(first.get(), third.get());
+        verify(delegate, times(1)).getProductByIdAsync(productId);
+        verify(delegate, never()).getProductById(productId);
+    }
+
+    @Test
+    void getProductByIdAsync_ShouldNotCacheFailures() {
+        Integer productId = 5;
+        when(delegate.getProductByIdAsync(productId))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("caido")))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        assertThrows(CompletionException.class, () -> adapter.getProductByIdAsync(productId).join());
+        assertFalse(adapter.getProductByIdAsync(productId).join().isPresent());
+        verify(delegate, times(2)).getProductByIdAsync(productId);
+    }
+}
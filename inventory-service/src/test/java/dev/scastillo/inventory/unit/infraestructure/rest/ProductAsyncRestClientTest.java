@@ -0,0 +1,129 @@
+package dev.scastillo.inventory.unit.infraestructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.scastillo.inventory.infraestructure.rest.ProductAsyncRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductValidatorCache;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ProductAsyncRestClientTest {
+    private HttpClient httpClient;
+    private ProductAsyncRestClient client;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = mock(HttpClient.class);
+        client = new ProductAsyncRestClient(httpClient, new ObjectMapper(),
+                new ProductValidatorCache(true, 100, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(client, "productApiBaseUrl", "http://fake-url");
+        ReflectionTestUtils.setField(client, "apiKey", "dummy-key");
+        ReflectionTestUtils.setField(client, "responseTimeout", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void getProductById_ShouldReturnProduct_WhenExists() {
+        respondWith(200, "{\"id\":1,\"name\":\"Test\",\"price\":10.5}");
+
+        Optional<ExternalProductDto> result = client.getProductById(1).join();
+
+        assertTrue(result.isPresent());
+        assertEquals("Test", result.get().getName());
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).sendAsync(request.capture(), any());
+        assertEquals("http://fake-url/api/v1/products/1", request.getValue().uri().toString());
+        assertEquals(Optional.of("dummy-key"), request.getValue().headers().firstValue("X-API-KEY"));
+    }
+
+    @Test
+    void getProductById_ShouldReturnEmpty_WhenNotFound() {
+        respondWith(404, "{\"error\":{\"message\":\"no existe\"}}");
+
+        assertFalse(client.getProductById(99).join().isPresent());
+    }
+
+    @Test
+    void getProductById_ShouldFailWithInternalServerException_WhenServerFails() {
+        respondWith(503, "");
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.getProductById(1).join());
+
+        assertInstanceOf(InternalServerException.class, exception.getCause());
+    }
+
+    @Test
+    void getProductById_ShouldFailWithInternalServerException_WhenRequestTimesOut() {
+        when(httpClient.sendAsync(any(HttpRequest.class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new HttpTimeoutException("timeout")));
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.getProductById(1).join());
+
+        assertInstanceOf(InternalServerException.class, exception.getCause());
+        assertEquals("No fue posible consultar el producto con id: 1", exception.getCause().getMessage());
+    }
+
+    @Test
+    void getProductById_ShouldFailWithInternalServerException_WhenBodyIsInvalid() {
+        respondWith(200, "no es json");
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.getProductById(1).join());
+
+        assertInstanceOf(InternalServerException.class, exception.getCause());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getProductById_ShouldSendIfNoneMatch_AndReuseProduct_WhenNotModified() {
+        HttpResponse<byte[]> ok = response(200, "{\"id\":1,\"name\":\"Test\",\"price\":10.5}", Map.of("ETag", List.of("\"1-100\"")));
+        HttpResponse<byte[]> notModified = response(304, "", Map.of("ETag", List.of("\"1-100\"")));
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(ok))
+                .thenReturn(CompletableFuture.completedFuture(notModified));
+
+        client.getProductById(1).join();
+        Optional<ExternalProductDto> result = client.getProductById(1).join();
+
+        assertEquals("Test", result.orElseThrow().getName());
+        ArgumentCaptor<HttpRequest> requests = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(2)).sendAsync(requests.capture(), any(HttpResponse.BodyHandler.class));
+        assertTrue(requests.getAllValues().get(0).headers().firstValue("If-None-Match").isEmpty());
+        assertEquals("\"1-100\"", requests.getAllValues().get(1).headers().firstValue("If-None-Match").orElseThrow());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respondWith(int status, String body) {
+        HttpResponse<byte[]> response = response(status, body, Map.of());
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<byte[]> response(int status, String body, Map<String, List<String>> headers) {
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.body()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
+}
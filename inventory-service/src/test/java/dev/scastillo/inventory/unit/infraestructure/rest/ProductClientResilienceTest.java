@@ -0,0 +1,184 @@
+package dev.scastillo.inventory.unit.infraestructure.rest;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.scastillo.inventory.infraestructure.rest.ProductClientResilience;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import dev.scastillo.inventory.shared.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductClientResilienceTest {
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private ScheduledExecutorService scheduler;
+    private Counter fallbackCounter;
+    private ProductClientResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMillis(50))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .recordException(ProductClientResilience::isDependencyFailure)
+                .build());
+        bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        Retry retry = Retry.of("test", RetryConfig.custom()
+                .maxAttempts(3)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(Duration.ofMillis(1), 2.0, 0.5))
+                .retryOnException(ProductClientResilience::isDependencyFailure)
+                .build());
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        fallbackCounter = new SimpleMeterRegistry().counter("fallback");
+        resilience = new ProductClientResilience(retry, circuitBreaker, bulkhead, scheduler,
+                Caffeine.newBuilder().<Integer, ExternalProductDto>build(), fallbackCounter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldRetryDependencyFailures_UntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = resilience.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new InternalServerException("caido");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_WhenRequestIsRejectedByProductService() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> resilience.execute(() -> {
+            attempts.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void execute_ShouldOpenCircuitAndFailFast_WhenProductServiceKeepsFailing() {
+        AtomicInteger attempts = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, () -> resilience.execute(() -> {
+                attempts.incrementAndGet();
+                throw new InternalServerException("caido");
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        int attemptsWhenOpened = attempts.get();
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> resilience.execute(() -> attempts.incrementAndGet()));
+        assertEquals("product-service no está disponible temporalmente", exception.getMessage());
+        assertEquals(attemptsWhenOpened, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldCloseCircuit_WhenHalfOpenProbeSucceeds() throws Exception {
+        circuitBreaker.transitionToOpenState();
+        Thread.sleep(60);
+
+        assertEquals("ok", resilience.execute(() -> "ok"));
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_ShouldRejectCall_WhenBulkheadIsFull() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> resilience.execute(() -> {
+            inFlight.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        inFlight.await(5, TimeUnit.SECONDS);
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> resilience.execute(() -> "no deberia ejecutarse"));
+
+        release.countDown();
+        holder.join();
+        assertTrue(exception.getMessage().startsWith("Demasiadas consultas simultáneas"));
+    }
+
+    @Test
+    void executeAsync_ShouldRetryAndUnwrapFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = resilience.executeAsync(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new InternalServerException("caido"));
+        });
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(InternalServerException.class, exception.getCause());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeAsync_ShouldFailWithServiceUnavailable_WhenCircuitIsOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> resilience.executeAsync(() -> CompletableFuture.completedFuture("ok")).join());
+
+        assertInstanceOf(ServiceUnavailableException.class, exception.getCause());
+    }
+
+    @Test
+    void lastKnown_ShouldReturnRememberedProduct_AndCountFallback() {
+        ExternalProductDto product = ExternalProductDto.builder().id(3).name("Tres").build();
+
+        resilience.remember(product);
+
+        assertSame(product, resilience.lastKnown(3).orElseThrow());
+        assertTrue(resilience.lastKnown(4).isEmpty());
+        assertEquals(1, fallbackCounter.count());
+    }
+}
@@ -0,0 +1,159 @@
+package dev.scastillo.inventory.unit.infraestructure.rest;
+
+import dev.scastillo.inventory.infraestructure.rest.ProductLookupCoalescer;
+import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductLookupCoalescerTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductLookupCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    void get_ShouldShareOneCall_WhenSameIdIsRequestedConcurrently() {
+        coalescer = new ProductLookupCoalescer(false, Duration.ZERO, 100, meterRegistry);
+        CompletableFuture<Optional<ExternalProductDto>> backend = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        List<CompletableFuture<Optional<ExternalProductDto>>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(coalescer.get(1, () -> {
+                calls.incrementAndGet();
+                return backend;
+            }, unusedBatchLoader()));
+        }
+        backend.complete(Optional.of(product(1)));
+
+        assertEquals(1, calls.get());
+        results.forEach(result -> assertEquals(1, result.join().orElseThrow().getId()));
+        assertEquals(1.0, meterRegistry.get("product.client.backend.calls").tag("type", "single").counter().count());
+        assertEquals(9.0, meterRegistry.get("product.client.coalesced.requests").counter().count());
+    }
+
+    @Test
+    void get_ShouldStartNewCall_AfterPreviousOneCompletes() {
+        coalescer = new ProductLookupCoalescer(false, Duration.ZERO, 100, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.get(1, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.of(product(1)));
+        }, unusedBatchLoader()).join();
+        coalescer.get(1, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.of(product(1)));
+        }, unusedBatchLoader()).join();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_ShouldPropagateFailureToEveryWaiter_AndNotKeepIt() {
+        coalescer = new ProductLookupCoalescer(false, Duration.ZERO, 100, meterRegistry);
+        CompletableFuture<Optional<ExternalProductDto>> backend = new CompletableFuture<>();
+
+        CompletableFuture<Optional<ExternalProductDto>> leader = coalescer.get(1, () -> backend, unusedBatchLoader());
+        CompletableFuture<Optional<ExternalProductDto>> follower = coalescer.get(1, () -> backend, unusedBatchLoader());
+        backend.completeExceptionally(new IllegalStateException("caido"));
+
+        assertThrows(CompletionException.class, leader::join);
+        assertThrows(CompletionException.class, follower::join);
+        assertTrue(coalescer.get(1, () -> CompletableFuture.completedFuture(Optional.empty()), unusedBatchLoader())
+                .join().isEmpty());
+    }
+
+    @Test
+    void get_ShouldFailOnlyThisFlight_WhenLoaderThrows() {
+        coalescer = new ProductLookupCoalescer(false, Duration.ZERO, 100, meterRegistry);
+
+        CompletableFuture<Optional<ExternalProductDto>> result = coalescer.get(1, () -> {
+            throw new IllegalStateException("caido");
+        }, unusedBatchLoader());
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void get_ShouldBatchDifferentIds_WhenTheyArriveWithinWindow() {
+        coalescer = new ProductLookupCoalescer(true, Duration.ofMillis(50), 100, meterRegistry);
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        Function<List<Integer>, List<ExternalProductDto>> batchLoader = ids -> {
+            batches.add(ids);
+            return ids.stream().filter(id -> id != 3).map(ProductLookupCoalescerTest::product).toList();
+        };
+
+        CompletableFuture<Optional<ExternalProductDto>> first = coalescer.get(1, this::unusedSingleLoader, batchLoader);
+        CompletableFuture<Optional<ExternalProductDto>> second = coalescer.get(2, this::unusedSingleLoader, batchLoader);
+        CompletableFuture<Optional<ExternalProductDto>> repeated = coalescer.get(1, this::unusedSingleLoader, batchLoader);
+        CompletableFuture<Optional<ExternalProductDto>> missing = coalescer.get(3, this::unusedSingleLoader, batchLoader);
+
+        assertEquals(1, first.join().orElseThrow().getId());
+        assertEquals(2, second.join().orElseThrow().getId());
+        assertEquals(1, repeated.join().orElseThrow().getId());
+        assertTrue(missing.join().isEmpty());
+        assertEquals(List.of(List.of(1, 2, 3)), batches);
+        assertEquals(1.0, meterRegistry.get("product.client.backend.calls").tag("type", "batch").counter().count());
+        assertEquals(3.0, meterRegistry.get("product.client.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void get_ShouldDispatchBatchImmediately_WhenMaxSizeIsReached() {
+        coalescer = new ProductLookupCoalescer(true, Duration.ofMinutes(1), 2, meterRegistry);
+        Function<List<Integer>, List<ExternalProductDto>> batchLoader =
+                ids -> ids.stream().map(ProductLookupCoalescerTest::product).toList();
+
+        CompletableFuture<Optional<ExternalProductDto>> first = coalescer.get(1, this::unusedSingleLoader, batchLoader);
+        CompletableFuture<Optional<ExternalProductDto>> second = coalescer.get(2, this::unusedSingleLoader, batchLoader);
+
+        assertEquals(1, first.join().orElseThrow().getId());
+        assertEquals(2, second.join().orElseThrow().getId());
+    }
+
+    @Test
+    void get_ShouldFailWholeBatch_WhenBatchLoaderFails() {
+        coalescer = new ProductLookupCoalescer(true, Duration.ofMillis(10), 100, meterRegistry);
+        Function<List<Integer>, List<ExternalProductDto>> batchLoader = ids -> {
+            throw new IllegalStateException("caido");
+        };
+
+        CompletableFuture<Optional<ExternalProductDto>> first = coalescer.get(1, this::unusedSingleLoader, batchLoader);
+        CompletableFuture<Optional<ExternalProductDto>> second = coalescer.get(2, this::unusedSingleLoader, batchLoader);
+
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    private CompletableFuture<Optional<ExternalProductDto>> unusedSingleLoader() {
+        throw new AssertionError("Con micro-batching no se deben hacer llamadas individuales");
+    }
+
+    private static Function<List<Integer>, List<ExternalProductDto>> unusedBatchLoader() {
+        return ids -> {
+            throw new AssertionError("Sin micro-batching no se deben hacer llamadas por lotes");
+        };
+    }
+
+    private static ExternalProductDto product(Integer id) {
+        return ExternalProductDto.builder().id(id).name("Producto " + id).build();
+    }
+}
@@ -1,20 +1,38 @@
 package dev.scastillo.inventory.unit.infraestructure.rest;
 
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductValidatorCache;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 public class ProductRestClientTest {
     private RestTemplate restTemplate;
@@ -23,7 +41,7 @@ public class ProductRestClientTest {
     @BeforeEach
     void setUp() throws Exception {
         restTemplate = mock(RestTemplate.class);
-        productRestClient = new ProductRestClient(restTemplate);
+        productRestClient = new ProductRestClient(restTemplate, new ProductValidatorCache(true, 100, new SimpleMeterRegistry()));
 
         Field field = ProductRestClient.class.getDeclaredField("productApiBaseUrl");
         field.setAccessible(true);
@@ -91,4 +109,139 @@ public class ProductRestClientTest {
                 eq(ExternalProductDto.class)
         );
     }
+
+    @Test
+    void getProductById_ShouldThrowInternalServerException_WhenProductServiceTimesOut() {
+        Integer productId = 5;
+        String expectedUrl = "http://fake-url/api/v1/products/5";
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(org.springframework.http.HttpMethod.GET),
+                any(org.springframework.http.HttpEntity.class),
+                eq(ExternalProductDto.class)
+        )).thenThrow(new ResourceAccessException("Read timed out"));
+
+        InternalServerException exception = assertThrows(
+                InternalServerException.class,
+                () -> productRestClient.getProductById(productId)
+        );
+        assertTrue(exception.getMessage().contains("No fue posible consultar el producto con id: " + productId));
+    }
+
+    @Test
+    void getProductsByIds_ShouldReturnProducts_WithSingleRequest() throws Exception {
+        Field apiKeyField = ProductRestClient.class.getDeclaredField("apiKey");
+        apiKeyField.setAccessible(true);
+        apiKeyField.set(productRestClient, "dummy-key");
+
+        List<ExternalProductDto> products = List.of(
+                ExternalProductDto.builder().id(1).name("Uno").build(),
+                ExternalProductDto.builder().id(2).name("Dos").build()
+        );
+        String expectedUrl = "http://fake-url/api/v1/products?ids=1,2";
+
+        when(restTemplate.exchange(
+                eq(expectedUrl),
+                eq(org.springframework.http.HttpMethod.GET),
+                any(org.springframework.http.HttpEntity.class),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(products));
+
+        List<ExternalProductDto> result = productRestClient.getProductsByIds(List.of(1, 2));
+
+        assertEquals(2, result.size());
+        verify(restTemplate, times(1)).exchange(
+                eq(expectedUrl),
+                eq(org.springframework.http.HttpMethod.GET),
+                any(org.springframework.http.HttpEntity.class),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    void getProductsByIds_ShouldNotCallProductService_WhenIdsAreEmpty() {
+        List<ExternalProductDto> result = productRestClient.getProductsByIds(List.of());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getProductById_ShouldSendIfNoneMatch_AndReuseProduct_WhenNotModified() {
+        ExternalProductDto product = ExternalProductDto.builder().id(1).name("Test").build();
+        when(restTemplate.exchange(eq("http://fake-url/api/v1/products/1"), eq(HttpMethod.GET), any(HttpEntity.class), eq(ExternalProductDto.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"1-100\"").body(product))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"1-100\"").build());
+
+        productRestClient.getProductById(1);
+        Optional<ExternalProductDto> result = productRestClient.getProductById(1);
+
+        assertSame(product, result.orElseThrow());
+        ArgumentCaptor<HttpEntity<Void>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), requests.capture(), eq(ExternalProductDto.class));
+        assertNull(requests.getAllValues().get(0).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"1-100\"", requests.getAllValues().get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void getProductById_ShouldNotSendValidators_AfterProductIsNotFound() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ExternalProductDto.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"1-100\"").body(ExternalProductDto.builder().id(1).build()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null))
+                .thenReturn(ResponseEntity.ok(ExternalProductDto.builder().id(1).build()));
+
+        productRestClient.getProductById(1);
+        assertTrue(productRestClient.getProductById(1).isEmpty());
+        productRestClient.getProductById(1);
+
+        ArgumentCaptor<HttpEntity> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(3)).exchange(anyString(), eq(HttpMethod.GET), requests.capture(), eq(ExternalProductDto.class));
+        assertNull(requests.getAllValues().get(2).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getProductsByIds_ShouldAcceptSmile_WhenFormatIsSmile() throws Exception {
+        Field formatField = ProductRestClient.class.getDeclaredField("format");
+        formatField.setAccessible(true);
+        formatField.set(productRestClient, "smile");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(List.of()));
+
+        productRestClient.getProductsByIds(List.of(1));
+
+        ArgumentCaptor<HttpEntity<Void>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).exchange(anyString(), eq(HttpMethod.GET), request.capture(), any(ParameterizedTypeReference.class));
+        assertEquals("application/x-jackson-smile, application/json;q=0.9",
+                request.getValue().getHeaders().getFirst(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    void getProductsByIds_ShouldDecodeSmileResponse_WithDefaultConverters() throws Exception {
+        // Arrange
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        ProductRestClient smileClient = new ProductRestClient(realRestTemplate, new ProductValidatorCache(false, 0, new SimpleMeterRegistry()));
+        for (String[] value : new String[][]{{"productApiBaseUrl", "http://fake-url"}, {"apiKey", "dummy-key"}, {"format", "smile"}}) {
+            Field field = ProductRestClient.class.getDeclaredField(value[0]);
+            field.setAccessible(true);
+            field.set(smileClient, value[1]);
+        }
+        byte[] body = new SmileMapper().writeValueAsBytes(List.of(
+                ExternalProductDto.builder().id(1).name("Uno").price(new BigDecimal("10.50")).build()));
+        server.expect(requestTo("http://fake-url/api/v1/products?ids=1"))
+                .andExpect(header(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.9"))
+                .andRespond(withSuccess(body, MediaType.parseMediaType("application/x-jackson-smile")));
+
+        // Act
+        List<ExternalProductDto> result = smileClient.getProductsByIds(List.of(1));
+
+        // Assert
+        server.verify();
+        assertEquals(1, result.size());
+        assertEquals("Uno", result.get(0).getName());
+        assertEquals(new BigDecimal("10.50"), result.get(0).getPrice());
+    }
 }
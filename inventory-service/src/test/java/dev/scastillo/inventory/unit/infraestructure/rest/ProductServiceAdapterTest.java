@@ -1,12 +1,25 @@
 package dev.scastillo.inventory.unit.infraestructure.rest;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.scastillo.inventory.infraestructure.rest.ProductAsyncRestClient;
+import dev.scastillo.inventory.infraestructure.rest.ProductClientResilience;
+import dev.scastillo.inventory.infraestructure.rest.ProductLookupCoalescer;
 import dev.scastillo.inventory.infraestructure.rest.ProductRestClient;
 import dev.scastillo.inventory.infraestructure.rest.ProductServiceAdapter;
 import dev.scastillo.inventory.infraestructure.rest.dto.ExternalProductDto;
+import dev.scastillo.inventory.shared.exception.InternalServerException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -15,12 +28,22 @@ import static org.mockito.Mockito.when;
 
 public class ProductServiceAdapterTest {
     private ProductRestClient client;
+    private ProductAsyncRestClient asyncClient;
     private ProductServiceAdapter adapter;
 
     @BeforeEach
     void setUp() {
         client = mock(ProductRestClient.class);
-        adapter = new ProductServiceAdapter(client);
+        asyncClient = mock(ProductAsyncRestClient.class);
+        ProductClientResilience resilience = new ProductClientResilience(
+                Retry.of("test", RetryConfig.custom().maxAttempts(1).build()),
+                CircuitBreaker.ofDefaults("test"),
+                Bulkhead.ofDefaults("test"),
+                null,
+                Caffeine.newBuilder().<Integer, ExternalProductDto>build(),
+                new SimpleMeterRegistry().counter("fallback"));
+        adapter = new ProductServiceAdapter(client, asyncClient, resilience,
+                new ProductLookupCoalescer(false, Duration.ZERO, 100, new SimpleMeterRegistry()));
     }
 
     @Test
@@ -47,4 +70,78 @@ public class ProductServiceAdapterTest {
         assertFalse(result.isPresent());
         verify(client).getProductById(productId);
     }
+
+    @Test
+    void getProductByIdAsync_ShouldDelegateToAsyncClient() {
+        Integer productId = 1;
+        ExternalProductDto product = ExternalProductDto.builder().id(productId).name("Test").build();
+        CompletableFuture<Optional<ExternalProductDto>> future = new CompletableFuture<>();
+        when(asyncClient.getProductById(productId)).thenReturn(future);
+
+        CompletableFuture<Optional<ExternalProductDto>> result = adapter.getProductByIdAsync(productId);
+        future.complete(Optional.of(product));
+
+        assertSame(product, result.join().orElseThrow());
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void getProductsByIds_ShouldDelegateToClient() {
+        List<Integer> ids = List.of(1, 2);
+        List<ExternalProductDto> products = List.of(ExternalProductDto.builder().id(1).name("Test").build());
+        when(client.getProductsByIds(ids)).thenReturn(products);
+
+        List<ExternalProductDto> result = adapter.getProductsByIds(ids);
+
+        assertEquals(products, result);
+        verify(client).getProductsByIds(ids);
+    }
+
+    @Test
+    void getProductById_ShouldReturnLastKnownProduct_WhenProductServiceFails() {
+        Integer productId = 1;
+        ExternalProductDto product = ExternalProductDto.builder().id(productId).name("Test").build();
+        when(client.getProductById(productId))
+                .thenReturn(Optional.of(product))
+                .thenThrow(new InternalServerException("No fue posible consultar el producto con id: 1"));
+
+        adapter.getProductById(productId);
+        Optional<ExternalProductDto> result = adapter.getProductById(productId);
+
+        assertSame(product, result.orElseThrow());
+    }
+
+    @Test
+    void getProductById_ShouldRethrow_WhenFailsWithoutLastKnownProduct() {
+        when(client.getProductById(7)).thenThrow(new InternalServerException("No fue posible consultar el producto con id: 7"));
+
+        assertThrows(InternalServerException.class, () -> adapter.getProductById(7));
+    }
+
+    @Test
+    void getProductByIdAsync_ShouldReturnLastKnownProduct_WhenProductServiceFails() {
+        Integer productId = 2;
+        ExternalProductDto product = ExternalProductDto.builder().id(productId).name("Dos").build();
+        when(asyncClient.getProductById(productId))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(product)))
+                .thenReturn(CompletableFuture.failedFuture(new InternalServerException("caido")));
+
+        adapter.getProductByIdAsync(productId).join();
+        Optional<ExternalProductDto> result = adapter.getProductByIdAsync(productId).join();
+
+        assertSame(product, result.orElseThrow());
+    }
+
+    @Test
+    void getProductsByIds_ShouldRethrow_WhenSomeProductHasNoLastKnownVersion() {
+        ExternalProductDto product = ExternalProductDto.builder().id(1).name("Uno").build();
+        when(client.getProductsByIds(List.of(1)))
+                .thenReturn(List.of(product));
+        when(client.getProductsByIds(List.of(1, 2)))
+                .thenThrow(new InternalServerException("No fue posible consultar los productos"));
+
+        adapter.getProductsByIds(List.of(1));
+
+        assertThrows(InternalServerException.class, () -> adapter.getProductsByIds(List.of(1, 2)));
+    }
 }
@@ -0,0 +1,73 @@
+package dev.scastillo.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resultado del barrido de concurrencia. Un nivel es sostenible si no tuvo errores y su p99 de consultas
+ * quedo dentro del objetivo.
+ */
+public record ConcurrencyReport(boolean virtualThreads, Duration sloP99, List<Level> levels) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public record Level(int clients, WorkloadDriver.PhaseResult result) {
+
+        public double throughput() {
+            long total = result.reads().getTotal() + result.purchases().getTotal();
+            return total / (result.elapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        public long failed() {
+            return result.reads().getFailed() + result.purchases().getFailed();
+        }
+
+        public long readP99Nanos() {
+            return result.reads().getLatencies().getValueAtPercentile(99);
+        }
+    }
+
+    public boolean isSustainable(Level level) {
+        return level.failed() == 0 && level.readP99Nanos() <= sloP99.toNanos();
+    }
+
+    /**
+     * Mayor numero de clientes concurrentes sostenible, o 0 si ningun nivel lo fue.
+     */
+    public int maxSustainableConcurrency() {
+        return levels.stream()
+                .filter(this::isSustainable)
+                .mapToInt(Level::clients)
+                .max()
+                .orElse(0);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("hilos virtuales=%s, objetivo p99=%d ms%n", virtualThreads, sloP99.toMillis());
+        out.printf("%8s %9s %9s %9s %8s %10s%n", "clientes", "req/s", "p50 ms", "p99 ms", "errores", "sostenible");
+        for (Level level : levels) {
+            Histogram reads = level.result().reads().getLatencies();
+            out.printf("%8d %9.1f %9.2f %9.2f %8d %10s%n",
+                    level.clients(), level.throughput(),
+                    reads.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    level.readP99Nanos() / NANOS_PER_MILLI,
+                    level.failed(),
+                    isSustainable(level) ? "si" : "no");
+        }
+        out.printf("concurrencia maxima sostenible: %d clientes%n", maxSustainableConcurrency());
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String file = "concurrency-" + (virtualThreads ? "virtual" : "platform") + ".txt";
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(file)))) {
+            print(out);
+        }
+    }
+}
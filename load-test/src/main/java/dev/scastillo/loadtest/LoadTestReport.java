@@ -0,0 +1,69 @@
+package dev.scastillo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resultado de la fase medida. Las latencias se guardan en nanosegundos y se reportan en milisegundos.
+ */
+public record LoadTestReport(List<OperationStats> operations, long elapsedNanos, StockVerification stock) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public OperationStats operation(String name) {
+        return operations.stream()
+                .filter(stats -> stats.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public long totalFailed() {
+        return operations.stream().mapToLong(OperationStats::getFailed).sum();
+    }
+
+    public void print(PrintStream out) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("%-9s %8s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operacion", "total", "ok", "409", "errores", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (OperationStats stats : operations) {
+            Histogram latencies = stats.getLatencies();
+            out.printf("%-9s %8d %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.getName(), stats.getTotal(), stats.getSucceeded(), stats.getRejected(), stats.getFailed(),
+                    stats.getTotal() / seconds,
+                    latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    latencies.getMaxValue() / NANOS_PER_MILLI);
+        }
+        out.printf("stock: sobreventa=%d unidades, stock negativo=%d, inconsistentes=%d, compras no registradas=%d%n",
+                stock.oversoldUnits(), stock.negativeStock(), stock.inconsistentStock(), stock.unrecordedPurchases());
+    }
+
+    /**
+     * Escribe por operacion la distribucion de percentiles ({@code .hgrm}, graficable con HdrHistogram Plotter)
+     * y el histograma completo en formato log ({@code .hlog}) para compararlo entre corridas.
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (OperationStats stats : operations) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(stats.getName() + ".hgrm")))) {
+                stats.getLatencies().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(stats.getName() + ".hlog")))) {
+                HistogramLogWriter writer = new HistogramLogWriter(out);
+                writer.outputLogFormatVersion();
+                writer.outputLegend();
+                writer.outputIntervalHistogram(stats.getLatencies());
+            }
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(out);
+        }
+    }
+}
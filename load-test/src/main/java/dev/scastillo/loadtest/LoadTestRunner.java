@@ -0,0 +1,109 @@
+package dev.scastillo.loadtest;
+
+import dev.scastillo.inventory.domain.model.ProductStock;
+import dev.scastillo.inventory.domain.repository.ProductStockRepository;
+import dev.scastillo.inventory.infraestructure.reservation.InMemoryStockReservationEngine;
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prueba de carga de extremo a extremo: levanta product-service e inventory-service en el mismo proceso,
+ * siembra productos y stock, ejecuta una fase de calentamiento y una fase medida, y reporta latencias y sobreventa.
+ * <p>
+ * Ejecutar con {@code mvn compile exec:java -Dloadtest.rps=300 -Dloadtest.duration=60s}, despues de instalar ambos
+ * servicios con {@code mvn install}. Con {@code -Dloadtest.mode=concurrency} se hace un barrido de concurrencia en
+ * lazo cerrado.
+ * <p>
+ * Los dos servicios y el generador de carga comparten la JVM: compiten por CPU y por el recolector de basura, asi que
+ * las latencias absolutas quedan por encima de las de un despliegue real. Sirven para comparar configuraciones entre
+ * si en la misma maquina, no como capacidad de produccion.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if ("concurrency".equals(System.getProperty("loadtest.mode"))) {
+            ConcurrencyReport report = runConcurrencySweep(settings);
+            report.print(System.out);
+            report.write(settings.getOutputDirectory());
+            System.exit(0);
+        }
+        LoadTestReport report = run(settings);
+        report.print(System.out);
+        report.write(settings.getOutputDirectory());
+        System.out.println("Histogramas escritos en " + settings.getOutputDirectory().toAbsolutePath());
+        System.exit(report.stock().isConsistent() ? 0 : 1);
+    }
+
+    public static LoadTestReport run(LoadTestSettings settings) throws Exception {
+        try (ConfigurableApplicationContext product = ServiceLauncher.startProductService(settings);
+             ConfigurableApplicationContext inventory = ServiceLauncher.startInventoryService(ServiceLauncher.port(product), settings)) {
+            List<Integer> productIds = seed(product, inventory, settings);
+
+            try (WorkloadDriver driver = new WorkloadDriver(settings,
+                    "http://localhost:" + ServiceLauncher.port(inventory), productIds)) {
+                if (!settings.getWarmup().isZero()) {
+                    driver.run(settings.getWarmup());
+                }
+                WorkloadDriver.PhaseResult measured = driver.run(settings.getDuration());
+
+                inventory.getBeanProvider(InMemoryStockReservationEngine.class).ifAvailable(InMemoryStockReservationEngine::flush);
+                StockVerification stock = StockVerification.verify(inventory.getBean(JdbcTemplate.class),
+                        settings.getInitialStock(), driver.acceptedUnitsByProduct());
+                return new LoadTestReport(List.of(measured.reads(), measured.purchases()), measured.elapsedNanos(), stock);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta la carga de lazo cerrado con cada nivel de {@code loadtest.concurrency-levels}, de menor a mayor.
+     */
+    public static ConcurrencyReport runConcurrencySweep(LoadTestSettings settings) throws Exception {
+        try (ConfigurableApplicationContext product = ServiceLauncher.startProductService(settings);
+             ConfigurableApplicationContext inventory = ServiceLauncher.startInventoryService(ServiceLauncher.port(product), settings)) {
+            List<Integer> productIds = seed(product, inventory, settings);
+
+            try (WorkloadDriver driver = new WorkloadDriver(settings,
+                    "http://localhost:" + ServiceLauncher.port(inventory), productIds)) {
+                if (!settings.getWarmup().isZero()) {
+                    driver.runClosedLoop(settings.getConcurrencyLevels().get(0), settings.getWarmup());
+                }
+                List<ConcurrencyReport.Level> levels = new ArrayList<>();
+                for (int clients : settings.getConcurrencyLevels().stream().sorted().toList()) {
+                    levels.add(new ConcurrencyReport.Level(clients, driver.runClosedLoop(clients, settings.getDuration())));
+                }
+                return new ConcurrencyReport(settings.isVirtualThreadsEnabled(), settings.getSloP99(), levels);
+            }
+        }
+    }
+
+    private static List<Integer> seed(ConfigurableApplicationContext product, ConfigurableApplicationContext inventory,
+                                      LoadTestSettings settings) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 1; i <= settings.getProducts(); i++) {
+            products.add(Product.builder()
+                    .name("Producto carga " + i)
+                    .price(new BigDecimal("10.00"))
+                    .description("Producto sembrado para la prueba de carga")
+                    .build());
+        }
+        List<Integer> productIds = product.getBean(ProductRepository.class).saveAll(products).stream()
+                .map(Product::getId)
+                .toList();
+
+        ProductStockRepository productStockRepository = inventory.getBean(ProductStockRepository.class);
+        for (Integer productId : productIds) {
+            productStockRepository.save(ProductStock.builder()
+                    .productId(productId)
+                    .quantity(settings.getInitialStock())
+                    .build());
+        }
+        return productIds;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.scastillo.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parametros de la prueba de carga. Se leen de propiedades del sistema {@code loadtest.*}.
+ */
+@Getter
+@Builder
+public class LoadTestSettings {
+    private final int requestsPerSecond;
+    private final Duration duration;
+    private final Duration warmup;
+    private final double readRatio;
+    private final int products;
+    private final int initialStock;
+    private final boolean productCacheEnabled;
+    private final boolean reservationEngineEnabled;
+    private final boolean virtualThreadsEnabled;
+    private final Duration productLatency;
+    private final List<Integer> concurrencyLevels;
+    private final Duration sloP99;
+    private final Duration requestTimeout;
+    private final Path outputDirectory;
+
+    public static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = LoadTestSettings.builder()
+                .requestsPerSecond(Integer.getInteger("loadtest.rps", 200))
+                .duration(duration("loadtest.duration", "30s"))
+                .warmup(duration("loadtest.warmup", "10s"))
+                .readRatio(Double.parseDouble(System.getProperty("loadtest.read-ratio", "0.8")))
+                .products(Integer.getInteger("loadtest.products", 100))
+                .initialStock(Integer.getInteger("loadtest.initial-stock", 1000))
+                .productCacheEnabled(Boolean.parseBoolean(System.getProperty("loadtest.product-cache", "true")))
+                .reservationEngineEnabled(Boolean.parseBoolean(System.getProperty("loadtest.reservation-engine", "false")))
+                .virtualThreadsEnabled(Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false")))
+                .productLatency(duration("loadtest.product-latency", "0ms"))
+                .concurrencyLevels(Arrays.stream(System.getProperty("loadtest.concurrency-levels", "50,100,200,400,800").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList())
+                .sloP99(duration("loadtest.slo-p99", "500ms"))
+                .requestTimeout(duration("loadtest.request-timeout", "10s"))
+                .outputDirectory(Path.of(System.getProperty("loadtest.output-dir", "target/load-test")))
+                .build();
+        settings.validate();
+        return settings;
+    }
+
+    void validate() {
+        if (requestsPerSecond < 1) {
+            throw new IllegalArgumentException("loadtest.rps debe ser mayor a cero");
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("loadtest.read-ratio debe estar entre 0 y 1");
+        }
+        if (concurrencyLevels.stream().anyMatch(level -> level < 1)) {
+            throw new IllegalArgumentException("loadtest.concurrency-levels debe contener valores mayores a cero");
+        }
+        if (products < 1 || initialStock < 0) {
+            throw new IllegalArgumentException("loadtest.products debe ser mayor a cero y loadtest.initial-stock no negativo");
+        }
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
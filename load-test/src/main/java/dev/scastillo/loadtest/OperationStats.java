@@ -0,0 +1,68 @@
+package dev.scastillo.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y conteos de un tipo de operacion. La latencia se mide desde el instante en que la
+ * solicitud debia enviarse, de modo que las esperas por saturacion tambien cuentan.
+ */
+public class OperationStats {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    void recordSuccess(long latencyNanos) {
+        record(latencyNanos);
+        succeeded.increment();
+    }
+
+    void recordRejected(long latencyNanos) {
+        record(latencyNanos);
+        rejected.increment();
+    }
+
+    void recordFailure(long latencyNanos) {
+        record(latencyNanos);
+        failed.increment();
+    }
+
+    private void record(long latencyNanos) {
+        latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    public long getTotal() {
+        return latencies.getTotalCount();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+}
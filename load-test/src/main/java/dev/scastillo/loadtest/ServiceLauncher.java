@@ -0,0 +1,63 @@
+package dev.scastillo.loadtest;
+
+import dev.scastillo.inventory.InventoryApplication;
+import dev.scastillo.product.ProductApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Levanta ambos servicios en el mismo proceso, en puertos aleatorios y con H2 en memoria.
+ * Las propiedades se pasan como valores por defecto, asi que se pueden sobrescribir con -D. No se lee el
+ * application.yml de ningun servicio: ambos jar traen uno y en el mismo classpath solo se veria el primero.
+ */
+final class ServiceLauncher {
+    static final String API_KEY = "load-test-api-key";
+
+    private ServiceLauncher() {
+    }
+
+    static ConfigurableApplicationContext startProductService(LoadTestSettings settings) {
+        Map<String, Object> properties = commonProperties("product", settings);
+        properties.put("loadtest.product-latency", settings.getProductLatency().toMillis() + "ms");
+        return new SpringApplicationBuilder(ProductApplication.class, SimulatedLatencyConfig.class)
+                .properties(properties)
+                .run();
+    }
+
+    static ConfigurableApplicationContext startInventoryService(int productPort, LoadTestSettings settings) {
+        Map<String, Object> properties = commonProperties("inventory", settings);
+        properties.put("product.api.base-url", "http://localhost:" + productPort);
+        properties.put("product.api.api-key", API_KEY);
+        properties.put("product.cache.enabled", settings.isProductCacheEnabled());
+        properties.put("inventory.reservation.enabled", settings.isReservationEngineEnabled());
+        return new SpringApplicationBuilder(InventoryApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    private static Map<String, Object> commonProperties(String service, LoadTestSettings settings) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.application.name", service + "-service");
+        properties.put("spring.config.name", "load-test");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", settings.isVirtualThreadsEnabled());
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + service + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", 50);
+        properties.put("spring.jpa.properties.hibernate.order_inserts", true);
+        properties.put("security.api-key", API_KEY);
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.scastillo.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Agrega una espera fija a cada respuesta de product-service para simular un servicio remoto lento.
+ * Con la espera, cada consulta de inventario ocupa su hilo durante toda la llamada HTTP.
+ */
+@Configuration
+class SimulatedLatencyConfig {
+
+    @Bean
+    OncePerRequestFilter simulatedLatencyFilter(@Value("${loadtest.product-latency:0ms}") Duration latency) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                if (!latency.isZero()) {
+                    try {
+                        Thread.sleep(latency);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                filterChain.doFilter(request, response);
+            }
+        };
+    }
+}
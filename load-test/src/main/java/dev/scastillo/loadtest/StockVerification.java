@@ -0,0 +1,57 @@
+package dev.scastillo.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contrasta el stock final de cada producto con las compras registradas y con las compras que el cliente
+ * vio aceptadas. Cualquier valor distinto de cero indica sobreventa o perdida de consistencia.
+ *
+ * @param oversoldUnits      unidades vendidas por encima del stock inicial
+ * @param negativeStock      productos que terminaron con stock negativo
+ * @param inconsistentStock  productos donde stock final + vendido no coincide con el stock inicial
+ * @param unrecordedPurchases productos donde las compras aceptadas por el cliente no coinciden con las persistidas
+ */
+public record StockVerification(long oversoldUnits, int negativeStock, int inconsistentStock, int unrecordedPurchases) {
+
+    static StockVerification verify(JdbcTemplate jdbcTemplate, int initialStock, Map<Integer, Long> acceptedUnits) {
+        Map<Integer, Long> sold = new HashMap<>();
+        jdbcTemplate.query("select product_id, sum(quantity) from purchases group by product_id",
+                rs -> {
+                    sold.put(rs.getInt(1), rs.getLong(2));
+                });
+
+        long oversold = 0;
+        int negative = 0;
+        int inconsistent = 0;
+        Map<Integer, Long> stock = new HashMap<>();
+        jdbcTemplate.query("select product_id, quantity from product_stock",
+                rs -> {
+                    stock.put(rs.getInt(1), rs.getLong(2));
+                });
+        for (Map.Entry<Integer, Long> entry : stock.entrySet()) {
+            long soldUnits = sold.getOrDefault(entry.getKey(), 0L);
+            oversold += Math.max(0, soldUnits - initialStock);
+            if (entry.getValue() < 0) {
+                negative++;
+            }
+            if (entry.getValue() + soldUnits != initialStock) {
+                inconsistent++;
+            }
+        }
+
+        int unrecorded = 0;
+        for (Integer productId : stock.keySet()) {
+            if (!acceptedUnits.getOrDefault(productId, 0L).equals(sold.getOrDefault(productId, 0L))) {
+                unrecorded++;
+            }
+        }
+        return new StockVerification(oversold, negative, inconsistent, unrecorded);
+    }
+
+    public boolean isConsistent() {
+        return oversoldUnits == 0 && negativeStock == 0 && inconsistentStock == 0 && unrecordedPurchases == 0;
+    }
+}
@@ -0,0 +1,169 @@
+package dev.scastillo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Genera carga de lazo abierto: las solicitudes salen a intervalos fijos sin esperar a las anteriores,
+ * asi que un servicio lento acumula solicitudes pendientes en vez de reducir el ritmo de la prueba.
+ */
+class WorkloadDriver implements AutoCloseable {
+    private final LoadTestSettings settings;
+    private final String inventoryBaseUrl;
+    private final List<Integer> productIds;
+    private final HttpClient httpClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Integer, LongAdder> acceptedUnits = new ConcurrentHashMap<>();
+
+    WorkloadDriver(LoadTestSettings settings, String inventoryBaseUrl, List<Integer> productIds) {
+        this.settings = settings;
+        this.inventoryBaseUrl = inventoryBaseUrl;
+        this.productIds = productIds;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(settings.getRequestTimeout())
+                .build();
+    }
+
+    /**
+     * Ejecuta una fase completa y espera a que terminen las solicitudes en vuelo.
+     */
+    PhaseResult run(Duration duration) throws InterruptedException {
+        OperationStats reads = new OperationStats("read");
+        OperationStats purchases = new OperationStats("purchase");
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRequestsPerSecond();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        LongAdder inFlight = new LongAdder();
+
+        for (long intendedStart = start; intendedStart < end; intendedStart += intervalNanos) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduledAt = intendedStart;
+            inFlight.increment();
+            executor.execute(() -> {
+                try {
+                    sendNext(scheduledAt, reads, purchases);
+                } finally {
+                    inFlight.decrement();
+                }
+            });
+        }
+        long deadline = System.nanoTime() + settings.getRequestTimeout().toNanos();
+        while (inFlight.sum() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new PhaseResult(reads, purchases, elapsed);
+    }
+
+    /**
+     * Carga de lazo cerrado: {@code clients} clientes envian una solicitud tras otra durante {@code duration}.
+     * Sirve para encontrar la concurrencia maxima que los servicios sostienen, no para medir latencia a tasa fija.
+     */
+    PhaseResult runClosedLoop(int clients, Duration duration) throws InterruptedException {
+        OperationStats reads = new OperationStats("read");
+        OperationStats purchases = new OperationStats("purchase");
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < end) {
+                        sendNext(System.nanoTime(), reads, purchases);
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await(duration.plus(settings.getRequestTimeout()).toMillis(), TimeUnit.MILLISECONDS);
+        long elapsed = System.nanoTime() - start;
+        return new PhaseResult(reads, purchases, elapsed);
+    }
+
+    private void sendNext(long scheduledAt, OperationStats reads, OperationStats purchases) {
+        int productId = productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+        if (ThreadLocalRandom.current().nextDouble() < settings.getReadRatio()) {
+            read(productId, scheduledAt, reads);
+        } else {
+            purchase(productId, scheduledAt, purchases);
+        }
+    }
+
+    Map<Integer, Long> acceptedUnitsByProduct() {
+        Map<Integer, Long> result = new ConcurrentHashMap<>();
+        acceptedUnits.forEach((productId, units) -> result.put(productId, units.sum()));
+        return result;
+    }
+
+    private void read(int productId, long scheduledAt, OperationStats stats) {
+        HttpRequest request = request("/api/v1/inventory/products/" + productId).GET().build();
+        int status = send(request);
+        long latency = System.nanoTime() - scheduledAt;
+        if (status == 200) {
+            stats.recordSuccess(latency);
+        } else {
+            stats.recordFailure(latency);
+        }
+    }
+
+    private void purchase(int productId, long scheduledAt, OperationStats stats) {
+        String body = "{\"productId\":" + productId + ",\"quantity\":1}";
+        HttpRequest request = request("/api/v1/purchases")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        int status = send(request);
+        long latency = System.nanoTime() - scheduledAt;
+        if (status >= 200 && status < 300) {
+            acceptedUnits.computeIfAbsent(productId, id -> new LongAdder()).increment();
+            stats.recordSuccess(latency);
+        } else if (status == 409) {
+            stats.recordRejected(latency);
+        } else {
+            stats.recordFailure(latency);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(inventoryBaseUrl + path))
+                .timeout(settings.getRequestTimeout())
+                .header("X-API-KEY", ServiceLauncher.API_KEY);
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    record PhaseResult(OperationStats reads, OperationStats purchases, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,66 @@
+package dev.scastillo.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadTestRunnerTest {
+
+    @Test
+    void run_ShouldNotOversell_WhenPurchasesExceedStock() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.builder()
+                .requestsPerSecond(50)
+                .duration(Duration.ofSeconds(2))
+                .warmup(Duration.ofMillis(500))
+                .readRatio(0.3)
+                .products(3)
+                .initialStock(5)
+                .productCacheEnabled(true)
+                .reservationEngineEnabled(false)
+                .virtualThreadsEnabled(false)
+                .productLatency(Duration.ZERO)
+                .concurrencyLevels(List.of(2))
+                .sloP99(Duration.ofSeconds(1))
+                .requestTimeout(Duration.ofSeconds(10))
+                .outputDirectory(Path.of("target/load-test"))
+                .build();
+
+        LoadTestReport report = LoadTestRunner.run(settings);
+
+        assertTrue(report.stock().isConsistent());
+        assertEquals(0, report.totalFailed());
+        assertTrue(report.operation("purchase").getRejected() > 0);
+        assertTrue(report.operation("read").getSucceeded() > 0);
+    }
+
+    @Test
+    void runConcurrencySweep_ShouldReportEachLevel_WhenVirtualThreadsAreEnabled() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.builder()
+                .requestsPerSecond(1)
+                .duration(Duration.ofSeconds(1))
+                .warmup(Duration.ZERO)
+                .readRatio(1.0)
+                .products(3)
+                .initialStock(5)
+                .productCacheEnabled(false)
+                .reservationEngineEnabled(false)
+                .virtualThreadsEnabled(true)
+                .productLatency(Duration.ofMillis(20))
+                .concurrencyLevels(List.of(4, 2))
+                .sloP99(Duration.ofSeconds(5))
+                .requestTimeout(Duration.ofSeconds(10))
+                .outputDirectory(Path.of("target/load-test"))
+                .build();
+
+        ConcurrencyReport report = LoadTestRunner.runConcurrencySweep(settings);
+
+        assertEquals(List.of(2, 4), report.levels().stream().map(ConcurrencyReport.Level::clients).toList());
+        assertTrue(report.levels().stream().allMatch(level -> level.result().reads().getSucceeded() > 0));
+        assertEquals(4, report.maxSustainableConcurrency());
+    }
+}
@@ -0,0 +1,51 @@
+package dev.scastillo.product.benchmark;
+
+import dev.scastillo.product.config.ApiKeyAuthFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiKeyAuthFilterBenchmark {
+    private static final String API_KEY = "benchmark-api-key";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private final ApiKeyAuthFilter filter = new ApiKeyAuthFilter();
+    private MockHttpServletRequest validRequest;
+    private MockHttpServletRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(filter, "configuredApiKey", API_KEY);
+        validRequest = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        validRequest.addHeader("X-API-KEY", API_KEY);
+        invalidRequest = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        invalidRequest.addHeader("X-API-KEY", "clave-incorrecta");
+    }
+
+    @Benchmark
+    public int validApiKey() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(validRequest, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int invalidApiKey() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(invalidRequest, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,94 @@
+package dev.scastillo.product.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import dev.scastillo.product.adapter.web.dto.ProductDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Costo de serializar el catalogo completo ({@code GET /api/v1/products}) en cada codificacion.
+ * Los bytes enviados por cada una se imprimen al iniciar el benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogEncodingBenchmark {
+    private static final TypeReference<List<ProductDto>> PRODUCT_LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"1000"})
+    private int products;
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter blackbirdWriter;
+    private ObjectWriter smileWriter;
+    private List<ProductDto> catalog;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonWriter = Jackson2ObjectMapperBuilder.json().build().writerFor(PRODUCT_LIST_TYPE);
+        blackbirdWriter = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build()
+                .writerFor(PRODUCT_LIST_TYPE);
+        smileWriter = Jackson2ObjectMapperBuilder.smile()
+                .modulesToInstall(new BlackbirdModule()).build()
+                .writerFor(PRODUCT_LIST_TYPE);
+        catalog = IntStream.rangeClosed(1, products)
+                .mapToObj(id -> new ProductDto(id, "Producto " + id, new BigDecimal("249900.00"),
+                        "Teclado mecánico con switches rojos y retroiluminación " + id))
+                .toList();
+
+        byte[] json = jsonWriter.writeValueAsBytes(catalog);
+        byte[] smile = smileWriter.writeValueAsBytes(catalog);
+        System.out.printf("Bytes por respuesta (%d productos): json=%d, json+gzip=%d, smile=%d, smile+gzip=%d%n",
+                products, json.length, gzip(json).length, smile.length, gzip(smile).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonWriter.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public byte[] jsonBlackbird() throws IOException {
+        return blackbirdWriter.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public byte[] jsonBlackbirdGzip() throws IOException {
+        return gzip(blackbirdWriter.writeValueAsBytes(catalog));
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smileWriter.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public byte[] smileGzip() throws IOException {
+        return gzip(smileWriter.writeValueAsBytes(catalog));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
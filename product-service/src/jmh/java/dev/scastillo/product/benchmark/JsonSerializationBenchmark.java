@@ -0,0 +1,47 @@
+package dev.scastillo.product.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.scastillo.product.adapter.web.dto.ProductDto;
+import dev.scastillo.product.adapter.web.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ProductDto product;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Misma configuracion base que usa Spring Boot para los controladores
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(ProductDto.class);
+        reader = objectMapper.readerFor(ProductDto.class);
+        product = new ProductMapperImpl().toDto(ProductMapperBenchmark.product());
+        json = writer.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializeProductDto() throws Exception {
+        return writer.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public ProductDto deserializeProductDto() throws Exception {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.scastillo.product.benchmark;
+
+import dev.scastillo.product.adapter.web.dto.ProductCreateRequestDto;
+import dev.scastillo.product.adapter.web.dto.ProductDto;
+import dev.scastillo.product.adapter.web.mapper.ProductMapper;
+import dev.scastillo.product.adapter.web.mapper.ProductMapperImpl;
+import dev.scastillo.product.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMapperBenchmark {
+    private final ProductMapper productMapper = new ProductMapperImpl();
+    private Product product;
+    private ProductCreateRequestDto request;
+
+    @Setup
+    public void setUp() {
+        product = product();
+        request = ProductCreateRequestDto.builder()
+                .name(product.getName())
+                .price(product.getPrice())
+                .description(product.getDescription())
+                .build();
+    }
+
+    @Benchmark
+    public ProductDto toDto() {
+        return productMapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product toDomain() {
+        return productMapper.toDomain(request);
+    }
+
+    static Product product() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 8, 1, 10, 30, 0, 0, ZoneOffset.ofHours(-5));
+        return Product.builder()
+                .id(42)
+                .name("Teclado mecánico")
+                .price(new BigDecimal("249900.00"))
+                .description("Teclado mecánico con switches rojos y retroiluminación")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -1,13 +1,35 @@
 package dev.scastillo.product.adapter.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import dev.scastillo.product.adapter.web.dto.ProductCreateRequestDto;
 import dev.scastillo.product.adapter.web.dto.ProductDto;
 import dev.scastillo.product.adapter.web.mapper.ProductMapper;
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
 import dev.scastillo.product.domain.service.ProductService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -15,6 +37,8 @@ import java.util.List;
 public class ProductController {
     private final ProductService productService;
     private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheControl productCacheControl;
 
     @PostMapping
     public ProductDto createProduct(@RequestBody ProductCreateRequestDto request){
@@ -26,16 +50,90 @@ public class ProductController {
     }
 
     @GetMapping("/{id}")
-    public ProductDto getProductById(@PathVariable Integer id) {
-        return productMapper.toDto(productService.getProductById(id));
+    public ResponseEntity<ProductDto> getProductById(@PathVariable Integer id, WebRequest request) {
+        Product product = productService.getProductById(id);
+        String eTag = product.getUpdatedAt() == null ? null : weakETag(product.getId() + "-" + version(product.getUpdatedAt()));
+        return conditional(request, eTag, product.getUpdatedAt(), () -> productMapper.toDto(product));
     }
 
-    @GetMapping
-    public List<ProductDto> getAllProducts() {
-        return productService.getAllProducts().stream()
+    @GetMapping(params = "ids")
+    public List<ProductDto> getProductsByIds(@RequestParam Set<Integer> ids) {
+        return productService.getProductsByIds(ids).stream()
+                .map(productMapper::toDto)
+                .toList();
+    }
+
+    @GetMapping(params = "limit")
+    public List<ProductDto> getProductsPage(@RequestParam(required = false) Integer after,
+                                            @RequestParam Integer limit) {
+        return productService.getProductsPage(after, limit).stream()
                 .map(productMapper::toDto)
                 .toList();
     }
 
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        ObjectWriter writer = objectMapper.writerFor(ProductDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> productService.streamAllProducts(
+                product -> writeLine(outputStream, writer, productMapper.toDto(product))
+        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 
+    @GetMapping
+    public ResponseEntity<List<ProductDto>> getAllProducts(WebRequest request) {
+        // La version se lee antes que la lista: si cambia entre ambas consultas el cliente recibe datos
+        // mas nuevos que su ETag y simplemente los vuelve a descargar en la siguiente revalidacion
+        ProductCatalogVersion catalogVersion = productService.getCatalogVersion();
+        OffsetDateTime lastUpdatedAt = catalogVersion.getLastUpdatedAt();
+        String eTag = weakETag("all-" + catalogVersion.getCount() + "-" + (lastUpdatedAt == null ? 0 : version(lastUpdatedAt)));
+        return conditional(request, eTag, lastUpdatedAt, () -> productService.getAllProducts().stream()
+                .map(productMapper::toDto)
+                .toList());
+    }
+
+    /**
+     * Responde 304 sin construir ni serializar el cuerpo cuando el cliente ya tiene la version actual.
+     * La respuesta varia segun {@code Accept} porque el mismo recurso se entrega en JSON o Smile.
+     */
+    private <T> ResponseEntity<T> conditional(WebRequest request, String eTag, OffsetDateTime lastModified, Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok().cacheControl(productCacheControl).varyBy(HttpHeaders.ACCEPT).body(body.get());
+        }
+        long lastModifiedMillis = lastModified == null ? -1 : lastModified.toInstant().toEpochMilli();
+        if (request.checkNotModified(eTag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(productCacheControl)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag).cacheControl(productCacheControl)
+                .varyBy(HttpHeaders.ACCEPT);
+        if (lastModified != null) {
+            response.lastModified(lastModified.toInstant());
+        }
+        return response.body(body.get());
+    }
+
+    /**
+     * ETag debil: identifica la version del producto, no los bytes exactos, que cambian entre JSON, Smile y gzip.
+     * Tomcat no comprime respuestas con ETag fuerte.
+     */
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    private static long version(OffsetDateTime updatedAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+    }
+
+    private void writeLine(OutputStream outputStream, ObjectWriter writer, ProductDto productDto) {
+        try {
+            writer.writeValue(outputStream, productDto);
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package dev.scastillo.product.adapter.web.controller;
+
+import dev.scastillo.product.adapter.web.dto.ProductImportResultDto;
+import dev.scastillo.product.adapter.web.mapper.ProductImportMapper;
+import dev.scastillo.product.adapter.web.parser.ProductImportParser;
+import dev.scastillo.product.domain.service.ProductImportService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+@RestController
+@RequestMapping("/api/v1/products/import")
+@AllArgsConstructor
+public class ProductImportController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ProductImportService productImportService;
+    private final ProductImportParser productImportParser;
+    private final ProductImportMapper productImportMapper;
+
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ProductImportResultDto importProductsCsv(InputStream body) {
+        return productImportMapper.toDto(productImportService.importProducts(
+                productImportParser.parseCsv(new InputStreamReader(body, StandardCharsets.UTF_8))));
+    }
+
+    @PostMapping(consumes = APPLICATION_NDJSON_VALUE)
+    public ProductImportResultDto importProductsNdjson(InputStream body) {
+        return productImportMapper.toDto(productImportService.importProducts(
+                productImportParser.parseNdjson(new InputStreamReader(body, StandardCharsets.UTF_8))));
+    }
+}
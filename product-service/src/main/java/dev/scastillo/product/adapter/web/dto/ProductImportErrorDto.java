@@ -0,0 +1,13 @@
+package dev.scastillo.product.adapter.web.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportErrorDto {
+    private long line;
+    private String message;
+}
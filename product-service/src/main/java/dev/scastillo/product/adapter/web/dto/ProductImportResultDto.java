@@ -0,0 +1,17 @@
+package dev.scastillo.product.adapter.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportResultDto {
+    private long imported;
+    private long rejected;
+    private List<ProductImportErrorDto> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,10 @@
+package dev.scastillo.product.adapter.web.mapper;
+
+import dev.scastillo.product.adapter.web.dto.ProductImportResultDto;
+import dev.scastillo.product.domain.service.dto.ProductImportResult;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ProductImportMapper {
+    ProductImportResultDto toDto(ProductImportResult result);
+}
@@ -0,0 +1,207 @@
+package dev.scastillo.product.adapter.web.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.scastillo.product.adapter.web.dto.ProductCreateRequestDto;
+import dev.scastillo.product.adapter.web.mapper.ProductMapper;
+import dev.scastillo.product.domain.service.dto.ProductImportRow;
+import dev.scastillo.product.shared.exception.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Convierte el cuerpo de una importacion (CSV o NDJSON) en filas que se leen bajo demanda,
+ * de modo que el archivo nunca se carga completo en memoria.
+ */
+@Component
+public class ProductImportParser {
+    private static final List<String> CSV_COLUMNS = List.of("name", "price", "description");
+
+    private final ObjectReader productReader;
+    private final ProductMapper productMapper;
+
+    public ProductImportParser(ObjectMapper objectMapper, ProductMapper productMapper) {
+        this.productReader = objectMapper.readerFor(ProductCreateRequestDto.class);
+        this.productMapper = productMapper;
+    }
+
+    public Iterator<ProductImportRow> parseNdjson(Reader reader) {
+        return new LineIterator(new BufferedReader(reader), 0) {
+            @Override
+            protected ProductImportRow parseLine(long lineNumber, String line) {
+                try {
+                    ProductCreateRequestDto dto = productReader.readValue(line);
+                    if (dto == null) {
+                        return invalid(lineNumber, "Se esperaba un objeto JSON");
+                    }
+                    return valid(lineNumber, dto);
+                } catch (JsonProcessingException e) {
+                    return invalid(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    public Iterator<ProductImportRow> parseCsv(Reader reader) {
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        String header = readLine(bufferedReader);
+        if (header == null) {
+            throw new BadRequestException("El archivo CSV está vacío");
+        }
+        int[] columns = resolveColumns(splitCsvLine(header.replace("\uFEFF", "")));
+
+        return new LineIterator(bufferedReader, 1) {
+            @Override
+            protected ProductImportRow parseLine(long lineNumber, String line) {
+                List<String> fields = splitCsvLine(line);
+                if (fields == null) {
+                    return invalid(lineNumber, "Comillas sin cerrar en la línea");
+                }
+                int expected = Math.max(columns[0], Math.max(columns[1], columns[2])) + 1;
+                if (fields.size() < expected) {
+                    return invalid(lineNumber, "Se esperaban al menos " + expected + " columnas");
+                }
+                BigDecimal price;
+                try {
+                    String value = fields.get(columns[1]).trim();
+                    price = value.isEmpty() ? null : new BigDecimal(value);
+                } catch (NumberFormatException e) {
+                    return invalid(lineNumber, "El precio no es un número válido: " + fields.get(columns[1]));
+                }
+                return valid(lineNumber, ProductCreateRequestDto.builder()
+                        .name(fields.get(columns[0]))
+                        .price(price)
+                        .description(fields.get(columns[2]))
+                        .build());
+            }
+        };
+    }
+
+    private int[] resolveColumns(List<String> header) {
+        if (header == null) {
+            throw new BadRequestException("El encabezado del CSV no es válido");
+        }
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            columns[i] = indexOfIgnoreCase(header, CSV_COLUMNS.get(i));
+            if (columns[i] < 0) {
+                throw new BadRequestException("El encabezado del CSV debe incluir las columnas " + String.join(",", CSV_COLUMNS));
+            }
+        }
+        return columns;
+    }
+
+    private int indexOfIgnoreCase(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Separa una linea CSV respetando comillas dobles y el escape {@code ""}. Retorna null si una comilla queda abierta.
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private ProductImportRow valid(long lineNumber, ProductCreateRequestDto dto) {
+        return ProductImportRow.builder()
+                .line(lineNumber)
+                .product(productMapper.toDomain(dto))
+                .build();
+    }
+
+    private static ProductImportRow invalid(long lineNumber, String error) {
+        return ProductImportRow.builder()
+                .line(lineNumber)
+                .error(error)
+                .build();
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private abstract static class LineIterator implements Iterator<ProductImportRow> {
+        private final BufferedReader reader;
+        private long lineNumber;
+        private String nextLine;
+
+        private LineIterator(BufferedReader reader, long linesAlreadyRead) {
+            this.reader = reader;
+            this.lineNumber = linesAlreadyRead;
+        }
+
+        protected abstract ProductImportRow parseLine(long lineNumber, String line);
+
+        @Override
+        public boolean hasNext() {
+            while (nextLine == null) {
+                String line = readLine(reader);
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ProductImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            nextLine = null;
+            return parseLine(lineNumber, line);
+        }
+    }
+}
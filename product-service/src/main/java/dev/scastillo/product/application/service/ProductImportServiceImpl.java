@@ -0,0 +1,178 @@
+package dev.scastillo.product.application.service;
+
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductEventType;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import dev.scastillo.product.domain.service.ProductImportService;
+import dev.scastillo.product.domain.service.dto.ProductImportError;
+import dev.scastillo.product.domain.service.dto.ProductImportResult;
+import dev.scastillo.product.domain.service.dto.ProductImportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+    private static final int NAME_MAX_LENGTH = 100;
+    private static final int DESCRIPTION_MAX_LENGTH = 255;
+    private static final int PRICE_MAX_INTEGER_DIGITS = 8;
+    private static final int PRICE_MAX_SCALE = 2;
+
+    private final ProductRepository productRepository;
+    private final ProductOutboxWriter productOutboxWriter;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ProductImportServiceImpl(ProductRepository productRepository,
+                                    ProductOutboxWriter productOutboxWriter,
+                                    TransactionOperations transactionOperations,
+                                    @Value("${product.import.batch-size:500}") int batchSize,
+                                    @Value("${product.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.productRepository = productRepository;
+        this.productOutboxWriter = productOutboxWriter;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ProductImportResult importProducts(Iterator<ProductImportRow> rows) {
+        ImportProgress progress = new ImportProgress(maxReportedErrors);
+        List<ProductImportRow> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() == batchSize) {
+                importBatch(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, progress);
+        }
+        return progress.toResult();
+    }
+
+    private void importBatch(List<ProductImportRow> batch, ImportProgress progress) {
+        Map<String, ProductImportRow> candidates = new LinkedHashMap<>();
+        for (ProductImportRow row : batch) {
+            String error = row.getError() != null ? row.getError() : validate(row.getProduct());
+            if (error == null && candidates.containsKey(row.getProduct().getName())) {
+                error = "El nombre está repetido en el archivo: " + row.getProduct().getName();
+            }
+            if (error != null) {
+                progress.reject(row.getLine(), error);
+            } else {
+                candidates.put(row.getProduct().getName(), row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Los nombres de lotes anteriores ya estan en base de datos, asi que esta consulta tambien detecta repetidos entre lotes
+        for (String existingName : productRepository.findExistingNames(candidates.keySet())) {
+            ProductImportRow row = candidates.remove(existingName);
+            if (row != null) {
+                progress.reject(row.getLine(), "Ya existe un producto con el nombre: " + existingName);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<ProductImportRow> rowsToSave = new ArrayList<>(candidates.values());
+        List<Product> products = rowsToSave.stream().map(ProductImportRow::getProduct).toList();
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                productRepository.saveAll(products);
+                productOutboxWriter.record(ProductEventType.CREATED, products);
+            });
+            progress.imported(rowsToSave.size());
+        } catch (DataIntegrityViolationException e) {
+            // Otra carga inserto alguno de los nombres despues de la verificacion: se reintenta fila por fila
+            for (ProductImportRow row : rowsToSave) {
+                saveRow(row, progress);
+            }
+        }
+    }
+
+    private void saveRow(ProductImportRow row, ImportProgress progress) {
+        Product product = row.getProduct();
+        product.setId(null);
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                productRepository.save(product);
+                productOutboxWriter.record(ProductEventType.CREATED, List.of(product));
+            });
+            progress.imported(1);
+        } catch (DataIntegrityViolationException e) {
+            progress.reject(row.getLine(), "Ya existe un producto con el nombre: " + product.getName());
+        }
+    }
+
+    private String validate(Product product) {
+        if (product.getName() == null || product.getName().isBlank()) {
+            return "El nombre es obligatorio";
+        }
+        if (product.getName().length() > NAME_MAX_LENGTH) {
+            return "El nombre no puede tener más de " + NAME_MAX_LENGTH + " caracteres";
+        }
+        BigDecimal price = product.getPrice();
+        if (price == null) {
+            return "El precio es obligatorio";
+        }
+        if (price.signum() < 0) {
+            return "El precio no puede ser negativo";
+        }
+        if (price.scale() > PRICE_MAX_SCALE || price.precision() - price.scale() > PRICE_MAX_INTEGER_DIGITS) {
+            return "El precio admite máximo " + PRICE_MAX_INTEGER_DIGITS + " enteros y " + PRICE_MAX_SCALE + " decimales";
+        }
+        if (product.getDescription() == null || product.getDescription().isBlank()) {
+            return "La descripción es obligatoria";
+        }
+        if (product.getDescription().length() > DESCRIPTION_MAX_LENGTH) {
+            return "La descripción no puede tener más de " + DESCRIPTION_MAX_LENGTH + " caracteres";
+        }
+        return null;
+    }
+
+    private static final class ImportProgress {
+        private final int maxReportedErrors;
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        private ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void imported(int count) {
+            imported += count;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportError(line, message));
+            }
+        }
+
+        private ProductImportResult toResult() {
+            return ProductImportResult.builder()
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
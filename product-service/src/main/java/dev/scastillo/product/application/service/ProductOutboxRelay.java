@@ -0,0 +1,101 @@
+package dev.scastillo.product.application.service;
+
+import dev.scastillo.product.domain.model.ProductOutboxEvent;
+import dev.scastillo.product.domain.repository.ProductOutboxRepository;
+import dev.scastillo.product.domain.service.ProductEventPublisher;
+import dev.scastillo.product.domain.service.dto.ProductEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publica periodicamente los eventos del outbox en orden de id y los borra una vez entregados.
+ * Cada lote se publica y se borra en una transaccion que toma el lock del relay: con varias instancias solo una
+ * publica a la vez y los eventos no se envian desordenados ni duplicados entre ellas. La entrega es al menos una vez: si el borrado falla tras publicar, el lote se vuelve a enviar,
+ * por lo que el consumidor debe ser idempotente.
+ */
+@Component
+@ConditionalOnProperty(name = "product.events.enabled", havingValue = "true")
+public class ProductOutboxRelay {
+    private final ProductOutboxRepository productOutboxRepository;
+    private final ProductEventPublisher productEventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final Counter published;
+    private final Counter failures;
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    public ProductOutboxRelay(ProductOutboxRepository productOutboxRepository,
+                              ProductEventPublisher productEventPublisher,
+                              TransactionOperations transactionOperations,
+                              MeterRegistry meterRegistry,
+                              @Value("${product.events.relay.batch-size:100}") int batchSize) {
+        this.productOutboxRepository = productOutboxRepository;
+        this.productEventPublisher = productEventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.published = meterRegistry.counter("product.outbox.published");
+        this.failures = meterRegistry.counter("product.outbox.publish.failures");
+        Gauge.builder("product.outbox.pending", productOutboxRepository, ProductOutboxRepository::count)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna la cantidad de eventos publicados en esta ejecucion.
+     */
+    @Scheduled(fixedDelayString = "${product.events.relay.interval:500ms}")
+    public int relay() {
+        relayLock.lock();
+        try {
+            int total = 0;
+            int relayed;
+            do {
+                relayed = transactionOperations.execute(status -> relayBatch());
+                total += relayed;
+            } while (relayed == batchSize);
+            return total;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    private int relayBatch() {
+        if (!productOutboxRepository.tryLockRelay()) {
+            return 0;
+        }
+        List<ProductOutboxEvent> batch = productOutboxRepository.findOldest(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            productEventPublisher.publish(batch.stream().map(ProductOutboxRelay::toEvent).toList());
+        } catch (RuntimeException e) {
+            // Se reintenta en la siguiente ejecucion con el mismo lote
+            failures.increment();
+            return 0;
+        }
+        productOutboxRepository.deleteByIds(batch.stream().map(ProductOutboxEvent::getId).toList());
+        published.increment(batch.size());
+        return batch.size();
+    }
+
+    private static ProductEvent toEvent(ProductOutboxEvent event) {
+        return ProductEvent.builder()
+                .eventId(event.getId())
+                .type(event.getType())
+                .productId(event.getProductId())
+                .name(event.getName())
+                .price(event.getPrice())
+                .description(event.getDescription())
+                .updatedAt(event.getProductUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.scastillo.product.application.service;
+
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductEventType;
+import dev.scastillo.product.domain.model.ProductOutboxEvent;
+import dev.scastillo.product.domain.repository.ProductOutboxRepository;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Registra los eventos de producto en el outbox dentro de la transaccion que modifica los productos,
+ * de modo que un producto guardado siempre tiene su evento y un rollback descarta ambos.
+ */
+@Component
+public class ProductOutboxWriter {
+    private final ProductRepository productRepository;
+    private final ProductOutboxRepository productOutboxRepository;
+    private final boolean enabled;
+
+    public ProductOutboxWriter(ProductRepository productRepository,
+                               ProductOutboxRepository productOutboxRepository,
+                               @Value("${product.events.enabled:false}") boolean enabled) {
+        this.productRepository = productRepository;
+        this.productOutboxRepository = productOutboxRepository;
+        this.enabled = enabled;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ProductEventType type, List<Product> products) {
+        if (!enabled || products.isEmpty()) {
+            return;
+        }
+        // Las fechas de auditoria se asignan al insertar; el evento debe llevar el updatedAt persistido
+        productRepository.flush();
+        productOutboxRepository.saveAll(products.stream()
+                .map(product -> ProductOutboxEvent.of(type, product))
+                .toList());
+    }
+}
@@ -1,24 +1,41 @@
 package dev.scastillo.product.application.service;
 
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
+import dev.scastillo.product.domain.model.ProductEventType;
 import dev.scastillo.product.domain.repository.ProductRepository;
 import dev.scastillo.product.domain.service.ProductService;
+import dev.scastillo.product.shared.exception.BadRequestException;
 import dev.scastillo.product.shared.exception.NotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 @Service
 @AllArgsConstructor
 public class ProductServiceImpl implements ProductService {
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ProductRepository productRepository;
+    private final ProductOutboxWriter productOutboxWriter;
+
     @Override
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
+    @Override
+    public ProductCatalogVersion getCatalogVersion() {
+        return productRepository.findCatalogVersion();
+    }
+
     @Override
     public Product getProductById(Integer id) {
         return productRepository.findById(id)
@@ -26,7 +43,37 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    public List<Product> getProductsByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("No se pueden consultar más de " + MAX_BATCH_SIZE + " productos por solicitud");
+        }
+        return productRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Product> getProductsPage(Integer afterId, Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("El parámetro limit debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return productRepository.findPageAfterId(afterId == null ? 0 : afterId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllProducts(Consumer<Product> consumer) {
+        try (Stream<Product> products = productRepository.streamAll()) {
+            products.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productOutboxWriter.record(ProductEventType.CREATED, List.of(saved));
+        return saved;
     }
 }
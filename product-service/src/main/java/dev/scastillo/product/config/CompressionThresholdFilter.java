@@ -0,0 +1,181 @@
+package dev.scastillo.product.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Tomcat comprime toda respuesta sin {@code Content-Length}, y Jackson escribe sin conocerlo de antemano,
+ * asi que {@code server.compression.min-response-size} no tendria efecto. El filtro retiene los primeros bytes:
+ * si el cuerpo termina antes del umbral se envia con {@code Content-Length} y sin comprimir; si lo supera
+ * se libera lo retenido y el resto se escribe directo. Cada respuesta la escribe un solo hilo, asi que no hay
+ * sincronizacion: no se retiene el hilo portador con hilos virtuales mientras se escribe.
+ */
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+    private final int threshold;
+
+    public CompressionThresholdFilter(@Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.threshold = (int) minResponseSize.toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        ThresholdResponse thresholdResponse = new ThresholdResponse(response, threshold);
+        filterChain.doFilter(request, thresholdResponse);
+        if (request.isAsyncStarted()) {
+            // Las respuestas en streaming se escriben desde otro hilo: no se retienen
+            thresholdResponse.release();
+        } else {
+            thresholdResponse.finish();
+        }
+    }
+
+    private static final class ThresholdResponse extends HttpServletResponseWrapper {
+        private final int threshold;
+        private ByteArrayOutputStream buffer;
+        private ServletOutputStream outputStream;
+
+        private ThresholdResponse(HttpServletResponse response, int threshold) {
+            super(response);
+            this.threshold = threshold;
+            this.buffer = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ThresholdOutputStream();
+            }
+            return outputStream;
+        }
+
+        /**
+         * Spring vacia el buffer al terminar cada respuesta; mientras se retiene el cuerpo no se confirma,
+         * o Tomcat la enviaria sin Content-Length.
+         */
+        @Override
+        public void flushBuffer() throws IOException {
+            if (!isBuffering()) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        private void write(int b) throws IOException {
+            if (buffer != null && buffer.size() < threshold) {
+                buffer.write(b);
+                return;
+            }
+            release();
+            getResponse().getOutputStream().write(b);
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            if (buffer != null && buffer.size() + length <= threshold) {
+                buffer.write(bytes, offset, length);
+                return;
+            }
+            release();
+            getResponse().getOutputStream().write(bytes, offset, length);
+        }
+
+        private boolean isBuffering() {
+            return buffer != null;
+        }
+
+        private void finish() throws IOException {
+            if (buffer != null && buffer.size() > 0 && !isCommitted()) {
+                setContentLength(buffer.size());
+            }
+            release();
+        }
+
+        private void release() throws IOException {
+            if (buffer == null) {
+                return;
+            }
+            ByteArrayOutputStream pending = buffer;
+            buffer = null;
+            if (pending.size() > 0) {
+                pending.writeTo(getResponse().getOutputStream());
+            }
+        }
+
+        private final class ThresholdOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                ThresholdResponse.this.write(b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                ThresholdResponse.this.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (!isBuffering()) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                finish();
+                getResponse().getOutputStream().close();
+            }
+
+            @Override
+            public boolean isReady() {
+                try {
+                    return isBuffering() || getResponse().getOutputStream().isReady();
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    release();
+                    getResponse().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.scastillo.product.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+@Configuration
+public class HttpCacheConfig {
+
+    @Value("${product.http.cache-control.max-age:0s}")
+    private Duration maxAge;
+
+    /**
+     * Las respuestas requieren API key, asi que solo el cliente puede guardarlas ({@code private}).
+     * Con max-age en cero el cliente debe revalidar siempre con el ETag.
+     */
+    @Bean
+    public CacheControl productCacheControl() {
+        if (maxAge.isZero()) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+}
@@ -0,0 +1,32 @@
+package dev.scastillo.product.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Reemplaza la reflexion de los getters y setters por accesos generados con LambdaMetafactory.
+     * Spring Boot registra el modulo en el ObjectMapper de los controladores.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.http.json.blackbird", havingValue = "true", matchIfMissing = true)
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Codificacion binaria opcional: se responde en Smile cuando el cliente envia
+     * {@code Accept: application/x-jackson-smile}. Usa la misma configuracion y modulos que el JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -17,7 +17,8 @@ import java.time.OffsetDateTime;
 @Builder
 public class Product {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Integer id;
 
     @Column(length = 100, nullable = false, unique = true)
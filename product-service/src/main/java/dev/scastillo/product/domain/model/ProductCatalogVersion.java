@@ -0,0 +1,16 @@
+package dev.scastillo.product.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Resumen del catalogo que cambia cuando se crea o modifica cualquier producto.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCatalogVersion {
+    private long count;
+    private OffsetDateTime lastUpdatedAt;
+}
@@ -0,0 +1,6 @@
+package dev.scastillo.product.domain.model;
+
+public enum ProductEventType {
+    CREATED,
+    UPDATED
+}
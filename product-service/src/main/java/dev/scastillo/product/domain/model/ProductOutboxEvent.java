@@ -0,0 +1,60 @@
+package dev.scastillo.product.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Evento de producto pendiente de publicar. Se guarda en la misma transaccion que el cambio del producto
+ * y lleva una copia completa del producto, asi el consumidor no necesita consultar product-service.
+ */
+@Entity
+@Table(name = "product_outbox")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_outbox_seq")
+    @SequenceGenerator(name = "product_outbox_seq", sequenceName = "product_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ProductEventType type;
+
+    @Column(nullable = false)
+    private Integer productId;
+
+    @Column(length = 100, nullable = false)
+    private String name;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(length = 255, nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private OffsetDateTime productUpdatedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    public static ProductOutboxEvent of(ProductEventType type, Product product) {
+        return ProductOutboxEvent.builder()
+                .type(type)
+                .productId(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .description(product.getDescription())
+                .productUpdatedAt(product.getUpdatedAt())
+                .build();
+    }
+}
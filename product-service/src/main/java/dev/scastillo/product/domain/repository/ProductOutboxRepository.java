@@ -0,0 +1,19 @@
+package dev.scastillo.product.domain.repository;
+
+import dev.scastillo.product.domain.model.ProductOutboxEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductOutboxRepository {
+    /**
+     * Intenta tomar el lock del relay hasta el final de la transaccion actual; retorna false si otra instancia
+     * lo tiene.
+     */
+    boolean tryLockRelay();
+    List<ProductOutboxEvent> saveAll(List<ProductOutboxEvent> events);
+    List<ProductOutboxEvent> findOldest(int limit);
+    void deleteByIds(Collection<Long> ids);
+    long count();
+    void deleteAll();
+}
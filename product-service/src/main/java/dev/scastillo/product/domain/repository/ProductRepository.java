@@ -1,13 +1,23 @@
 package dev.scastillo.product.domain.repository;
 
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
     Product save(Product product);
+    List<Product> saveAll(List<Product> products);
+    void flush();
     Optional<Product> findById(Integer id);
     List<Product> findAll();
+    ProductCatalogVersion findCatalogVersion();
+    List<Product> findAllById(Collection<Integer> ids);
+    List<String> findExistingNames(Collection<String> names);
+    List<Product> findPageAfterId(Integer afterId, int limit);
+    Stream<Product> streamAll();
     void deleteAll();
 }
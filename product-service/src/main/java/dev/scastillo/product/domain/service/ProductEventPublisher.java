@@ -0,0 +1,13 @@
+package dev.scastillo.product.domain.service;
+
+import dev.scastillo.product.domain.service.dto.ProductEvent;
+
+import java.util.List;
+
+/**
+ * Transporte de los eventos de producto hacia los consumidores. Debe lanzar excepcion si el lote
+ * no fue entregado, para que el relay lo reintente.
+ */
+public interface ProductEventPublisher {
+    void publish(List<ProductEvent> events);
+}
@@ -0,0 +1,10 @@
+package dev.scastillo.product.domain.service;
+
+import dev.scastillo.product.domain.service.dto.ProductImportResult;
+import dev.scastillo.product.domain.service.dto.ProductImportRow;
+
+import java.util.Iterator;
+
+public interface ProductImportService {
+    ProductImportResult importProducts(Iterator<ProductImportRow> rows);
+}
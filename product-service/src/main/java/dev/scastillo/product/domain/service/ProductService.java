@@ -1,11 +1,18 @@
 package dev.scastillo.product.domain.service;
 
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProductService {
     List<Product> getAllProducts();
+    ProductCatalogVersion getCatalogVersion();
     Product getProductById(Integer id);
+    List<Product> getProductsByIds(Collection<Integer> ids);
+    List<Product> getProductsPage(Integer afterId, Integer limit);
+    void streamAllProducts(Consumer<Product> consumer);
     Product createProduct(Product product);
 }
@@ -0,0 +1,22 @@
+package dev.scastillo.product.domain.service.dto;
+
+import dev.scastillo.product.domain.model.ProductEventType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductEvent {
+    private Long eventId;
+    private ProductEventType type;
+    private Integer productId;
+    private String name;
+    private BigDecimal price;
+    private String description;
+    private OffsetDateTime updatedAt;
+}
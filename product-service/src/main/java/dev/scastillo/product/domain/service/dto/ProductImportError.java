@@ -0,0 +1,13 @@
+package dev.scastillo.product.domain.service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportError {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package dev.scastillo.product.domain.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportResult {
+    private long imported;
+    private long rejected;
+    private List<ProductImportError> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,15 @@
+package dev.scastillo.product.domain.service.dto;
+
+import dev.scastillo.product.domain.model.Product;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportRow {
+    private long line;
+    private Product product;
+    private String error;
+}
@@ -0,0 +1,44 @@
+package dev.scastillo.product.infraestructure.messaging;
+
+import dev.scastillo.product.domain.service.ProductEventPublisher;
+import dev.scastillo.product.domain.service.dto.ProductEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Entrega los eventos con un POST al endpoint de replicacion del consumidor (inventory-service).
+ */
+@Component
+@ConditionalOnProperty(name = "product.events.transport", havingValue = "http", matchIfMissing = true)
+public class HttpProductEventPublisher implements ProductEventPublisher {
+    private final RestClient restClient;
+
+    public HttpProductEventPublisher(@Value("${product.events.http.url:http://localhost:8081/api/v1/product-events}") String url,
+                                     @Value("${product.events.http.api-key:}") String apiKey,
+                                     @Value("${product.events.http.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .defaultHeader("X-API-KEY", apiKey)
+                .build();
+    }
+
+    @Override
+    public void publish(List<ProductEvent> events) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
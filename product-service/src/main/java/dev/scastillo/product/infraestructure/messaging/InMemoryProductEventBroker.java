@@ -0,0 +1,34 @@
+package dev.scastillo.product.infraestructure.messaging;
+
+import dev.scastillo.product.domain.service.ProductEventPublisher;
+import dev.scastillo.product.domain.service.dto.ProductEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broker en proceso: entrega cada lote de forma sincrona a los suscriptores registrados. Sirve para
+ * pruebas y para levantar ambos servicios en la misma JVM sin un broker externo.
+ */
+@Component
+@ConditionalOnProperty(name = "product.events.transport", havingValue = "in-memory")
+public class InMemoryProductEventBroker implements ProductEventPublisher {
+    private final List<Consumer<List<ProductEvent>>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<List<ProductEvent>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<List<ProductEvent>> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void publish(List<ProductEvent> events) {
+        List<ProductEvent> delivered = List.copyOf(events);
+        subscribers.forEach(subscriber -> subscriber.accept(delivered));
+    }
+}
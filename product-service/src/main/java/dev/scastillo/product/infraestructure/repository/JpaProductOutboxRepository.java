@@ -0,0 +1,62 @@
+package dev.scastillo.product.infraestructure.repository;
+
+import dev.scastillo.product.domain.model.ProductOutboxEvent;
+import dev.scastillo.product.domain.repository.ProductOutboxRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+@Repository
+@AllArgsConstructor
+public class JpaProductOutboxRepository implements ProductOutboxRepository {
+    // Evita que dos instancias publiquen el outbox a la vez
+    private static final long RELAY_LOCK_KEY = 0x6f757462L;
+
+    private final SpringDataProductOutboxRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryLockRelay() {
+        if (!isPostgres()) {
+            return true;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class,
+                RELAY_LOCK_KEY));
+    }
+
+    @Override
+    public List<ProductOutboxEvent> saveAll(List<ProductOutboxEvent> events) {
+        return repository.saveAll(events);
+    }
+
+    @Override
+    public List<ProductOutboxEvent> findOldest(int limit) {
+        return repository.findAllByOrderByIdAsc(Limit.of(limit));
+    }
+
+    @Override
+    public void deleteByIds(Collection<Long> ids) {
+        repository.deleteByIdIn(ids);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public void deleteAll() {
+        repository.deleteAll();
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection.getMetaData()
+                .getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql")));
+    }
+}
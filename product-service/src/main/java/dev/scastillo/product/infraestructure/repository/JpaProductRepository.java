@@ -1,12 +1,16 @@
 package dev.scastillo.product.infraestructure.repository;
 
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
 import dev.scastillo.product.domain.repository.ProductRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @AllArgsConstructor
@@ -18,6 +22,16 @@ public class JpaProductRepository implements ProductRepository {
         return repository.save(product);
     }
 
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        return repository.saveAll(products);
+    }
+
+    @Override
+    public void flush() {
+        repository.flush();
+    }
+
     @Override
     public Optional<Product> findById(Integer id) {
         return repository.findById(id);
@@ -28,6 +42,31 @@ public class JpaProductRepository implements ProductRepository {
         return repository.findAll();
     }
 
+    @Override
+    public ProductCatalogVersion findCatalogVersion() {
+        return repository.findCatalogVersion();
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Integer> ids) {
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public List<String> findExistingNames(Collection<String> names) {
+        return repository.findNamesByNameIn(names);
+    }
+
+    @Override
+    public List<Product> findPageAfterId(Integer afterId, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return repository.streamAllOrderById();
+    }
+
     @Override
     public void deleteAll() {
         repository.deleteAll();
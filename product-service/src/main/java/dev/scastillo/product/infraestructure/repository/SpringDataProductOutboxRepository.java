@@ -0,0 +1,21 @@
+package dev.scastillo.product.infraestructure.repository;
+
+import dev.scastillo.product.domain.model.ProductOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SpringDataProductOutboxRepository extends JpaRepository<ProductOutboxEvent, Long> {
+    List<ProductOutboxEvent> findAllByOrderByIdAsc(Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ProductOutboxEvent e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,7 +1,31 @@
 package dev.scastillo.product.infraestructure.repository;
 
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface SpringDataProductRepository extends JpaRepository<Product, Integer> {
+    List<Product> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
+    @Query("select new dev.scastillo.product.domain.model.ProductCatalogVersion(count(p), max(p.updatedAt)) from Product p")
+    ProductCatalogVersion findCatalogVersion();
+
+    @Query("select p.name from Product p where p.name in :names")
+    List<String> findNamesByNameIn(@Param("names") Collection<String> names);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new dev.scastillo.product.domain.model.Product(p.id, p.name, p.price, p.description, p.createdAt, p.updatedAt) "
+            + "from Product p order by p.id")
+    Stream<Product> streamAllOrderById();
 }
@@ -4,12 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.scastillo.product.adapter.web.dto.ProductCreateRequestDto;
 import dev.scastillo.product.adapter.web.dto.ProductDto;
+import dev.scastillo.product.domain.model.Product;
 import dev.scastillo.product.domain.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -18,8 +20,12 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -111,6 +117,53 @@ public class ProductControllerIntegrationTest {
         assertEquals("Producto Test", dto.getName());
     }
 
+    @Test
+    void getProductById_ShouldReturnNotModified_WhenClientSendsCurrentETag() throws Exception {
+        Product product = productRepository.save(Product.builder()
+                .name("Producto ETag")
+                .price(new BigDecimal("10.00"))
+                .description("Desc ETag")
+                .build());
+
+        String eTag = mockMvc.perform(get("/api/v1/products/{id}", product.getId())
+                        .header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId())
+                        .header("X-API-KEY", "test-api-key")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllProducts_ShouldReturnNotModified_UntilAProductIsCreated() throws Exception {
+        productRepository.save(Product.builder().name("Producto 1").price(new BigDecimal("1.00")).description("Desc").build());
+        String eTag = mockMvc.perform(get("/api/v1/products").header("X-API-KEY", "test-api-key"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/products")
+                        .header("X-API-KEY", "test-api-key")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        productRepository.save(Product.builder().name("Producto 2").price(new BigDecimal("2.00")).description("Desc").build());
+
+        mockMvc.perform(get("/api/v1/products")
+                        .header("X-API-KEY", "test-api-key")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void getProductById_ShouldReturnNotFound_WhenProductDoesNotExist() throws Exception {
         int productId = 999;
@@ -169,4 +222,84 @@ public class ProductControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void getProductsByIds_ShouldReturnOnlyRequestedProducts() throws Exception {
+        createProduct("Prod1", new BigDecimal("10.00"));
+        createProduct("Prod2", new BigDecimal("20.00"));
+        createProduct("Prod3", new BigDecimal("30.00"));
+        List<Integer> ids = productRepository.findAll().stream()
+                .filter(p -> !"Prod2".equals(p.getName()))
+                .map(p -> p.getId())
+                .toList();
+
+        var mvcResult = mockMvc.perform(get("/api/v1/products")
+                        .param("ids", ids.get(0) + "," + ids.get(1) + ",999999")
+                        .header("X-API-KEY", "test-api-key")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<ProductDto> products = objectMapper.readValue(
+                mvcResult.getResponse().getContentAsString(),
+                new TypeReference<List<ProductDto>>() {}
+        );
+
+        assertEquals(2, products.size());
+        assertTrue(products.stream().anyMatch(p -> "Prod1".equals(p.getName())));
+        assertTrue(products.stream().anyMatch(p -> "Prod3".equals(p.getName())));
+    }
+
+    @Test
+    void getProductsPage_ShouldReturnProductsAfterCursor() throws Exception {
+        createProduct("Prod1", new BigDecimal("10.00"));
+        createProduct("Prod2", new BigDecimal("20.00"));
+        createProduct("Prod3", new BigDecimal("30.00"));
+
+        List<ProductDto> firstPage = getProductsPage(null, 2);
+        List<ProductDto> secondPage = getProductsPage(firstPage.get(1).getId(), 2);
+
+        assertEquals(List.of("Prod1", "Prod2"), firstPage.stream().map(ProductDto::getName).toList());
+        assertEquals(List.of("Prod3"), secondPage.stream().map(ProductDto::getName).toList());
+    }
+
+    @Test
+    void streamAllProducts_ShouldReturnNdjson() throws Exception {
+        createProduct("Prod1", new BigDecimal("10.00"));
+        createProduct("Prod2", new BigDecimal("20.00"));
+
+        var asyncResult = mockMvc.perform(get("/api/v1/products")
+                        .header("X-API-KEY", "test-api-key")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("Prod1", objectMapper.readValue(lines.get(0), ProductDto.class).getName());
+        assertEquals("Prod2", objectMapper.readValue(lines.get(1), ProductDto.class).getName());
+    }
+
+    private List<ProductDto> getProductsPage(Integer after, int limit) throws Exception {
+        var request = get("/api/v1/products")
+                .param("limit", String.valueOf(limit))
+                .header("X-API-KEY", "test-api-key")
+                .accept(MediaType.APPLICATION_JSON);
+        if (after != null) {
+            request.param("after", String.valueOf(after));
+        }
+        var mvcResult = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(
+                mvcResult.getResponse().getContentAsString(),
+                new TypeReference<List<ProductDto>>() {}
+        );
+    }
 }
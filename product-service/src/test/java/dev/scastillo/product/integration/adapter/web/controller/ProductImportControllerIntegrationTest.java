@@ -0,0 +1,140 @@
+package dev.scastillo.product.integration.adapter.web.controller;
+
+import dev.scastillo.product.application.service.ProductOutboxWriter;
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "product.import.batch-size=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ProductImportControllerIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoSpyBean
+    private ProductOutboxWriter productOutboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        productRepository.save(Product.builder()
+                .name("Existente")
+                .price(new BigDecimal("5.00"))
+                .description("Producto previo")
+                .build());
+    }
+
+    @Test
+    void importProductsCsv_ShouldInsertValidRows_AndReportRowErrors() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("name,price,description\n");
+        for (int i = 1; i <= 7; i++) {
+            csv.append("Importado ").append(i).append(',').append(i).append(".50,\"Descripción, ").append(i).append("\"\n");
+        }
+        csv.append("Existente,1.00,Repetido\n");
+        csv.append("Importado 2,1.00,Repetido en otro lote\n");
+        csv.append("Sin precio,,Desc\n");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/products/import")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType("text/csv")
+                        .content(csv.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(7))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(9))
+                .andExpect(jsonPath("$.errors[0].message").value("Ya existe un producto con el nombre: Existente"))
+                .andExpect(jsonPath("$.errors[1].line").value(10))
+                .andExpect(jsonPath("$.errors[2].message").value("El precio es obligatorio"))
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        assertEquals(8, productRepository.findAll().size());
+    }
+
+    @Test
+    void importProductsCsv_ShouldKeepManagedEntitiesBounded_WhenImportSpansManyBatches() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("name,price,description\n");
+        for (int i = 1; i <= 30; i++) {
+            csv.append("Lote ").append(i).append(",1.00,Desc\n");
+        }
+        AtomicInteger maxManagedEntities = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxManagedEntities.accumulateAndGet(
+                    entityManager.unwrap(Session.class).getStatistics().getEntityCount(), Math::max);
+            return invocation.callRealMethod();
+        }).when(AopTestUtils.<ProductOutboxWriter>getTargetObject(productOutboxWriter)).record(any(), anyList());
+
+        // Act
+        mockMvc.perform(post("/api/v1/products/import")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType("text/csv")
+                        .content(csv.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(30));
+
+        // Assert: cada lote usa su propio contexto de persistencia, sin acumular los lotes anteriores
+        assertEquals(3, maxManagedEntities.get());
+    }
+
+    @Test
+    void importProductsNdjson_ShouldInsertValidLines() throws Exception {
+        // Arrange
+        String ndjson = "{\"name\":\"NDJSON 1\",\"price\":1.10,\"description\":\"Uno\"}\n"
+                + "no es json\n"
+                + "{\"name\":\"NDJSON 2\",\"price\":2.20,\"description\":\"Dos\"}\n";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/products/import")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+
+        assertEquals(3, productRepository.findAll().size());
+    }
+
+    @Test
+    void importProductsCsv_ShouldReturnBadRequest_WhenHeaderIsInvalid() throws Exception {
+        mockMvc.perform(post("/api/v1/products/import")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType("text/csv")
+                        .content("nombre,precio\nA,1\n"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,109 @@
+package dev.scastillo.product.integration.adapter.web.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dev.scastillo.product.adapter.web.dto.ProductDto;
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ProductResponseEncodingIntegrationTest {
+    private static final TypeReference<List<ProductDto>> PRODUCT_LIST_TYPE = new TypeReference<>() {};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        productRepository.saveAll(IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> Product.builder()
+                        .name("Producto " + i)
+                        .price(new BigDecimal("10.50"))
+                        .description("Descripción del producto " + i)
+                        .build())
+                .toList());
+    }
+
+    @Test
+    void getAllProducts_ShouldCompressResponse_WhenClientAcceptsGzip() throws Exception {
+        // Act
+        HttpResponse<byte[]> response = send("/api/v1/products", "application/json", "gzip");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("W/"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            List<ProductDto> products = objectMapper.readValue(body, PRODUCT_LIST_TYPE);
+            assertEquals(50, products.size());
+        }
+    }
+
+    @Test
+    void getAllProducts_ShouldRespondInSmile_WhenClientAcceptsSmile() throws Exception {
+        // Act
+        HttpResponse<byte[]> json = send("/api/v1/products", "application/json", "identity");
+        HttpResponse<byte[]> smile = send("/api/v1/products", "application/x-jackson-smile", "identity");
+
+        // Assert
+        assertEquals(200, smile.statusCode());
+        assertTrue(smile.headers().firstValue("Content-Type").orElseThrow().startsWith("application/x-jackson-smile"));
+        List<ProductDto> products = new SmileMapper().readValue(smile.body(), PRODUCT_LIST_TYPE);
+        assertEquals(objectMapper.readValue(json.body(), PRODUCT_LIST_TYPE).stream().map(ProductDto::getName).toList(),
+                products.stream().map(ProductDto::getName).toList());
+        assertTrue(smile.body().length < json.body().length);
+    }
+
+    @Test
+    void getProductById_ShouldNotCompress_WhenResponseIsBelowThreshold() throws Exception {
+        // Arrange
+        Integer id = productRepository.findAll().get(0).getId();
+
+        // Act
+        HttpResponse<byte[]> response = send("/api/v1/products/" + id, "application/json", "gzip");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(id, objectMapper.readValue(response.body(), ProductDto.class).getId());
+    }
+
+    private HttpResponse<byte[]> send(String path, String accept, String acceptEncoding) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-API-KEY", "test-api-key")
+                .header("Accept", accept)
+                .header("Accept-Encoding", acceptEncoding)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
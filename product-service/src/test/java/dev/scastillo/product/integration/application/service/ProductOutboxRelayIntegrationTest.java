@@ -0,0 +1,142 @@
+package dev.scastillo.product.integration.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.scastillo.product.adapter.web.dto.ProductCreateRequestDto;
+import dev.scastillo.product.application.service.ProductOutboxRelay;
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductEventType;
+import dev.scastillo.product.domain.repository.ProductOutboxRepository;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import dev.scastillo.product.domain.service.ProductService;
+import dev.scastillo.product.domain.service.dto.ProductEvent;
+import dev.scastillo.product.infraestructure.messaging.InMemoryProductEventBroker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "product.events.enabled=true",
+        "product.events.transport=in-memory",
+        "product.events.relay.interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ProductOutboxRelayIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOutboxRepository productOutboxRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductOutboxRelay productOutboxRelay;
+
+    @Autowired
+    private InMemoryProductEventBroker broker;
+
+    private final List<ProductEvent> received = new CopyOnWriteArrayList<>();
+    private final Consumer<List<ProductEvent>> subscriber = received::addAll;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        productOutboxRepository.deleteAll();
+        broker.subscribe(subscriber);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.unsubscribe(subscriber);
+    }
+
+    @Test
+    void createProduct_ShouldRecordEventInOutbox_AndRelayShouldDeliverIt() throws Exception {
+        // Arrange
+        createProduct("Producto Replicado");
+        assertEquals(1, productOutboxRepository.count());
+
+        // Act
+        int published = productOutboxRelay.relay();
+
+        // Assert
+        assertEquals(1, published);
+        assertEquals(0, productOutboxRepository.count());
+        assertEquals(1, received.size());
+        ProductEvent event = received.get(0);
+        assertEquals(ProductEventType.CREATED, event.getType());
+        assertEquals("Producto Replicado", event.getName());
+        assertEquals(0, new BigDecimal("15.50").compareTo(event.getPrice()));
+        assertNotNull(event.getProductId());
+        assertNotNull(event.getUpdatedAt());
+    }
+
+    @Test
+    void createProduct_ShouldNotRecordEvent_WhenProductIsNotSaved() throws Exception {
+        // Arrange
+        createProduct("Producto Duplicado");
+        productOutboxRelay.relay();
+        Product duplicate = Product.builder()
+                .name("Producto Duplicado")
+                .price(new BigDecimal("15.50"))
+                .description("Descripción")
+                .build();
+
+        // Act
+        assertThrows(DataIntegrityViolationException.class, () -> productService.createProduct(duplicate));
+
+        // Assert
+        assertEquals(0, productOutboxRepository.count());
+    }
+
+    @Test
+    void importProducts_ShouldRecordOneEventPerImportedProduct() throws Exception {
+        // Act
+        mockMvc.perform(post("/api/v1/products/import")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType("text/csv")
+                        .content("name,price,description\nImportado 1,10.00,Uno\nImportado 2,20.00,Dos\n"))
+                .andExpect(status().isOk());
+        productOutboxRelay.relay();
+
+        // Assert
+        assertEquals(List.of("Importado 1", "Importado 2"), received.stream().map(ProductEvent::getName).sorted().toList());
+    }
+
+    private void createProduct(String name) throws Exception {
+        ProductCreateRequestDto requestDto = ProductCreateRequestDto.builder()
+                .name(name)
+                .price(new BigDecimal("15.50"))
+                .description("Descripción")
+                .build();
+        mockMvc.perform(post("/api/v1/products")
+                        .header("X-API-KEY", "test-api-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+    }
+}
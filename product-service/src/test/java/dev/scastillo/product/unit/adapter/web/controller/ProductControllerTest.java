@@ -1,23 +1,44 @@
 package dev.scastillo.product.unit.adapter.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.scastillo.product.adapter.web.controller.ProductController;
 import dev.scastillo.product.adapter.web.dto.ProductCreateRequestDto;
 import dev.scastillo.product.adapter.web.dto.ProductDto;
 import dev.scastillo.product.adapter.web.mapper.ProductMapper;
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductCatalogVersion;
 import dev.scastillo.product.domain.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 public class ProductControllerTest {
+    private static final OffsetDateTime UPDATED_AT = OffsetDateTime.parse("2025-01-01T10:00:00.123456Z");
+    private static final String PRODUCT_ETAG = "W/\"1-" + ChronoUnit.MICROS.between(Instant.EPOCH, UPDATED_AT.toInstant()) + "\"";
+
     private ProductService productService;
     private ProductMapper productMapper;
     private ProductController productController;
@@ -26,7 +47,8 @@ public class ProductControllerTest {
     void setUp() {
         productService = mock(ProductService.class);
         productMapper = mock(ProductMapper.class);
-        productController = new ProductController(productService, productMapper);
+        productController = new ProductController(productService, productMapper, new ObjectMapper(), CacheControl.noCache());
+        when(productService.getCatalogVersion()).thenReturn(new ProductCatalogVersion(0, null));
     }
 
     @Test
@@ -62,7 +84,7 @@ public class ProductControllerTest {
         when(productMapper.toDto(productDomain)).thenReturn(productDto);
 
         // Act
-        ProductDto result = productController.getProductById(productId);
+        ProductDto result = productController.getProductById(productId, getRequest()).getBody();
 
         // Assert
         assertEquals(productDto, result);
@@ -79,7 +101,7 @@ public class ProductControllerTest {
         // Act & Assert
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
-                () -> productController.getProductById(productId)
+                () -> productController.getProductById(productId, getRequest())
         );
         assertEquals("404 NOT_FOUND \"Product not found with id: 99\"", exception.getMessage());
         verify(productService).getProductById(productId);
@@ -98,7 +120,7 @@ public class ProductControllerTest {
         when(productMapper.toDto(product2)).thenReturn(dto2);
 
         // Act
-        List<ProductDto> result = productController.getAllProducts();
+        List<ProductDto> result = productController.getAllProducts(getRequest()).getBody();
 
         // Assert
         assertEquals(List.of(dto1, dto2), result);
@@ -113,7 +135,7 @@ public class ProductControllerTest {
         when(productService.getAllProducts()).thenReturn(List.of());
 
         // Act
-        List<ProductDto> result = productController.getAllProducts();
+        List<ProductDto> result = productController.getAllProducts(getRequest()).getBody();
 
         // Assert
         assertEquals(List.of(), result);
@@ -121,4 +143,135 @@ public class ProductControllerTest {
         verify(productMapper, never()).toDto(any());
     }
 
+    @Test
+    void getProductsByIds_ShouldReturnProductDtoList_WhenProductsExist() {
+        // Arrange
+        Set<Integer> ids = Set.of(1, 2);
+        Product product1 = new Product();
+        Product product2 = new Product();
+        ProductDto dto1 = new ProductDto();
+        ProductDto dto2 = new ProductDto();
+
+        when(productService.getProductsByIds(ids)).thenReturn(List.of(product1, product2));
+        when(productMapper.toDto(product1)).thenReturn(dto1);
+        when(productMapper.toDto(product2)).thenReturn(dto2);
+
+        // Act
+        List<ProductDto> result = productController.getProductsByIds(ids);
+
+        // Assert
+        assertEquals(List.of(dto1, dto2), result);
+        verify(productService).getProductsByIds(ids);
+    }
+
+    @Test
+    void getProductsPage_ShouldReturnProductDtoList_WhenPageIsRequested() {
+        // Arrange
+        Product product = new Product();
+        ProductDto dto = new ProductDto();
+        when(productService.getProductsPage(10, 2)).thenReturn(List.of(product));
+        when(productMapper.toDto(product)).thenReturn(dto);
+
+        // Act
+        List<ProductDto> result = productController.getProductsPage(10, 2);
+
+        // Assert
+        assertEquals(List.of(dto), result);
+        verify(productService).getProductsPage(10, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllProducts_ShouldWriteOneJsonLinePerProduct() throws Exception {
+        // Arrange
+        Product product1 = new Product();
+        Product product2 = new Product();
+        when(productMapper.toDto(product1)).thenReturn(new ProductDto(1, "Uno", new BigDecimal("1.00"), "Desc"));
+        when(productMapper.toDto(product2)).thenReturn(new ProductDto(2, "Dos", new BigDecimal("2.00"), "Desc"));
+        doAnswer(invocation -> {
+            Consumer<Product> consumer = invocation.getArgument(0);
+            consumer.accept(product1);
+            consumer.accept(product2);
+            return null;
+        }).when(productService).streamAllProducts(any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        productController.streamAllProducts().getBody().writeTo(outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"name\":\"Uno\",\"price\":1.00,\"description\":\"Desc\"}", lines[0]);
+        assertEquals("{\"id\":2,\"name\":\"Dos\",\"price\":2.00,\"description\":\"Desc\"}", lines[1]);
+    }
+
+    @Test
+    void getProductById_ShouldReturnValidators_WhenProductHasUpdatedAt() {
+        // Arrange
+        Product product = Product.builder().id(1).updatedAt(UPDATED_AT).build();
+        when(productService.getProductById(1)).thenReturn(product);
+        when(productMapper.toDto(product)).thenReturn(new ProductDto());
+
+        // Act
+        ResponseEntity<ProductDto> response = productController.getProductById(1, getRequest());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(PRODUCT_ETAG, response.getHeaders().getETag());
+        assertEquals(UPDATED_AT.toInstant().toEpochMilli() / 1000 * 1000, response.getHeaders().getLastModified());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getProductById_ShouldReturnNotModified_WithoutMappingProduct_WhenETagMatches() {
+        // Arrange
+        when(productService.getProductById(1)).thenReturn(Product.builder().id(1).updatedAt(UPDATED_AT).build());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, PRODUCT_ETAG);
+
+        // Act
+        ResponseEntity<ProductDto> response = productController.getProductById(1, new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(productMapper, never()).toDto(any());
+    }
+
+    @Test
+    void getAllProducts_ShouldReturnNotModified_WithoutLoadingProducts_WhenCatalogDidNotChange() {
+        // Arrange
+        when(productService.getCatalogVersion()).thenReturn(new ProductCatalogVersion(2, UPDATED_AT));
+        String eTag = productController.getAllProducts(getRequest()).getHeaders().getETag();
+        clearInvocations(productService);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        // Act
+        ResponseEntity<List<ProductDto>> response = productController.getAllProducts(new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    void getAllProducts_ShouldChangeETag_WhenCatalogChanges() {
+        // Arrange
+        when(productService.getCatalogVersion())
+                .thenReturn(new ProductCatalogVersion(2, UPDATED_AT))
+                .thenReturn(new ProductCatalogVersion(3, UPDATED_AT.plusNanos(1000)));
+
+        // Act
+        String before = productController.getAllProducts(getRequest()).getHeaders().getETag();
+        String after = productController.getAllProducts(getRequest()).getHeaders().getETag();
+
+        // Assert
+        assertNotEquals(before, after);
+    }
+
+    private static ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/products"), new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,72 @@
+package dev.scastillo.product.unit.adapter.web.controller;
+
+import dev.scastillo.product.adapter.web.controller.ProductImportController;
+import dev.scastillo.product.adapter.web.dto.ProductImportResultDto;
+import dev.scastillo.product.adapter.web.mapper.ProductImportMapper;
+import dev.scastillo.product.adapter.web.parser.ProductImportParser;
+import dev.scastillo.product.domain.service.ProductImportService;
+import dev.scastillo.product.domain.service.dto.ProductImportResult;
+import dev.scastillo.product.domain.service.dto.ProductImportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ProductImportControllerTest {
+    private ProductImportService productImportService;
+    private ProductImportParser productImportParser;
+    private ProductImportMapper productImportMapper;
+    private ProductImportController productImportController;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = mock(ProductImportService.class);
+        productImportParser = mock(ProductImportParser.class);
+        productImportMapper = mock(ProductImportMapper.class);
+        productImportController = new ProductImportController(productImportService, productImportParser, productImportMapper);
+    }
+
+    @Test
+    void importProductsCsv_ShouldReturnResultDto_WhenImportFinishes() {
+        // Arrange
+        Iterator<ProductImportRow> rows = Collections.emptyIterator();
+        ProductImportResult result = ProductImportResult.builder().imported(3).build();
+        ProductImportResultDto resultDto = ProductImportResultDto.builder().imported(3).build();
+        when(productImportParser.parseCsv(any(Reader.class))).thenReturn(rows);
+        when(productImportService.importProducts(rows)).thenReturn(result);
+        when(productImportMapper.toDto(result)).thenReturn(resultDto);
+
+        // Act
+        ProductImportResultDto response = productImportController.importProductsCsv(
+                new ByteArrayInputStream("name,price,description\n".getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(3, response.getImported());
+        verify(productImportService).importProducts(rows);
+    }
+
+    @Test
+    void importProductsNdjson_ShouldUseNdjsonParser() {
+        // Arrange
+        Iterator<ProductImportRow> rows = Collections.emptyIterator();
+        ProductImportResult result = ProductImportResult.builder().build();
+        when(productImportParser.parseNdjson(any(Reader.class))).thenReturn(rows);
+        when(productImportService.importProducts(rows)).thenReturn(result);
+        when(productImportMapper.toDto(result)).thenReturn(new ProductImportResultDto());
+
+        // Act
+        productImportController.importProductsNdjson(new ByteArrayInputStream(new byte[0]));
+
+        // Assert
+        verify(productImportParser).parseNdjson(any(Reader.class));
+        verify(productImportParser, never()).parseCsv(any(Reader.class));
+    }
+}
@@ -0,0 +1,93 @@
+package dev.scastillo.product.unit.adapter.web.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.scastillo.product.adapter.web.mapper.ProductMapperImpl;
+import dev.scastillo.product.adapter.web.parser.ProductImportParser;
+import dev.scastillo.product.domain.service.dto.ProductImportRow;
+import dev.scastillo.product.shared.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductImportParserTest {
+    private ProductImportParser productImportParser;
+
+    @BeforeEach
+    void setUp() {
+        this.productImportParser = new ProductImportParser(new ObjectMapper(), new ProductMapperImpl());
+    }
+
+    @Test
+    void parseCsv_ShouldReadRows_WhenHeaderAndQuotesAreValid() {
+        // Arrange
+        String csv = "description,name,price\n"
+                + "\"Con coma, y \"\"comillas\"\"\",Producto A,10.50\n"
+                + "\n"
+                + "Simple,Producto B,3\n";
+
+        // Act
+        List<ProductImportRow> rows = toList(productImportParser.parseCsv(new StringReader(csv)));
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).getLine());
+        assertEquals("Producto A", rows.get(0).getProduct().getName());
+        assertEquals("Con coma, y \"comillas\"", rows.get(0).getProduct().getDescription());
+        assertEquals(new BigDecimal("10.50"), rows.get(0).getProduct().getPrice());
+        assertEquals(4, rows.get(1).getLine());
+    }
+
+    @Test
+    void parseCsv_ShouldReturnRowError_WhenPriceOrColumnsAreInvalid() {
+        // Arrange
+        String csv = "name,price,description\nProducto A,abc,Desc\nProducto B\n\"sin cerrar,1,Desc\n";
+
+        // Act
+        List<ProductImportRow> rows = toList(productImportParser.parseCsv(new StringReader(csv)));
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(0).getError().contains("El precio no es un número válido"));
+        assertTrue(rows.get(1).getError().contains("Se esperaban al menos 3 columnas"));
+        assertEquals("Comillas sin cerrar en la línea", rows.get(2).getError());
+    }
+
+    @Test
+    void parseCsv_ShouldThrowBadRequest_WhenHeaderIsMissingColumns() {
+        assertThrows(BadRequestException.class,
+                () -> productImportParser.parseCsv(new StringReader("name,price\nProducto,1\n")));
+        assertThrows(BadRequestException.class,
+                () -> productImportParser.parseCsv(new StringReader("")));
+    }
+
+    @Test
+    void parseNdjson_ShouldReadRowsAndReportInvalidLines() {
+        // Arrange
+        String ndjson = "{\"name\":\"Producto A\",\"price\":1.25,\"description\":\"Desc\"}\n"
+                + "{\"name\": \n"
+                + "null\n";
+
+        // Act
+        List<ProductImportRow> rows = toList(productImportParser.parseNdjson(new StringReader(ndjson)));
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals("Producto A", rows.get(0).getProduct().getName());
+        assertNull(rows.get(0).getError());
+        assertTrue(rows.get(1).getError().startsWith("JSON inválido"));
+        assertEquals("Se esperaba un objeto JSON", rows.get(2).getError());
+    }
+
+    private List<ProductImportRow> toList(Iterator<ProductImportRow> iterator) {
+        List<ProductImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,118 @@
+package dev.scastillo.product.unit.application.service;
+
+import dev.scastillo.product.application.service.ProductImportServiceImpl;
+import dev.scastillo.product.application.service.ProductOutboxWriter;
+import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.repository.ProductRepository;
+import dev.scastillo.product.domain.service.dto.ProductImportResult;
+import dev.scastillo.product.domain.service.dto.ProductImportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ProductImportServiceImplTest {
+    private ProductRepository productRepository;
+    private ProductImportServiceImpl productImportService;
+
+    @BeforeEach
+    void setUp() {
+        this.productRepository = mock(ProductRepository.class);
+        this.productImportService = new ProductImportServiceImpl(productRepository, mock(ProductOutboxWriter.class),
+                TransactionOperations.withoutTransaction(), 2, 2);
+        when(productRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    void importProducts_ShouldSaveInBatches_WhenAllRowsAreValid() {
+        // Arrange
+        List<ProductImportRow> rows = List.of(row(1, "A"), row(2, "B"), row(3, "C"), row(4, "D"), row(5, "E"));
+
+        // Act
+        ProductImportResult result = productImportService.importProducts(rows.iterator());
+
+        // Assert
+        assertEquals(5, result.getImported());
+        assertEquals(0, result.getRejected());
+        assertTrue(result.getErrors().isEmpty());
+        verify(productRepository, times(3)).saveAll(anyList());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void importProducts_ShouldReportRowErrors_WithoutAbortingTheLoad() {
+        // Arrange
+        Product negativePrice = product("Negativo");
+        negativePrice.setPrice(new BigDecimal("-1"));
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.builder().line(1).error("JSON inválido").build(),
+                row(2, "Existente"),
+                row(3, "Nuevo"),
+                row(4, "Nuevo"),
+                ProductImportRow.builder().line(5).product(negativePrice).build());
+        when(productRepository.findExistingNames(anyCollection())).thenReturn(List.of("Existente"));
+
+        // Act
+        ProductImportResult result = productImportService.importProducts(rows.iterator());
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(4, result.getRejected());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+        assertEquals(1, result.getErrors().get(0).getLine());
+        assertEquals("Ya existe un producto con el nombre: Existente", result.getErrors().get(1).getMessage());
+        verify(productRepository, times(1)).saveAll(List.of(rows.get(2).getProduct()));
+    }
+
+    @Test
+    void importProducts_ShouldRetryRowByRow_WhenBatchViolatesUniqueName() {
+        // Arrange
+        List<ProductImportRow> rows = List.of(row(1, "A"), row(2, "B"));
+        when(productRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicado"));
+        when(productRepository.save(argThat(product -> product != null && "A".equals(product.getName()))))
+                .thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        // Act
+        ProductImportResult result = productImportService.importProducts(rows.iterator());
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals("Ya existe un producto con el nombre: A", result.getErrors().get(0).getMessage());
+        verify(productRepository, times(2)).save(any(Product.class));
+    }
+
+    @Test
+    void importProducts_ShouldReturnEmptyResult_WhenThereAreNoRows() {
+        // Act
+        ProductImportResult result = productImportService.importProducts(new ArrayList<ProductImportRow>().iterator());
+
+        // Assert
+        assertEquals(0, result.getImported());
+        assertEquals(0, result.getRejected());
+        verifyNoInteractions(productRepository);
+    }
+
+    private ProductImportRow row(long line, String name) {
+        return ProductImportRow.builder().line(line).product(product(name)).build();
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .price(new BigDecimal("10.00"))
+                .description("Descripción " + name)
+                .build();
+    }
+}
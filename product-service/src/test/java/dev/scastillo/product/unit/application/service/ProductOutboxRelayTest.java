@@ -0,0 +1,134 @@
+package dev.scastillo.product.unit.application.service;
+
+import dev.scastillo.product.application.service.ProductOutboxRelay;
+import dev.scastillo.product.domain.model.ProductEventType;
+import dev.scastillo.product.domain.model.ProductOutboxEvent;
+import dev.scastillo.product.domain.repository.ProductOutboxRepository;
+import dev.scastillo.product.domain.service.ProductEventPublisher;
+import dev.scastillo.product.domain.service.dto.ProductEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ProductOutboxRelayTest {
+    private ProductOutboxRepository productOutboxRepository;
+    private ProductEventPublisher productEventPublisher;
+    private MeterRegistry meterRegistry;
+    private ProductOutboxRelay productOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        this.productOutboxRepository = mock(ProductOutboxRepository.class);
+        this.productEventPublisher = mock(ProductEventPublisher.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.productOutboxRelay = new ProductOutboxRelay(productOutboxRepository, productEventPublisher,
+                TransactionOperations.withoutTransaction(), meterRegistry, 2);
+        when(productOutboxRepository.tryLockRelay()).thenReturn(true);
+    }
+
+    @Test
+    void relay_ShouldPublishAndDeleteEvents_UntilOutboxIsDrained() {
+        // Arrange
+        when(productOutboxRepository.findOldest(2))
+                .thenReturn(List.of(event(1L), event(2L)))
+                .thenReturn(List.of(event(3L)));
+
+        // Act
+        int published = productOutboxRelay.relay();
+
+        // Assert
+        assertEquals(3, published);
+        verify(productEventPublisher, times(2)).publish(anyList());
+        verify(productOutboxRepository).deleteByIds(List.of(1L, 2L));
+        verify(productOutboxRepository).deleteByIds(List.of(3L));
+        assertEquals(3.0, meterRegistry.get("product.outbox.published").counter().count());
+    }
+
+    @Test
+    void relay_ShouldMapOutboxRowToEvent() {
+        // Arrange
+        ProductOutboxEvent outboxEvent = event(7L);
+        when(productOutboxRepository.findOldest(2)).thenReturn(List.of(outboxEvent));
+
+        // Act
+        productOutboxRelay.relay();
+
+        // Assert
+        ArgumentCaptor<List<ProductEvent>> captor = ArgumentCaptor.captor();
+        verify(productEventPublisher).publish(captor.capture());
+        ProductEvent event = captor.getValue().get(0);
+        assertEquals(7L, event.getEventId());
+        assertEquals(ProductEventType.CREATED, event.getType());
+        assertEquals(7, event.getProductId());
+        assertEquals("Producto 7", event.getName());
+        assertEquals(new BigDecimal("10.00"), event.getPrice());
+        assertEquals(outboxEvent.getProductUpdatedAt(), event.getUpdatedAt());
+    }
+
+    @Test
+    void relay_ShouldKeepEvents_WhenPublisherFails() {
+        // Arrange
+        when(productOutboxRepository.findOldest(2)).thenReturn(List.of(event(1L)));
+        doThrow(new IllegalStateException("caido")).when(productEventPublisher).publish(anyList());
+
+        // Act
+        int published = productOutboxRelay.relay();
+
+        // Assert
+        assertEquals(0, published);
+        verify(productOutboxRepository, never()).deleteByIds(anyCollection());
+        assertEquals(1.0, meterRegistry.get("product.outbox.publish.failures").counter().count());
+    }
+
+    @Test
+    void relay_ShouldDoNothing_WhenOutboxIsEmpty() {
+        // Arrange
+        when(productOutboxRepository.findOldest(2)).thenReturn(List.of());
+
+        // Act
+        int published = productOutboxRelay.relay();
+
+        // Assert
+        assertEquals(0, published);
+        verifyNoInteractions(productEventPublisher);
+    }
+
+    @Test
+    void relay_ShouldSkip_WhenAnotherInstanceHoldsTheLock() {
+        // Arrange
+        when(productOutboxRepository.tryLockRelay()).thenReturn(false);
+
+        // Act
+        int published = productOutboxRelay.relay();
+
+        // Assert
+        assertEquals(0, published);
+        verify(productOutboxRepository, never()).findOldest(anyInt());
+        verifyNoInteractions(productEventPublisher);
+    }
+
+    private static ProductOutboxEvent event(Long id) {
+        return ProductOutboxEvent.builder()
+                .id(id)
+                .type(ProductEventType.CREATED)
+                .productId(id.intValue())
+                .name("Producto " + id)
+                .price(new BigDecimal("10.00"))
+                .description("Descripción")
+                .productUpdatedAt(OffsetDateTime.parse("2025-01-01T10:00:00Z"))
+                .build();
+    }
+}
@@ -1,28 +1,37 @@
 package dev.scastillo.product.unit.application.service;
 
+import dev.scastillo.product.application.service.ProductOutboxWriter;
 import dev.scastillo.product.application.service.ProductServiceImpl;
 import dev.scastillo.product.domain.model.Product;
+import dev.scastillo.product.domain.model.ProductEventType;
 import dev.scastillo.product.domain.repository.ProductRepository;
+import dev.scastillo.product.shared.exception.BadRequestException;
 import dev.scastillo.product.shared.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class ProductServiceImplTest {
     private ProductRepository productRepository;
+    private ProductOutboxWriter productOutboxWriter;
     private ProductServiceImpl productService;
 
     @BeforeEach
     void setUp(){
         this.productRepository = mock(ProductRepository.class);
-        this.productService = new ProductServiceImpl(productRepository);
+        this.productOutboxWriter = mock(ProductOutboxWriter.class);
+        this.productService = new ProductServiceImpl(productRepository, productOutboxWriter);
     }
 
     @Test
@@ -115,5 +124,83 @@ public class ProductServiceImplTest {
         // Assert
         assertEquals(product, result);
         verify(productRepository).save(product);
+        verify(productOutboxWriter).record(ProductEventType.CREATED, List.of(product));
+    }
+
+    @Test
+    void getProductsByIds_ShouldReturnProducts_WhenIdsAreProvided() {
+        // Arrange
+        Product product = Product.builder()
+                .id(1)
+                .name("Producto 1")
+                .price(new BigDecimal("10.00"))
+                .description("Descripción del producto 1")
+                .build();
+        Set<Integer> ids = Set.of(1, 2);
+        when(productRepository.findAllById(ids)).thenReturn(List.of(product));
+
+        // Act
+        List<Product> result = productService.getProductsByIds(ids);
+
+        // Assert
+        assertEquals(List.of(product), result);
+        verify(productRepository).findAllById(ids);
+    }
+
+    @Test
+    void getProductsByIds_ShouldNotQueryRepository_WhenIdsAreEmpty() {
+        // Act
+        List<Product> result = productService.getProductsByIds(Set.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getProductsByIds_ShouldThrowBadRequest_WhenTooManyIds() {
+        // Arrange
+        List<Integer> ids = IntStream.rangeClosed(1, 501).boxed().toList();
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> productService.getProductsByIds(ids));
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getProductsPage_ShouldQueryFromFirstId_WhenAfterIsNull() {
+        // Arrange
+        Product product = Product.builder().id(1).name("Producto 1").build();
+        when(productRepository.findPageAfterId(0, 20)).thenReturn(List.of(product));
+
+        // Act
+        List<Product> result = productService.getProductsPage(null, 20);
+
+        // Assert
+        assertEquals(List.of(product), result);
+        verify(productRepository).findPageAfterId(0, 20);
+    }
+
+    @Test
+    void getProductsPage_ShouldThrowBadRequest_WhenLimitIsOutOfRange() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> productService.getProductsPage(0, 0));
+        assertThrows(BadRequestException.class, () -> productService.getProductsPage(0, 501));
+        verify(productRepository, never()).findPageAfterId(anyInt(), anyInt());
+    }
+
+    @Test
+    void streamAllProducts_ShouldPassEveryProductToConsumer() {
+        // Arrange
+        Product product1 = Product.builder().id(1).build();
+        Product product2 = Product.builder().id(2).build();
+        when(productRepository.streamAll()).thenReturn(Stream.of(product1, product2));
+        List<Product> consumed = new ArrayList<>();
+
+        // Act
+        productService.streamAllProducts(consumed::add);
+
+        // Assert
+        assertEquals(List.of(product1, product2), consumed);
     }
 }
@@ -0,0 +1,80 @@
+package dev.scastillo.product.unit.config;
+
+import dev.scastillo.product.config.CompressionThresholdFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionThresholdFilterTest {
+    private CompressionThresholdFilter filter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CompressionThresholdFilter(DataSize.ofBytes(16));
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void doFilter_ShouldSetContentLength_WhenBodyIsBelowThreshold() throws Exception {
+        // Act
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write("{\"id\":1}".getBytes());
+            res.getOutputStream().flush();
+            assertFalse(res.isCommitted());
+        });
+
+        // Assert
+        assertEquals(8, response.getContentLength());
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldWriteWithoutContentLength_WhenBodyExceedsThreshold() throws Exception {
+        // Arrange
+        byte[] body = new byte[40];
+        Arrays.fill(body, (byte) 'a');
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.getOutputStream().write(body, 0, 10);
+            res.getOutputStream().write(body, 10, 30);
+        });
+
+        // Assert
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_ShouldKeepByteOrder_WhenSingleByteWritesCrossThreshold() throws Exception {
+        // Arrange
+        byte[] body = "0123456789abcdefghij".getBytes();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            for (byte b : body) {
+                res.getOutputStream().write(b);
+            }
+        });
+
+        // Assert
+        assertNull(response.getHeader("Content-Length"));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_ShouldNotSetContentLength_WhenThereIsNoBody() throws Exception {
+        // Act
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {});
+
+        // Assert
+        assertNull(response.getHeader("Content-Length"));
+    }
+}
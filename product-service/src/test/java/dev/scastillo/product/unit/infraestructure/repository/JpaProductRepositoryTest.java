@@ -5,10 +5,12 @@ import dev.scastillo.product.infraestructure.repository.JpaProductRepository;
 import dev.scastillo.product.infraestructure.repository.SpringDataProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -113,4 +115,82 @@ public class JpaProductRepositoryTest {
         assertEquals(List.of(), result);
         verify(springDataProductRepository).findAll();
     }
+
+    @Test
+    void findAllById_ShouldReturnProducts_WhenIdsExist() {
+        // Arrange
+        Product product = Product.builder()
+                .id(1)
+                .name("Producto 1")
+                .price(new BigDecimal("10.00"))
+                .description("Desc 1")
+                .build();
+        List<Integer> ids = List.of(1, 2);
+        when(springDataProductRepository.findAllById(ids)).thenReturn(List.of(product));
+
+        // Act
+        List<Product> result = jpaProductRepository.findAllById(ids);
+
+        // Assert
+        assertEquals(List.of(product), result);
+        verify(springDataProductRepository).findAllById(ids);
+    }
+
+    @Test
+    void saveAll_ShouldDelegateToSpringData() {
+        // Arrange
+        List<Product> products = List.of(
+                Product.builder().name("Producto A").price(new BigDecimal("1.00")).description("A").build(),
+                Product.builder().name("Producto B").price(new BigDecimal("2.00")).description("B").build());
+        when(springDataProductRepository.saveAll(products)).thenReturn(products);
+
+        // Act
+        List<Product> result = jpaProductRepository.saveAll(products);
+
+        // Assert
+        assertEquals(products, result);
+        verify(springDataProductRepository).saveAll(products);
+    }
+
+    @Test
+    void findExistingNames_ShouldReturnNamesFromRepository() {
+        // Arrange
+        List<String> names = List.of("Producto A", "Producto B");
+        when(springDataProductRepository.findNamesByNameIn(names)).thenReturn(List.of("Producto B"));
+
+        // Act
+        List<String> result = jpaProductRepository.findExistingNames(names);
+
+        // Assert
+        assertEquals(List.of("Producto B"), result);
+        verify(springDataProductRepository).findNamesByNameIn(names);
+    }
+
+    @Test
+    void findPageAfterId_ShouldDelegateWithLimit() {
+        // Arrange
+        Product product = Product.builder().id(11).name("Producto 11").build();
+        when(springDataProductRepository.findByIdGreaterThanOrderByIdAsc(10, Limit.of(5))).thenReturn(List.of(product));
+
+        // Act
+        List<Product> result = jpaProductRepository.findPageAfterId(10, 5);
+
+        // Assert
+        assertEquals(List.of(product), result);
+        verify(springDataProductRepository).findByIdGreaterThanOrderByIdAsc(10, Limit.of(5));
+    }
+
+    @Test
+    void streamAll_ShouldReturnRepositoryStream() {
+        // Arrange
+        Product product = Product.builder().id(1).name("Producto 1").build();
+        when(springDataProductRepository.streamAllOrderById()).thenReturn(Stream.of(product));
+
+        // Act
+        List<Product> result = jpaProductRepository.streamAll().toList();
+
+        // Assert
+        assertEquals(List.of(product), result);
+        verify(springDataProductRepository).streamAllOrderById();
+    }
 }
@@ -0,0 +1,20 @@
+-- Secuencias con optimizador pooled-lo para products y purchases.
+-- Ejecutar una vez sobre bases existentes, con los servicios detenidos y antes de desplegar la nueva version:
+--   psql -U dev_user -d product_inventory -f 01-pooled-id-sequences.sql
+-- El INCREMENT BY es el tamano de asignacion de ids: Hibernate lo lee de la secuencia al arrancar (por defecto 50).
+
+-- products ya usaba products_seq; se fija el incremento y se avanza por encima del id maximo
+CREATE SEQUENCE IF NOT EXISTS product_schema.products_seq INCREMENT BY 50;
+ALTER SEQUENCE product_schema.products_seq INCREMENT BY 50;
+SELECT setval('product_schema.products_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 0) FROM product_schema.products) + 1,
+                       (SELECT last_value + 1 FROM product_schema.products_seq)),
+              false);
+
+-- purchases pasa de columna identity a secuencia
+CREATE SEQUENCE IF NOT EXISTS inventory_schema.purchases_seq INCREMENT BY 50;
+ALTER SEQUENCE inventory_schema.purchases_seq INCREMENT BY 50;
+SELECT setval('inventory_schema.purchases_seq',
+              (SELECT COALESCE(MAX(id), 0) + 1 FROM inventory_schema.purchases),
+              false);
+ALTER TABLE inventory_schema.purchases ALTER COLUMN id DROP IDENTITY IF EXISTS;